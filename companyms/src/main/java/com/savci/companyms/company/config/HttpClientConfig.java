@@ -0,0 +1,34 @@
+package com.savci.companyms.company.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class HttpClientConfig {
+
+    // Pooled connections are reused for at most the keep-alive the review service announces, capped by our own,
+    // and connections idle for longer than the idle timeout are closed in the background.
+    @Bean
+    public HttpClient5FeignConfiguration.HttpClientBuilderCustomizer keepAliveCustomizer(@Value("${companyms.http-client.keep-alive:30s}") Duration keepAlive,
+                                                                                        @Value("${companyms.http-client.idle-timeout:60s}") Duration idleTimeout) {
+        TimeValue maxKeepAlive = TimeValue.ofMilliseconds(keepAlive.toMillis());
+        return builder -> builder
+                .setKeepAliveStrategy((response, context) -> DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context).min(maxKeepAlive))
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout.toMillis()));
+    }
+
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(HttpClientConnectionManager hc5ConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder((PoolingHttpClientConnectionManager) hc5ConnectionManager, "feign");
+    }
+}
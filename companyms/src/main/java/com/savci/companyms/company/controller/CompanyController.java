@@ -5,9 +5,11 @@ import com.savci.companyms.company.entity.CompanyId;
 import com.savci.companyms.company.service.CompanyService;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -25,11 +27,28 @@ public class CompanyController {
         return ResponseEntity.ok(companyService.getAllCompanies());
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Company>> getCompaniesByIds(@RequestParam List<Long> ids) {
+        log.info("Fetch companies by ids operation is done in the controller layer.");
+        return ResponseEntity.ok(companyService.getCompaniesByIds(ids));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<?> getCompanyById(@PathVariable CompanyId id) {
+    public ResponseEntity<?> getCompanyById(@PathVariable CompanyId id, WebRequest webRequest) {
+        // The conditional request is answered from the version column without loading the company.
+        if(webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Map.Entry<?, HttpStatus> versionEntry = companyService.getCompanyVersionById(id).entrySet().iterator().next();
+            if(versionEntry.getKey() instanceof Long version && webRequest.checkNotModified(eTag(version))) {
+                log.info(String.format("Company with company id %d is not modified in the controller layer.", id.getId()));
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag(version)).build();
+            }
+        }
         Map<?, HttpStatus> responseMap = companyService.getCompanyById(id);
         Map.Entry<?, HttpStatus> responseEntry = responseMap.entrySet().iterator().next();
         log.info(String.format("Fetch company with company id %d operation is done in the controller layer.", id.getId()));
+        if(responseEntry.getKey() instanceof Company company && company.getVersion() != null) {
+            return ResponseEntity.status(responseEntry.getValue()).eTag(eTag(company.getVersion())).body(company);
+        }
         return new ResponseEntity<>(responseEntry.getKey(), responseEntry.getValue());
     }
 
@@ -56,4 +75,8 @@ public class CompanyController {
         log.info(String.format("Delete company with company id %d operation is done in the controller layer.", id.getId()));
         return new ResponseEntity<>(responseEntry.getKey(), responseEntry.getValue());
     }
+
+    private static String eTag(Long version) {
+        return String.format("\"%d\"", version);
+    }
 }
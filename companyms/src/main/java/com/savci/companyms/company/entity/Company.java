@@ -5,9 +5,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @AllArgsConstructor
@@ -23,6 +25,12 @@ public class Company {
     private String name;
     private String description;
     private Double averageRating;
+    // Backs the strong ETag of the company, the default fills the column of the existing rows.
+    @Version
+    @ColumnDefault("0")
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private Long version;
 
     public void copy(Company other) {
         this.name = other.getName();
@@ -1,5 +1,6 @@
 package com.savci.companyms.company.messaging;
 
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -10,6 +11,7 @@ import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class RabbitMQConfig {
+    public static final String COMPANY_CHANGED_EXCHANGE = "companyChangedExchange";
 
     @Bean
     public Queue companyRatingQueue() {
@@ -26,6 +28,11 @@ public class RabbitMQConfig {
         return new Queue("companyJobDeleteQueue");
     }
 
+    @Bean
+    public FanoutExchange companyChangedExchange() {
+        return new FanoutExchange(COMPANY_CHANGED_EXCHANGE);
+    }
+
     @Bean
     public MessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
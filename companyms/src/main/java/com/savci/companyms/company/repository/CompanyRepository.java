@@ -2,6 +2,24 @@ package com.savci.companyms.company.repository;
 
 import com.savci.companyms.company.entity.Company;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 public interface CompanyRepository extends JpaRepository<Company, Long> {
+    @Query("select c.version from Company c where c.id=:id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("update Company c set c.averageRating=:averageRating, c.version=c.version+1 where c.id=:id")
+    int updateAverageRatingById(@Param("id") Long id, @Param("averageRating") Double averageRating);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Company c where c.id=:id")
+    int deleteCompanyById(@Param("id") Long id);
 }
@@ -10,7 +10,9 @@ import java.util.Map;
 
 public interface CompanyService {
     List<Company> getAllCompanies();
+    List<Company> getCompaniesByIds(List<Long> ids);
     Map<Object, HttpStatus> getCompanyById(CompanyId id);
+    Map<Object, HttpStatus> getCompanyVersionById(CompanyId id);
     Map<Object, HttpStatus> createCompany(Company company);
     Map<Object, HttpStatus> updateCompanyById(Company company, CompanyId id);
     Map<Object, HttpStatus> deleteCompanyById(CompanyId id);
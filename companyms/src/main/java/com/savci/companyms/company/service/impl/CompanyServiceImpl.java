@@ -4,6 +4,7 @@ import com.savci.companyms.company.client.ReviewClient;
 import com.savci.companyms.company.dto.ReviewMessage;
 import com.savci.companyms.company.entity.Company;
 import com.savci.companyms.company.entity.CompanyId;
+import com.savci.companyms.company.messaging.CompanyChangedProducer;
 import com.savci.companyms.company.messaging.CompanyJobDeleteProducer;
 import com.savci.companyms.company.messaging.CompanyReviewDeleteProducer;
 import com.savci.companyms.company.repository.CompanyRepository;
@@ -17,10 +18,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 @Service
@@ -34,6 +39,7 @@ public class CompanyServiceImpl implements CompanyService {
     private ReviewClient reviewClient;
     private CompanyReviewDeleteProducer companyReviewDeleteProducer;
     private CompanyJobDeleteProducer companyJobDeleteProducer;
+    private CompanyChangedProducer companyChangedProducer;
 
     @Override
     public List<Company> getAllCompanies() {
@@ -41,6 +47,17 @@ public class CompanyServiceImpl implements CompanyService {
         return companyRepository.findAll();
     }
 
+    @Override
+    public List<Company> getCompaniesByIds(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if(distinctIds.isEmpty()) {
+            log.info("No company ids are given, the batch fetch is skipped in the service layer!");
+            return Collections.emptyList();
+        }
+        log.info(String.format("Fetch %d companies by their ids operation is successfully done in the service layer!", distinctIds.size()));
+        return companyRepository.findAllById(distinctIds);
+    }
+
     @Override
     public Map<Object, HttpStatus> getCompanyById(CompanyId id) {
         Set<ConstraintViolation<CompanyId>> idConstraintViolations = validator.validate(id);
@@ -48,27 +65,46 @@ public class CompanyServiceImpl implements CompanyService {
             log.error("Constraints of the company id is not met when fetching in the service layer!");
             throw new ConstraintViolationException(idConstraintViolations);
         }
-        if(!companyRepository.existsById(id.getId())) {
+        Company company = companyRepository.findById(id.getId()).orElse(null);
+        if(company == null) {
             log.error("The company is not found in the company repository when querying in the service layer!");
             return Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND);
         }
-        Company company = companyRepository.findById(id.getId()).orElse(null);
         log.info(String.format("The company with the id %d is created successfully in the service layer!", id.getId()));
         return Collections.singletonMap(company, HttpStatus.OK);
     }
 
+    @Override
+    public Map<Object, HttpStatus> getCompanyVersionById(CompanyId id) {
+        Set<ConstraintViolation<CompanyId>> idConstraintViolations = validator.validate(id);
+        if(!idConstraintViolations.isEmpty()){
+            log.error("Constraints of the company id is not met when fetching the version in the service layer!");
+            throw new ConstraintViolationException(idConstraintViolations);
+        }
+        Long version = companyRepository.findVersionById(id.getId()).orElse(null);
+        if(version == null) {
+            log.error("The company is not found in the company repository when querying the version in the service layer!");
+            return Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND);
+        }
+        log.info(String.format("The version of the company with the id %d is fetched successfully in the service layer!", id.getId()));
+        return Collections.singletonMap(version, HttpStatus.OK);
+    }
+
     @Override
     public Map<Object, HttpStatus> createCompany(@Valid Company company) {
         if(company == null){
             log.error("The company is not valid upon the creation in the service layer!");
             return Collections.singletonMap("The company is not valid!", HttpStatus.BAD_REQUEST);
         }
+        // A versioned entity with an id would be merged as a detached one, so the id of a new company is always generated.
+        company.setId(null);
         companyRepository.save(company);
         log.info("The company is created successfully in the service layer!");
         return Collections.singletonMap("The company is created successfully!", HttpStatus.CREATED);
     }
 
     @Override
+    @Transactional
     public Map<Object, HttpStatus> updateCompanyById(@Valid Company company, CompanyId id) {
         Set<ConstraintViolation<CompanyId>> idConstraintViolations = validator.validate(id);
         if(!idConstraintViolations.isEmpty()){
@@ -79,14 +115,19 @@ public class CompanyServiceImpl implements CompanyService {
             log.error("The company is not valid upon the creation in the service layer!");
             return Collections.singletonMap("The company is not valid!", HttpStatus.BAD_REQUEST);
         }
-        if(!companyRepository.existsById(id.getId())) {
+        Set<ConstraintViolation<Company>> companyConstraintViolations = validator.validate(company);
+        if(!companyConstraintViolations.isEmpty()) {
+            log.error("Constraints of the company is not met when updating in the service layer!");
+            throw new ConstraintViolationException(companyConstraintViolations);
+        }
+        Company updatedCompany = companyRepository.findById(id.getId()).orElse(null);
+        if(updatedCompany == null) {
             log.error("The company is not found in the company repository when querying in the service layer!");
             return Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND);
         }
-        Company updatedCompany = companyRepository.findById(id.getId()).orElse(null);
-        assert updatedCompany != null;
         updatedCompany.copy(company);
         companyRepository.save(updatedCompany);
+        afterCommit(() -> companyChangedProducer.sendMessage(id.getId()));
         log.info("The company is updated successfully in the service layer!");
         return Collections.singletonMap(updatedCompany, HttpStatus.OK);
     }
@@ -98,24 +139,39 @@ public class CompanyServiceImpl implements CompanyService {
             log.error("Constraints of the company id is not met when deleting in the service layer!");
             throw new ConstraintViolationException(idConstraintViolations);
         }
-        if(!companyRepository.existsById(id.getId())) {
-            log.error("The company is not found in the company repository when querying in the service layer!");
+        if(companyRepository.deleteCompanyById(id.getId()) == 0) {
+            log.error("The company is not found in the company repository when deleting in the service layer!");
             return Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND);
         }
-        companyRepository.deleteById(id.getId());
-        companyReviewDeleteProducer.sendMessage(id.getId());
-        companyJobDeleteProducer.sendMessage(id.getId());
+        afterCommit(() -> {
+            companyReviewDeleteProducer.sendMessage(id.getId());
+            companyJobDeleteProducer.sendMessage(id.getId());
+            companyChangedProducer.sendMessage(id.getId());
+        });
         log.info("The company is deleted successfully in the service layer!");
         return Collections.singletonMap("The company is deleted successfully!", HttpStatus.OK);
     }
 
     @Override
     public void updateCompanyRating(ReviewMessage reviewMessage) {
-        Company company = companyRepository.findById(reviewMessage.getCompanyId()).orElse(null);
-        if(company == null)
-            return;
-        company.setAverageRating(reviewClient.getAverageRatingForCompany(reviewMessage.getCompanyId()));
-        companyRepository.save(company);
+        Double averageRating = reviewClient.getAverageRatingForCompany(reviewMessage.getCompanyId());
+        if(companyRepository.updateAverageRatingById(reviewMessage.getCompanyId(), averageRating) == 0) {
+            log.error("The company whose rating is changed is not found in the company repository in the service layer!");
+        }
     }
 
+    // Messages are published once the surrounding transaction commits, so that their consumers never read the data from
+    // before the change, and a change which is rolled back publishes nothing.
+    private static void afterCommit(Runnable publish) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish.run();
+            }
+        });
+    }
 }
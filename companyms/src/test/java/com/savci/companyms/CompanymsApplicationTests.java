@@ -3,13 +3,20 @@ package com.savci.companyms;
 import com.savci.companyms.company.entity.Company;
 import com.savci.companyms.company.entity.CompanyId;
 import com.savci.companyms.company.repository.CompanyRepository;
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.openfeign.loadbalancer.RetryableFeignBlockingLoadBalancerClient;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
@@ -28,6 +35,10 @@ class CompanymsApplicationTests {
 
 	@Autowired
 	private CompanyRepository companyRepository;
+	@Autowired
+	private Client feignClient;
+	@Autowired
+	private MeterRegistry meterRegistry;
 
 	private Company firstCompany;
 	private Company secondCompany;
@@ -160,6 +171,38 @@ class CompanymsApplicationTests {
 				() -> Assertions.assertEquals(company, firstCompany));
 	}
 
+	@Test
+	@DisplayName("It should answer the conditional fetch of the unchanged company with 304 status code and the changed company with its new entity tag.")
+	void getCompanyByIdConditional() {
+		REST_TEMPLATE.postForObject(base_url, firstCompany, String.class);
+		Company company = companyRepository.findAll().get(0);
+		ResponseEntity<Company> response = REST_TEMPLATE.getForEntity(base_url + "/" + company.getId(), Company.class);
+		String eTag = response.getHeaders().getETag();
+		RequestEntity<Void> conditionalRequest = RequestEntity.get(base_url + "/" + company.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag).build();
+		ResponseEntity<Company> notModifiedResponse = REST_TEMPLATE.exchange(conditionalRequest, Company.class);
+		companyRepository.updateAverageRatingById(company.getId(), 4.5D);
+		ResponseEntity<Company> modifiedResponse = REST_TEMPLATE.exchange(conditionalRequest, Company.class);
+		Assertions.assertAll("Conditional Company Retrieval",
+				() -> Assertions.assertEquals(eTag, "\"0\""),
+				() -> Assertions.assertEquals(notModifiedResponse.getStatusCode(), HttpStatus.NOT_MODIFIED),
+				() -> Assertions.assertNull(notModifiedResponse.getBody()),
+				() -> Assertions.assertEquals(modifiedResponse.getStatusCode(), HttpStatus.OK),
+				() -> Assertions.assertEquals(modifiedResponse.getHeaders().getETag(), "\"1\""),
+				() -> Assertions.assertEquals(modifiedResponse.getBody().getAverageRating(), 4.5D));
+	}
+
+	@Test
+	@DisplayName("It should send the Feign requests over the pooled Apache HttpClient 5 transport and publish its pool metrics.")
+	void pooledFeignClient() {
+		Assertions.assertAll("Pooled Feign Client",
+				() -> Assertions.assertInstanceOf(ApacheHttp5Client.class, ((RetryableFeignBlockingLoadBalancerClient) feignClient).getDelegate()),
+				() -> Assertions.assertEquals(meterRegistry.get("httpcomponents.httpclient.pool.total.max").tag("httpclient", "feign").gauge().value(), 200D),
+				() -> Assertions.assertEquals(meterRegistry.get("httpcomponents.httpclient.pool.route.max.default").tag("httpclient", "feign").gauge().value(), 50D),
+				() -> Assertions.assertNotNull(meterRegistry.get("httpcomponents.httpclient.pool.total.pending").tag("httpclient", "feign").gauge()),
+				() -> Assertions.assertNotNull(meterRegistry.get("httpcomponents.httpclient.pool.total.connections").tags("httpclient", "feign", "state", "leased").gauge()),
+				() -> Assertions.assertNotNull(meterRegistry.get("httpcomponents.httpclient.pool.total.connections").tags("httpclient", "feign", "state", "available").gauge()));
+	}
+
 	@Test
 	@DisplayName("It should not fetch the specific company given its id in the database because of the null id constraint violation.")
 	void getCompanyByIdNullCompanyId() {
@@ -16,6 +16,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -24,6 +25,8 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -152,6 +155,18 @@ public class CompanyControllerTest {
                 .andExpect(jsonPath("$.size()").value(companyList.size()));
     }
 
+    @Test
+    @DisplayName("It should use the controller to fetch the companies by their ids in the database.")
+    void getCompaniesByIds() throws Exception {
+        List<Company> companyList = new ArrayList<>();
+        companyList.add(firstCompany);
+        companyList.add(secondCompany);
+        Mockito.when(companyService.getCompaniesByIds(List.of(1L, 2L))).thenReturn(companyList);
+        mockMvc.perform(get("/companies?ids={ids}", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(companyList.size()));
+    }
+
     @Test
     @DisplayName("It should use the controller to fail to fetch the specific company by id in the database and throw the ConstraintViolationException.")
     void getCompanyByIdConstraintViolationException() throws Exception {
@@ -186,14 +201,40 @@ public class CompanyControllerTest {
     @Test
     @DisplayName("It should use the controller to succeed to fetch the specific company by id in the database.")
     void getCompanyById() throws Exception {
+        firstCompany.setVersion(3L);
         Mockito.when(companyService.getCompanyById(Mockito.any(CompanyId.class))).thenReturn(Collections.singletonMap(firstCompany, HttpStatus.OK));
         mockMvc.perform(get("/companies/{id}", companyId))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(jsonPath("$.version").doesNotExist())
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.name").value( "Company 1"))
                 .andExpect(jsonPath("$.description").value( "Description 1"));
     }
 
+    @Test
+    @DisplayName("It should use the controller to answer the conditional fetch of an unchanged company with 304 status code from its version.")
+    void getCompanyByIdNotModified() throws Exception {
+        Mockito.when(companyService.getCompanyVersionById(Mockito.any(CompanyId.class))).thenReturn(Collections.singletonMap(3L, HttpStatus.OK));
+        mockMvc.perform(get("/companies/{id}", companyId).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().string(""));
+        Mockito.verify(companyService, Mockito.never()).getCompanyById(Mockito.any(CompanyId.class));
+    }
+
+    @Test
+    @DisplayName("It should use the controller to fetch the changed company when the conditional fetch carries a stale entity tag.")
+    void getCompanyByIdModified() throws Exception {
+        firstCompany.setVersion(4L);
+        Mockito.when(companyService.getCompanyVersionById(Mockito.any(CompanyId.class))).thenReturn(Collections.singletonMap(4L, HttpStatus.OK));
+        Mockito.when(companyService.getCompanyById(Mockito.any(CompanyId.class))).thenReturn(Collections.singletonMap(firstCompany, HttpStatus.OK));
+        mockMvc.perform(get("/companies/{id}", companyId).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.name").value("Company 1"));
+    }
+
     @Test
     @DisplayName("It should use the controller to fail to delete the specific company by id in the database and throw the ConstraintViolationException.")
     void deleteCompanyByIdConstraintViolationException() throws Exception {
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import java.util.List;
 
@@ -15,6 +16,8 @@ import java.util.List;
 public class CompanyRepositoryTest {
     @Autowired
     private CompanyRepository companyRepositoryTest;
+    @Autowired
+    private TestEntityManager testEntityManager;
     private Company firstCompany;
     private Company secondCompany;
 
@@ -113,6 +116,53 @@ public class CompanyRepositoryTest {
                 () -> Assertions.assertNotSame(company, firstCompany));
     }
 
+    @Test
+    @DisplayName("It should delete the specific company with a single conditional statement and report the affected rows.")
+    void deleteCompanyByIdStatement() {
+        companyRepositoryTest.save(firstCompany);
+        companyRepositoryTest.save(secondCompany);
+        int deletedRows = companyRepositoryTest.deleteCompanyById(firstCompany.getId());
+        int missingRows = companyRepositoryTest.deleteCompanyById(firstCompany.getId());
+        testEntityManager.clear();
+
+        Assertions.assertAll("Conditionally Deleted Company in the Database",
+                () -> Assertions.assertEquals(deletedRows, 1),
+                () -> Assertions.assertEquals(missingRows, 0),
+                () -> Assertions.assertEquals(companyRepositoryTest.findAll(), List.of(secondCompany)));
+    }
+
+    @Test
+    @DisplayName("It should update the average rating of the specific company with a single conditional statement.")
+    void updateAverageRatingById() {
+        companyRepositoryTest.save(firstCompany);
+        int updatedRows = companyRepositoryTest.updateAverageRatingById(firstCompany.getId(), 4.5D);
+        int missingRows = companyRepositoryTest.updateAverageRatingById(firstCompany.getId() + 1, 4.5D);
+        testEntityManager.clear();
+        Company company = companyRepositoryTest.findById(firstCompany.getId()).orElse(null);
+
+        Assertions.assertAll("Conditionally Updated Company Rating in the Database",
+                () -> Assertions.assertEquals(updatedRows, 1),
+                () -> Assertions.assertEquals(missingRows, 0),
+                () -> Assertions.assertNotNull(company),
+                () -> Assertions.assertEquals(company.getAverageRating(), 4.5D),
+                () -> Assertions.assertEquals(company.getVersion(), 1L));
+    }
+
+    @Test
+    @DisplayName("It should obtain only the version of the specific company and increment it on every update.")
+    void findVersionById() {
+        companyRepositoryTest.saveAndFlush(firstCompany);
+        Long createdVersion = companyRepositoryTest.findVersionById(firstCompany.getId()).orElse(null);
+        firstCompany.copy(secondCompany);
+        companyRepositoryTest.saveAndFlush(firstCompany);
+        Long updatedVersion = companyRepositoryTest.findVersionById(firstCompany.getId()).orElse(null);
+
+        Assertions.assertAll("Company Version in the Database",
+                () -> Assertions.assertEquals(createdVersion, 0L),
+                () -> Assertions.assertEquals(updatedVersion, 1L),
+                () -> Assertions.assertTrue(companyRepositoryTest.findVersionById(firstCompany.getId() + 1).isEmpty()));
+    }
+
     @Test
     @DisplayName("It should delete the existing company object from the database.")
     void deleteCompany() {
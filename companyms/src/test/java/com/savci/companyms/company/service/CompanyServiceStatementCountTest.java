@@ -0,0 +1,148 @@
+package com.savci.companyms.company.service;
+
+import com.savci.companyms.company.client.ReviewClient;
+import com.savci.companyms.company.dto.ReviewMessage;
+import com.savci.companyms.company.entity.Company;
+import com.savci.companyms.company.entity.CompanyId;
+import com.savci.companyms.company.messaging.CompanyChangedProducer;
+import com.savci.companyms.company.messaging.CompanyJobDeleteProducer;
+import com.savci.companyms.company.messaging.CompanyReviewDeleteProducer;
+import com.savci.companyms.company.repository.CompanyRepository;
+import com.savci.companyms.company.service.impl.CompanyServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.Map;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import(CompanyServiceImpl.class)
+@DisplayName("It should reach the database with the minimum number of statements per service operation.")
+public class CompanyServiceStatementCountTest {
+    @Autowired
+    private CompanyService companyService;
+    @Autowired
+    private CompanyRepository companyRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @MockBean
+    private ReviewClient reviewClient;
+    @MockBean
+    private CompanyReviewDeleteProducer companyReviewDeleteProducer;
+    @MockBean
+    private CompanyJobDeleteProducer companyJobDeleteProducer;
+    @MockBean
+    private CompanyChangedProducer companyChangedProducer;
+
+    private Statistics statistics;
+    private Company company;
+
+    @BeforeEach
+    @DisplayName("Setting up the data for test cases.")
+    void init() {
+        company = new Company();
+        company.setName("Company 1");
+        company.setDescription("Description 1");
+        companyRepository.save(company);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        companyRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Fetching a company should issue a single select.")
+    void getCompanyById() {
+        Map<Object, HttpStatus> statusMap = companyService.getCompanyById(new CompanyId(company.getId()));
+        Assertions.assertAll("Get Company Statements",
+                () -> Assertions.assertEquals(statusMap, Collections.singletonMap(company, HttpStatus.OK)),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+
+    @Test
+    @DisplayName("Fetching a missing company should issue a single select.")
+    void getMissingCompanyById() {
+        Map<Object, HttpStatus> statusMap = companyService.getCompanyById(new CompanyId(company.getId() + 1));
+        Assertions.assertAll("Get Missing Company Statements",
+                () -> Assertions.assertEquals(statusMap, Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND)),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+
+    @Test
+    @DisplayName("Creating a company should issue a single insert.")
+    void createCompany() {
+        Company newCompany = new Company();
+        newCompany.copy(company);
+        companyService.createCompany(newCompany);
+        Assertions.assertEquals(statistics.getPrepareStatementCount(), 1);
+    }
+
+    @Test
+    @DisplayName("Updating a company should issue a single select and a single update.")
+    void updateCompanyById() {
+        Company updatedCompany = new Company();
+        updatedCompany.setName("Company 2");
+        updatedCompany.setDescription("Description 2");
+        Map<Object, HttpStatus> statusMap = companyService.updateCompanyById(updatedCompany, new CompanyId(company.getId()));
+        Assertions.assertAll("Update Company Statements",
+                () -> Assertions.assertEquals(statusMap, Collections.singletonMap(updatedCompany, HttpStatus.OK)),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 2));
+    }
+
+    @Test
+    @DisplayName("Updating a missing company should issue a single select.")
+    void updateMissingCompanyById() {
+        Map<Object, HttpStatus> statusMap = companyService.updateCompanyById(company, new CompanyId(company.getId() + 1));
+        Assertions.assertAll("Update Missing Company Statements",
+                () -> Assertions.assertEquals(statusMap, Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND)),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+
+    @Test
+    @DisplayName("Updating the rating of a company should issue a single conditional update.")
+    void updateCompanyRating() {
+        Mockito.when(reviewClient.getAverageRatingForCompany(company.getId())).thenReturn(4.5D);
+        companyService.updateCompanyRating(new ReviewMessage(1L, "Title 1", "Description 1", 4.5D, company.getId()));
+        Assertions.assertEquals(statistics.getPrepareStatementCount(), 1);
+    }
+
+    @Test
+    @DisplayName("Deleting a company should issue a single conditional delete.")
+    void deleteCompanyById() {
+        Map<Object, HttpStatus> statusMap = companyService.deleteCompanyById(new CompanyId(company.getId()));
+        Assertions.assertAll("Delete Company Statements",
+                () -> Assertions.assertEquals(statusMap, Collections.singletonMap("The company is deleted successfully!", HttpStatus.OK)),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+
+    @Test
+    @DisplayName("Deleting a missing company should issue a single conditional delete.")
+    void deleteMissingCompanyById() {
+        Map<Object, HttpStatus> statusMap = companyService.deleteCompanyById(new CompanyId(company.getId() + 1));
+        Assertions.assertAll("Delete Missing Company Statements",
+                () -> Assertions.assertEquals(statusMap, Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND)),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+}
@@ -1,7 +1,10 @@
 package com.savci.companyms.company.service;
 
+import com.savci.companyms.company.client.ReviewClient;
+import com.savci.companyms.company.dto.ReviewMessage;
 import com.savci.companyms.company.entity.Company;
 import com.savci.companyms.company.entity.CompanyId;
+import com.savci.companyms.company.messaging.CompanyChangedProducer;
 import com.savci.companyms.company.messaging.CompanyJobDeleteProducer;
 import com.savci.companyms.company.messaging.CompanyReviewDeleteProducer;
 import com.savci.companyms.company.repository.CompanyRepository;
@@ -38,6 +41,10 @@ public class CompanyServiceTest {
     private CompanyReviewDeleteProducer companyReviewDeleteProducer;
     @Mock
     private CompanyJobDeleteProducer companyJobDeleteProducer;
+    @Mock
+    private CompanyChangedProducer companyChangedProducer;
+    @Mock
+    private ReviewClient reviewClient;
 
     private Company firstCompany;
     private Company secondCompany;
@@ -151,6 +158,23 @@ public class CompanyServiceTest {
                 () -> Assertions.assertEquals(companyList.get(1), secondCompany));
     }
 
+    @Test
+    @DisplayName("The company service should fetch the companies of the distinct ids with a single query.")
+    void getCompaniesByIds() {
+        Mockito.when(companyRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(firstCompany, secondCompany));
+        List<Company> companyList = companyService.getCompaniesByIds(Arrays.asList(1L, 2L, 2L, null));
+        Mockito.verify(companyRepository, Mockito.times(1)).findAllById(List.of(1L, 2L));
+        Assertions.assertEquals(companyList, List.of(firstCompany, secondCompany));
+    }
+
+    @Test
+    @DisplayName("The company service should not query the database when no company ids are given.")
+    void getCompaniesByEmptyIds() {
+        List<Company> companyList = companyService.getCompaniesByIds(Collections.emptyList());
+        Mockito.verifyNoInteractions(companyRepository);
+        Assertions.assertTrue(companyList.isEmpty());
+    }
+
     @Test
     @DisplayName("The company service should not get the specific company by id in the database and it should throw ConstraintViolationException.")
     void getCompanyByIdConstraintViolation() {
@@ -163,7 +187,7 @@ public class CompanyServiceTest {
     @DisplayName("The company service should not get the specific company by id in the database because of the invalid id and it should return failed message with 400 status code.")
     void getCompanyByIdIdDoesntExist() {
         Mockito.when(validator.validate(Mockito.any(CompanyId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(companyRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.FALSE);
+        Mockito.when(companyRepository.findById(Mockito.anyLong())).thenReturn(Optional.empty());
         companyId.setId(3L);
         Map<?, HttpStatus> statusMap = companyService.getCompanyById(companyId);
         Assertions.assertEquals(statusMap, Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND));
@@ -173,12 +197,30 @@ public class CompanyServiceTest {
     @DisplayName("The company service should get the specific company by id in the database and it should return success message with 200 status code.")
     void getCompanyById() {
         Mockito.when(validator.validate(Mockito.any(CompanyId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(companyRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.TRUE);
         Mockito.when(companyRepository.findById(Mockito.anyLong())).thenAnswer(invocationOnMock -> (Long) invocationOnMock.getArgument(0) == 1L ? Optional.of(firstCompany) : Optional.empty());
         Map<?, HttpStatus> statusMap = companyService.getCompanyById(companyId);
         Assertions.assertEquals(statusMap, Collections.singletonMap(firstCompany, HttpStatus.OK));
     }
 
+    @Test
+    @DisplayName("The company service should get the version of the specific company by id without loading the company.")
+    void getCompanyVersionById() {
+        Mockito.when(validator.validate(Mockito.any(CompanyId.class))).thenReturn(Collections.emptySet());
+        Mockito.when(companyRepository.findVersionById(companyId.getId())).thenReturn(Optional.of(3L));
+        Map<?, HttpStatus> statusMap = companyService.getCompanyVersionById(companyId);
+        Mockito.verify(companyRepository, Mockito.never()).findById(Mockito.anyLong());
+        Assertions.assertEquals(statusMap, Collections.singletonMap(3L, HttpStatus.OK));
+    }
+
+    @Test
+    @DisplayName("The company service should not get the version of the specific company by id because of the invalid id and it should return failed message with 404 status code.")
+    void getCompanyVersionByIdIdDoesntExist() {
+        Mockito.when(validator.validate(Mockito.any(CompanyId.class))).thenReturn(Collections.emptySet());
+        Mockito.when(companyRepository.findVersionById(Mockito.anyLong())).thenReturn(Optional.empty());
+        Map<?, HttpStatus> statusMap = companyService.getCompanyVersionById(companyId);
+        Assertions.assertEquals(statusMap, Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND));
+    }
+
     @Test
     @DisplayName("The company service should not update the specific company by id in the database and it should throw ConstraintViolationException.")
     void updateCompanyByIdConstraintViolation() {
@@ -191,19 +233,32 @@ public class CompanyServiceTest {
     @DisplayName("The company service should not update the specific company by id in the database because of the invalid id and it should return failed message with 400 status code.")
     void updateCompanyByIdIdDoesntExist() {
         Mockito.when(validator.validate(Mockito.any(CompanyId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(companyRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.FALSE);
+        Mockito.when(companyRepository.findById(Mockito.anyLong())).thenReturn(Optional.empty());
         companyId.setId(3L);
         Map<?, HttpStatus> statusMap = companyService.updateCompanyById(firstCompany, companyId);
+        Mockito.verifyNoInteractions(companyChangedProducer);
         Assertions.assertEquals(statusMap, Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND));
     }
 
+    @Test
+    @DisplayName("The company service should not update the specific company with an invalid company and it should throw ConstraintViolationException.")
+    void updateCompanyByIdCompanyConstraintViolation() {
+        Set<ConstraintViolation<Company>> companyConstraintViolations = new HashSet<>();
+        companyConstraintViolations.add(Mockito.mock());
+        Mockito.when(validator.validate(Mockito.any(CompanyId.class))).thenReturn(Collections.emptySet());
+        Mockito.when(validator.validate(Mockito.any(Company.class))).thenReturn(companyConstraintViolations);
+        Assertions.assertThrows(ConstraintViolationException.class,
+                () -> companyService.updateCompanyById(firstCompany, companyId));
+        Mockito.verifyNoInteractions(companyRepository);
+    }
+
     @Test
     @DisplayName("The company service should update the specific company by id in the database and it should return success message with 200 status code.")
     void updateCompanyById() {
         Mockito.when(validator.validate(Mockito.any(CompanyId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(companyRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.TRUE);
         Mockito.when(companyRepository.findById(Mockito.anyLong())).thenAnswer(invocationOnMock -> (Long) invocationOnMock.getArgument(0) == 1L ? Optional.of(firstCompany) : Optional.empty());
         Map<?, HttpStatus> statusMap = companyService.updateCompanyById(secondCompany, companyId);
+        Mockito.verify(companyChangedProducer, Mockito.times(1)).sendMessage(companyId.getId());
         secondCompany.setId(1L);
         Assertions.assertEquals(statusMap, Collections.singletonMap(secondCompany, HttpStatus.OK));
     }
@@ -220,9 +275,10 @@ public class CompanyServiceTest {
     @DisplayName("The company service should not delete the specific company by id in the database because of the invalid id and it should return failed message with 400 status code.")
     void deleteCompanyByIdIdDoesntExist() {
         Mockito.when(validator.validate(Mockito.any(CompanyId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(companyRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.FALSE);
+        Mockito.when(companyRepository.deleteCompanyById(Mockito.anyLong())).thenReturn(0);
         companyId.setId(3L);
         Map<?, HttpStatus> statusMap = companyService.deleteCompanyById(companyId);
+        Mockito.verifyNoInteractions(companyReviewDeleteProducer, companyJobDeleteProducer, companyChangedProducer);
         Assertions.assertEquals(statusMap, Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND));
     }
 
@@ -230,12 +286,23 @@ public class CompanyServiceTest {
     @DisplayName("The company service should delete the specific company by id in the database and it should return success message with 200 status code.")
     void deleteJobById() {
         Mockito.when(validator.validate(Mockito.any(CompanyId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(companyRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.TRUE);
-        Mockito.doNothing().when(companyRepository).deleteById(companyId.getId());
+        Mockito.when(companyRepository.deleteCompanyById(companyId.getId())).thenReturn(1);
         Mockito.doNothing().when(companyReviewDeleteProducer).sendMessage(companyId.getId());
         Mockito.doNothing().when(companyJobDeleteProducer).sendMessage(companyId.getId());
         Map<?, HttpStatus> statusMap = companyService.deleteCompanyById(companyId);
-        Mockito.verify(companyRepository, Mockito.times(1)).deleteById(companyId.getId());
+        Mockito.verify(companyRepository, Mockito.times(1)).deleteCompanyById(companyId.getId());
+        Mockito.verify(companyChangedProducer, Mockito.times(1)).sendMessage(companyId.getId());
         Assertions.assertEquals(statusMap, Collections.singletonMap("The company is deleted successfully!", HttpStatus.OK));
     }
+
+    @Test
+    @DisplayName("The company service should update the average rating of the company with a single conditional statement.")
+    void updateCompanyRating() {
+        ReviewMessage reviewMessage = new ReviewMessage(1L, "Title 1", "Description 1", 4D, 1L);
+        Mockito.when(reviewClient.getAverageRatingForCompany(1L)).thenReturn(4.5D);
+        Mockito.when(companyRepository.updateAverageRatingById(1L, 4.5D)).thenReturn(1);
+        companyService.updateCompanyRating(reviewMessage);
+        Mockito.verify(companyRepository, Mockito.times(1)).updateAverageRatingById(1L, 4.5D);
+        Mockito.verify(companyRepository, Mockito.never()).findById(Mockito.anyLong());
+    }
 }
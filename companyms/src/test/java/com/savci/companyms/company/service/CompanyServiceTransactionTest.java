@@ -0,0 +1,99 @@
+package com.savci.companyms.company.service;
+
+import com.savci.companyms.company.client.ReviewClient;
+import com.savci.companyms.company.entity.Company;
+import com.savci.companyms.company.entity.CompanyId;
+import com.savci.companyms.company.messaging.CompanyChangedProducer;
+import com.savci.companyms.company.messaging.CompanyJobDeleteProducer;
+import com.savci.companyms.company.messaging.CompanyReviewDeleteProducer;
+import com.savci.companyms.company.repository.CompanyRepository;
+import com.savci.companyms.company.service.impl.CompanyServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import(CompanyServiceImpl.class)
+@DisplayName("It should publish the company messages only once the transaction commits.")
+public class CompanyServiceTransactionTest {
+    @Autowired
+    private CompanyService companyService;
+    @Autowired
+    private CompanyRepository companyRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @MockBean
+    private ReviewClient reviewClient;
+    @MockBean
+    private CompanyReviewDeleteProducer companyReviewDeleteProducer;
+    @MockBean
+    private CompanyJobDeleteProducer companyJobDeleteProducer;
+    @MockBean
+    private CompanyChangedProducer companyChangedProducer;
+
+    private TransactionTemplate transactionTemplate;
+    private Company company;
+    private Company updatedCompany;
+
+    @BeforeEach
+    @DisplayName("Setting up the data for test cases.")
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        company = new Company();
+        company.setName("Company 1");
+        company.setDescription("Description 1");
+        companyRepository.save(company);
+        updatedCompany = new Company();
+        updatedCompany.setName("Company 2");
+        updatedCompany.setDescription("Description 2");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        companyRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Updating a company should publish the change message after the commit.")
+    void updateCompanyByIdPublishesAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            companyService.updateCompanyById(updatedCompany, new CompanyId(company.getId()));
+            Mockito.verifyNoInteractions(companyChangedProducer);
+        });
+        Mockito.verify(companyChangedProducer, Mockito.times(1)).sendMessage(company.getId());
+    }
+
+    @Test
+    @DisplayName("Updating a company in a transaction which is rolled back should not publish any message.")
+    void updateCompanyByIdRolledBack() {
+        transactionTemplate.executeWithoutResult(status -> {
+            companyService.updateCompanyById(updatedCompany, new CompanyId(company.getId()));
+            status.setRollbackOnly();
+        });
+        Mockito.verifyNoInteractions(companyChangedProducer);
+    }
+
+    @Test
+    @DisplayName("Deleting a company in a transaction which is rolled back should not publish any message.")
+    void deleteCompanyByIdRolledBack() {
+        transactionTemplate.executeWithoutResult(status -> {
+            companyService.deleteCompanyById(new CompanyId(company.getId()));
+            status.setRollbackOnly();
+        });
+        Mockito.verifyNoInteractions(companyReviewDeleteProducer, companyJobDeleteProducer, companyChangedProducer);
+    }
+}
@@ -0,0 +1,70 @@
+package com.savci.jobms.job.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Compares a JMH json result with the checked-in baseline and fails when a benchmark allocates more per operation than
+// the tolerance allows. The allocation per operation barely depends on the machine, so it is the only gate by default.
+// The time per operation depends on the machine which ran the baseline, so its regressions are only reported unless
+// the time check is turned on.
+public class BaselineCheck {
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws IOException {
+        if(args.length != 5) {
+            throw new IllegalArgumentException("Usage: BaselineCheck <baseline.json> <result.json> <time tolerance> <allocation tolerance> <check time>");
+        }
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> result = read(new File(args[1]));
+        double timeTolerance = Double.parseDouble(args[2]);
+        double allocationTolerance = Double.parseDouble(args[3]);
+        boolean checkTime = Boolean.parseBoolean(args[4]);
+        List<String> regressions = new ArrayList<>();
+        List<String> timeRegressions = new ArrayList<>();
+        result.forEach((benchmark, run) -> {
+            JsonNode base = baseline.get(benchmark);
+            if(base == null) {
+                System.out.printf("%s has no baseline yet.%n", benchmark);
+                return;
+            }
+            check(checkTime ? regressions : timeRegressions, benchmark, "time", score(base.path("primaryMetric")), score(run.path("primaryMetric")), timeTolerance);
+            check(regressions, benchmark, "allocation", score(base.path("secondaryMetrics").path(ALLOCATION_METRIC)),
+                    score(run.path("secondaryMetrics").path(ALLOCATION_METRIC)), allocationTolerance);
+        });
+        timeRegressions.forEach(regression -> System.out.printf("%s It is only reported.%n", regression));
+        if(!regressions.isEmpty()) {
+            regressions.forEach(System.out::println);
+            System.exit(1);
+        }
+        System.out.printf("%d benchmarks are within the baseline.%n", result.size());
+    }
+
+    private static void check(List<String> regressions, String benchmark, String metric, double base, double run, double tolerance) {
+        if(Double.isNaN(base) || Double.isNaN(run)) {
+            return;
+        }
+        // A few bytes of jitter on an allocation free benchmark is not a regression.
+        if(run > base * (1 + tolerance) && run - base > 1) {
+            regressions.add(String.format("%s %s regressed from %.2f to %.2f.", benchmark, metric, base, run));
+        }
+    }
+
+    private static double score(JsonNode metric) {
+        return metric.has("score") ? metric.get("score").asDouble() : Double.NaN;
+    }
+
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> runs = new HashMap<>();
+        for(JsonNode run : new ObjectMapper().readTree(file)) {
+            runs.put(run.get("benchmark").asText(), run);
+        }
+        return runs;
+    }
+}
@@ -0,0 +1,43 @@
+package com.savci.jobms.job.benchmark;
+
+import com.savci.jobms.job.dto.JobDTO;
+import com.savci.jobms.job.entity.Job;
+import com.savci.jobms.job.external.Company;
+import com.savci.jobms.job.external.Review;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Fixtures shaped like a default page of the job listing, so the benchmarks measure the sizes served in production.
+final class BenchmarkData {
+    static final int PAGE_SIZE = 20;
+    static final int REVIEWS_PER_COMPANY = 5;
+
+    private BenchmarkData() {
+    }
+
+    static Job job(long id) {
+        return new Job(id, "Job " + id, "Description " + id, 30000L + id, 40000L + id, "Location " + id, id % 5 + 1, 0L);
+    }
+
+    static Company company(long id) {
+        return Company.builder().id(id).name("Company " + id).description("Description " + id).averageRating(4.2D).build();
+    }
+
+    static List<Review> reviews(long companyId) {
+        List<Review> reviews = new ArrayList<>();
+        for(long id = 1; id <= REVIEWS_PER_COMPANY; id++) {
+            reviews.add(Review.builder().id(id).title("Review " + id).description("Description " + id).rating(4D).companyId(companyId).build());
+        }
+        return reviews;
+    }
+
+    static List<JobDTO> page() {
+        List<JobDTO> jobs = new ArrayList<>();
+        for(long id = 1; id <= PAGE_SIZE; id++) {
+            Job job = job(id);
+            jobs.add(JobDTO.createJobDTO(job, company(job.getCompanyId()), reviews(job.getCompanyId())));
+        }
+        return jobs;
+    }
+}
@@ -0,0 +1,59 @@
+package com.savci.jobms.job.benchmark;
+
+import com.savci.jobms.job.dto.JobDTO;
+import com.savci.jobms.job.entity.Job;
+import com.savci.jobms.job.entity.JobSummary;
+import com.savci.jobms.job.external.Company;
+import com.savci.jobms.job.external.Review;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobDTOBenchmark {
+    private Job job;
+    private JobSummary jobSummary;
+    private Company company;
+    private List<Review> reviews;
+
+    @Setup
+    public void setUp() {
+        job = BenchmarkData.job(1L);
+        jobSummary = new JobSummary() {
+            public Long getId() { return job.getId(); }
+            public String getName() { return job.getName(); }
+            public Long getMinSalary() { return job.getMinSalary(); }
+            public Long getMaxSalary() { return job.getMaxSalary(); }
+            public String getLocation() { return job.getLocation(); }
+            public Long getCompanyId() { return job.getCompanyId(); }
+            public Long getVersion() { return job.getVersion(); }
+        };
+        company = BenchmarkData.company(job.getCompanyId());
+        reviews = BenchmarkData.reviews(job.getCompanyId());
+    }
+
+    @Benchmark
+    public JobDTO createJobDTO() {
+        return JobDTO.createJobDTO(job, company, reviews);
+    }
+
+    @Benchmark
+    public JobDTO createJobSummaryDTO() {
+        return JobDTO.createJobDTO(jobSummary, company, reviews);
+    }
+}
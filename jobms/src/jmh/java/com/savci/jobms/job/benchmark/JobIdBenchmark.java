@@ -0,0 +1,71 @@
+package com.savci.jobms.job.benchmark;
+
+import com.savci.jobms.job.converter.StringToJobIdConverter;
+import com.savci.jobms.job.entity.JobId;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Every request addressing a job by id converts the path variable and validates the resulting id.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobIdBenchmark {
+    private final StringToJobIdConverter converter = new StringToJobIdConverter();
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private JobId validJobId;
+    private JobId invalidJobId;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validJobId = new JobId(1L);
+        invalidJobId = new JobId(-1L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public JobId convertValidId() {
+        return converter.convert("12345");
+    }
+
+    // A malformed id goes through the NumberFormatException path of the converter.
+    @Benchmark
+    public JobId convertMalformedId() {
+        return converter.convert("abc");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<JobId>> validateValidId() {
+        return validator.validate(validJobId);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<JobId>> validateInvalidId() {
+        return validator.validate(invalidJobId);
+    }
+}
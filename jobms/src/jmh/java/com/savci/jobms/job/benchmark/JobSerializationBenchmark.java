@@ -0,0 +1,47 @@
+package com.savci.jobms.job.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.savci.jobms.job.config.JacksonConfig;
+import com.savci.jobms.job.dto.JobDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobSerializationBenchmark {
+    private ObjectWriter pageWriter;
+    private List<JobDTO> page;
+
+    // The mapper is built the way Spring Boot builds it, including the customizer of the application.
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        new JacksonConfig().blankNumberCustomizer().customize(builder);
+        ObjectMapper objectMapper = builder.build();
+        pageWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, JobDTO.class));
+        page = BenchmarkData.page();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return pageWriter.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,58 @@
+package com.savci.jobms.job.benchmark;
+
+import com.savci.jobms.job.entity.Job;
+import com.savci.jobms.job.validation.MinMaxSalayValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobValidationBenchmark {
+    private final MinMaxSalayValidator minMaxSalaryValidator = new MinMaxSalayValidator();
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private Job job;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        job = BenchmarkData.job(1L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public boolean minMaxSalary() {
+        return minMaxSalaryValidator.isValid(job, null);
+    }
+
+    // The whole group sequence of the job, which ends with the salary range constraint.
+    @Benchmark
+    public Set<ConstraintViolation<Job>> validateJob() {
+        return validator.validate(job);
+    }
+}
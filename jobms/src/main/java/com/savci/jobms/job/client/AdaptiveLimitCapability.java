@@ -0,0 +1,115 @@
+package com.savci.jobms.job.client;
+
+import com.savci.jobms.job.config.JobProperties;
+import com.savci.jobms.job.exception.ConcurrencyLimitExceededException;
+import feign.AsyncClient;
+import feign.Capability;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Caps the concurrent calls of every downstream service at a limit which follows its round trip time. While the latest
+// RTT stays close to the long-term average the limit grows by a small queue allowance, as the RTT rises above it the
+// limit shrinks in proportion, and failed calls back it off multiplicatively. Calls over the limit are failed at once
+// instead of waiting. It wraps the bulkhead, so the shed calls never take a bulkhead permit.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@AllArgsConstructor
+public class AdaptiveLimitCapability implements Capability {
+    private static final Map<String, String> CLIENTS = Map.of("COMPANYMS", RequestHedger.COMPANY_CLIENT, "REVIEWMS", RequestHedger.REVIEW_CLIENT);
+
+    private final JobProperties jobProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+
+    @Override
+    public AsyncClient<Object> enrich(AsyncClient<Object> client) {
+        return (request, options, requestContext) -> {
+            JobProperties.ConcurrencyLimit concurrencyLimit = jobProperties.getConcurrencyLimit();
+            String name = CLIENTS.get(request.requestTemplate().feignTarget().name());
+            if(!concurrencyLimit.isEnabled() || name == null) {
+                return client.execute(request, options, requestContext);
+            }
+            Limit limit = limits.computeIfAbsent(name, this::createLimit);
+            int inflight = limit.tryAcquire();
+            if(inflight < 0) {
+                limit.rejected.increment();
+                return CompletableFuture.failedFuture(new ConcurrencyLimitExceededException(String.format("The concurrency limit of the %s service is exceeded!", name)));
+            }
+            long start = System.nanoTime();
+            CompletableFuture<Response> response;
+            try {
+                response = client.execute(request, options, requestContext);
+            } catch(RuntimeException exception) {
+                response = CompletableFuture.failedFuture(exception);
+            }
+            return response.whenComplete((result, throwable) ->
+                    limit.release(concurrencyLimit, System.nanoTime() - start, inflight, throwable != null || result.status() >= 500));
+        };
+    }
+
+    private Limit createLimit(String client) {
+        Counter rejected = Counter.builder("jobms.downstream.concurrency.rejected").tag("client", client).register(meterRegistry);
+        Limit limit = new Limit(rejected, jobProperties.getConcurrencyLimit().getInitialLimit());
+        Gauge.builder("jobms.downstream.concurrency.limit", limit, Limit::getLimit).tag("client", client).register(meterRegistry);
+        Gauge.builder("jobms.downstream.concurrency.inflight", limit, Limit::getInflight).tag("client", client).register(meterRegistry);
+        return limit;
+    }
+
+    static class Limit {
+        private final Counter rejected;
+        private double limit;
+        private int inflight;
+        private double longRtt;
+
+        Limit(Counter rejected, double limit) {
+            this.rejected = rejected;
+            this.limit = limit;
+        }
+
+        synchronized int tryAcquire() {
+            if(inflight >= (int) limit) {
+                return -1;
+            }
+            return ++inflight;
+        }
+
+        synchronized void release(JobProperties.ConcurrencyLimit concurrencyLimit, long rtt, int inflightAtStart, boolean dropped) {
+            inflight--;
+            if(dropped) {
+                limit = Math.max(concurrencyLimit.getMinLimit(), limit * concurrencyLimit.getBackoffRatio());
+                return;
+            }
+            longRtt = longRtt == 0 ? rtt : longRtt + (rtt - longRtt) / concurrencyLimit.getLongWindow();
+            // The long-term average is pulled down quickly after a slow period, so the limit is not held low for long.
+            if(longRtt / rtt > 2) {
+                longRtt *= 0.95;
+            }
+            // A call made well below the limit says nothing about the concurrency the downstream service can sustain.
+            if(inflightAtStart * 2 < limit) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, concurrencyLimit.getRttTolerance() * longRtt / rtt));
+            double newLimit = limit * gradient + concurrencyLimit.getQueueSize();
+            newLimit = limit * (1 - concurrencyLimit.getSmoothing()) + newLimit * concurrencyLimit.getSmoothing();
+            limit = Math.max(concurrencyLimit.getMinLimit(), Math.min(concurrencyLimit.getMaxLimit(), newLimit));
+        }
+
+        synchronized double getLimit() {
+            return limit;
+        }
+
+        synchronized int getInflight() {
+            return inflight;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.savci.jobms.job.client;
+
+import feign.AsyncClient;
+import feign.Capability;
+import feign.Response;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Every call of a Feign client takes a permit of the bulkhead of its downstream service, whichever call site made it,
+// so a slow downstream service can only hold a bounded number of the pooled connections. The permit is returned once the
+// response arrives, and calls which do not get a permit at once are failed with a BulkheadFullException.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@AllArgsConstructor
+public class BulkheadCapability implements Capability {
+    public static final String COMPANY_BULKHEAD = "companyBulkhead";
+    public static final String REVIEW_BULKHEAD = "reviewBulkhead";
+    private static final Map<String, String> BULKHEADS = Map.of("COMPANYMS", COMPANY_BULKHEAD, "REVIEWMS", REVIEW_BULKHEAD);
+    private static final Map<String, String> CLIENTS = Map.of(COMPANY_BULKHEAD, RequestHedger.COMPANY_CLIENT, REVIEW_BULKHEAD, RequestHedger.REVIEW_CLIENT);
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    @Override
+    public AsyncClient<Object> enrich(AsyncClient<Object> client) {
+        return (request, options, requestContext) -> {
+            String name = BULKHEADS.get(request.requestTemplate().feignTarget().name());
+            if(name == null) {
+                return client.execute(request, options, requestContext);
+            }
+            Bulkhead bulkhead = bulkheads.computeIfAbsent(name, this::createBulkhead);
+            if(!bulkhead.tryAcquirePermission()) {
+                return CompletableFuture.failedFuture(BulkheadFullException.createBulkheadFullException(bulkhead));
+            }
+            CompletableFuture<Response> response;
+            try {
+                response = client.execute(request, options, requestContext);
+            } catch(RuntimeException exception) {
+                response = CompletableFuture.failedFuture(exception);
+            }
+            return response.whenComplete((result, throwable) -> bulkhead.onComplete());
+        };
+    }
+
+    private Bulkhead createBulkhead(String name) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+        Counter rejected = Counter.builder("jobms.downstream.bulkhead.rejected").tag("client", CLIENTS.get(name)).register(meterRegistry);
+        bulkhead.getEventPublisher().onCallRejected(event -> rejected.increment());
+        return bulkhead;
+    }
+}
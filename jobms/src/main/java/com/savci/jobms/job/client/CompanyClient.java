@@ -1,12 +1,26 @@
 package com.savci.jobms.job.client;
 
+import com.savci.jobms.job.config.CacheConfig;
 import com.savci.jobms.job.external.Company;
-import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "COMPANYMS", dismiss404 = true, url = "${companyms.url}")
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// The asynchronous reads complete on the I/O threads of the HTTP client without holding any thread while waiting, the
+// blocking read is kept for the callers which run inside a transaction or a stream.
 public interface CompanyClient {
     @GetMapping("/companies/{id}")
-    Company getCompany(@PathVariable("id") Long id);
+    @Cacheable(cacheNames = CacheConfig.COMPANY_CACHE, unless = "#result == null")
+    CompletableFuture<Company> getCompanyAsync(@PathVariable("id") Long id);
+
+    @GetMapping("/companies")
+    List<Company> getCompanies(@RequestParam("ids") Collection<Long> ids);
+
+    @GetMapping("/companies")
+    CompletableFuture<List<Company>> getCompaniesAsync(@RequestParam("ids") Collection<Long> ids);
 }
@@ -0,0 +1,58 @@
+package com.savci.jobms.job.client;
+
+import com.savci.jobms.job.config.JobProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Concurrent lookups of the same key share a single in-flight downstream request. The flight is forgotten as soon as it
+// completes, so nothing is cached here, and every caller gets its own copy so that its deadline cannot fail the others.
+@Component
+@AllArgsConstructor
+public class RequestCoalescer {
+    private final JobProperties jobProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<List<Object>, CompletableFuture<?>> flights = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> coalesce(String client, Object key, Supplier<CompletableFuture<T>> call) {
+        if(!jobProperties.getCoalescing().isEnabled()) {
+            return call.get();
+        }
+        counter("jobms.downstream.coalescing.requests", client).increment();
+        List<Object> flightKey = Arrays.asList(client, key);
+        CompletableFuture<T> flight = new CompletableFuture<>();
+        CompletableFuture<T> inFlight = (CompletableFuture<T>) flights.putIfAbsent(flightKey, flight);
+        if(inFlight != null) {
+            counter("jobms.downstream.coalescing.collapsed", client).increment();
+            return inFlight.copy();
+        }
+        try {
+            call.get().whenComplete((value, throwable) -> {
+                flights.remove(flightKey, flight);
+                if(throwable != null) {
+                    flight.completeExceptionally(throwable);
+                } else {
+                    flight.complete(value);
+                }
+            });
+        } catch(RuntimeException exception) {
+            flights.remove(flightKey, flight);
+            flight.completeExceptionally(exception);
+            throw exception;
+        }
+        return flight.copy();
+    }
+
+    private Counter counter(String name, String client) {
+        return Counter.builder(name).tag("client", client).register(meterRegistry);
+    }
+}
@@ -0,0 +1,123 @@
+package com.savci.jobms.job.client;
+
+import com.savci.jobms.job.config.JobProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Idempotent downstream reads are sent a second time once they outlive the configured latency percentile of their client,
+// and the first successful answer wins. Hedges draw from a token budget refilled by every call, so they stay a bounded
+// fraction of the traffic even when the whole downstream service slows down. The attempts are asynchronous, so neither
+// waiting for them nor the hedge timer holds a thread.
+@Component
+@AllArgsConstructor
+@Slf4j
+public class RequestHedger {
+    public static final String COMPANY_CLIENT = "company";
+    public static final String REVIEW_CLIENT = "review";
+
+    private final JobProperties jobProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Target> targets = new ConcurrentHashMap<>();
+
+    public <T> CompletableFuture<T> supply(String client, Supplier<CompletableFuture<T>> call) {
+        JobProperties.Hedging hedging = jobProperties.getHedging();
+        Target target = targets.computeIfAbsent(client, this::createTarget);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger attempts = new AtomicInteger(1);
+        attempt(target, call, result, attempts, false);
+        if(!hedging.isEnabled() || !target.deposit(hedging.getBudgetRatio(), hedging.getBudgetBurst()) || result.isDone()) {
+            return result;
+        }
+        long delay = target.hedgeDelay(hedging).toNanos();
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(() -> {
+            if(result.isDone() || !target.tryWithdraw()) {
+                return;
+            }
+            attempts.incrementAndGet();
+            target.issued.increment();
+            log.info(String.format("The hedged request to the %s client is issued after %d ms.", client, TimeUnit.NANOSECONDS.toMillis(delay)));
+            attempt(target, call, result, attempts, true);
+        });
+        return result;
+    }
+
+    // A failure only completes the result once no other attempt is still in flight.
+    private <T> void attempt(Target target, Supplier<CompletableFuture<T>> call, CompletableFuture<T> result, AtomicInteger attempts, boolean hedged) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch(Throwable throwable) {
+            future = CompletableFuture.failedFuture(throwable);
+        }
+        future.whenComplete((value, throwable) -> {
+            if(throwable == null) {
+                target.latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if(result.complete(value) && hedged) {
+                    target.won.increment();
+                }
+            } else if(attempts.decrementAndGet() == 0) {
+                result.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+            }
+        });
+    }
+
+    private Target createTarget(String client) {
+        Timer latency = Timer.builder("jobms.downstream.latency")
+                .tag("client", client)
+                .publishPercentiles(jobProperties.getHedging().getPercentile())
+                .register(meterRegistry);
+        Counter issued = Counter.builder("jobms.downstream.hedges.issued").tag("client", client).register(meterRegistry);
+        Counter won = Counter.builder("jobms.downstream.hedges.won").tag("client", client).register(meterRegistry);
+        return new Target(latency, issued, won);
+    }
+
+    private static class Target {
+        private final Timer latency;
+        private final Counter issued;
+        private final Counter won;
+        private double tokens;
+
+        private Target(Timer latency, Counter issued, Counter won) {
+            this.latency = latency;
+            this.issued = issued;
+            this.won = won;
+        }
+
+        // Returns whether a hedge could currently be afforded, so no timer is scheduled while the budget is exhausted.
+        private synchronized boolean deposit(double ratio, int burst) {
+            tokens = Math.min(burst, tokens + ratio);
+            return tokens >= 1;
+        }
+
+        private synchronized boolean tryWithdraw() {
+            if(tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+
+        private Duration hedgeDelay(JobProperties.Hedging hedging) {
+            long percentileNanos = 0;
+            for(ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+                percentileNanos = Math.max(percentileNanos, (long) value.value(TimeUnit.NANOSECONDS));
+            }
+            return Duration.ofNanos(Math.max(percentileNanos, hedging.getMinDelay().toNanos()));
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package com.savci.jobms.job.client;
 
+import com.savci.jobms.job.config.CacheConfig;
 import com.savci.jobms.job.external.Review;
-import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
-@FeignClient(name = "REVIEWMS", url = "${reviewms.url}")
 public interface ReviewClient {
     @GetMapping("/reviews?companyId={companyId}")
-    List<Review> getReviews(@RequestParam("companyId") Long companyId);
+    @Cacheable(cacheNames = CacheConfig.REVIEW_CACHE, unless = "#result == null")
+    CompletableFuture<List<Review>> getReviewsAsync(@RequestParam("companyId") Long companyId);
+
+    @GetMapping("/reviews")
+    List<Review> getReviewsByCompanyIds(@RequestParam("companyIds") Collection<Long> companyIds);
+
+    @GetMapping("/reviews")
+    CompletableFuture<List<Review>> getReviewsByCompanyIdsAsync(@RequestParam("companyIds") Collection<Long> companyIds);
 }
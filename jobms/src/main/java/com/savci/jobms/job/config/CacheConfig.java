@@ -0,0 +1,20 @@
+package com.savci.jobms.job.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String COMPANY_CACHE = "companies";
+    public static final String REVIEW_CACHE = "reviews";
+
+    // The cached client reads return futures, which Caffeine only caches in its asynchronous mode.
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> asyncCacheModeCustomizer() {
+        return cacheManager -> cacheManager.setAsyncCacheMode(true);
+    }
+}
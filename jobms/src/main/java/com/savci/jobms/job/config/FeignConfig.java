@@ -0,0 +1,67 @@
+package com.savci.jobms.job.config;
+
+import com.savci.jobms.job.client.CompanyClient;
+import com.savci.jobms.job.client.ReviewClient;
+import feign.AsyncFeign;
+import feign.Capability;
+import feign.Request;
+import feign.Target;
+import feign.hc5.AsyncApacheHttp5Client;
+import feign.micrometer.MicrometerObservationCapability;
+import feign.optionals.OptionalDecoder;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+// The downstream clients are built with AsyncFeign over the pooled asynchronous HTTP client, keeping the Spring MVC
+// contract and decoders of the declarative clients. The capabilities are applied in their order, the observation first,
+// so it only measures the calls which are actually sent.
+@Configuration
+public class FeignConfig {
+    public static final String COMPANY_SERVICE = "COMPANYMS";
+    public static final String REVIEW_SERVICE = "REVIEWMS";
+
+    @Bean
+    public CompanyClient companyClient(@Value("${companyms.url}") String url, CloseableHttpAsyncClient feignHttpClient, JobProperties jobProperties,
+                                       ObjectFactory<HttpMessageConverters> messageConverters, ObjectProvider<HttpMessageConverterCustomizer> customizers,
+                                       ObservationRegistry observationRegistry, ObjectProvider<Capability> capabilities) {
+        return builder(feignHttpClient, jobProperties, messageConverters, customizers, observationRegistry, capabilities)
+                .dismiss404()
+                .target(new Target.HardCodedTarget<>(CompanyClient.class, COMPANY_SERVICE, url));
+    }
+
+    @Bean
+    public ReviewClient reviewClient(@Value("${reviewms.url}") String url, CloseableHttpAsyncClient feignHttpClient, JobProperties jobProperties,
+                                     ObjectFactory<HttpMessageConverters> messageConverters, ObjectProvider<HttpMessageConverterCustomizer> customizers,
+                                     ObservationRegistry observationRegistry, ObjectProvider<Capability> capabilities) {
+        return builder(feignHttpClient, jobProperties, messageConverters, customizers, observationRegistry, capabilities)
+                .target(new Target.HardCodedTarget<>(ReviewClient.class, REVIEW_SERVICE, url));
+    }
+
+    private AsyncFeign.AsyncBuilder<HttpClientContext> builder(CloseableHttpAsyncClient feignHttpClient, JobProperties jobProperties,
+                                                               ObjectFactory<HttpMessageConverters> messageConverters, ObjectProvider<HttpMessageConverterCustomizer> customizers,
+                                                               ObservationRegistry observationRegistry, ObjectProvider<Capability> capabilities) {
+        JobProperties.HttpClient httpClient = jobProperties.getHttpClient();
+        AsyncFeign.AsyncBuilder<HttpClientContext> builder = AsyncFeign.<HttpClientContext>builder()
+                .client(new AsyncApacheHttp5Client(feignHttpClient))
+                .contract(new SpringMvcContract())
+                .decoder(new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(messageConverters, customizers))))
+                .options(new Request.Options(httpClient.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                        httpClient.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS, true))
+                .addCapability(new MicrometerObservationCapability(observationRegistry));
+        capabilities.orderedStream().forEach(builder::addCapability);
+        return builder;
+    }
+}
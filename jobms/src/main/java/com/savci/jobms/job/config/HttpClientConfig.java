@@ -0,0 +1,57 @@
+package com.savci.jobms.job.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HttpClientConfig {
+
+    @Bean
+    public PoolingAsyncClientConnectionManager feignConnectionManager(JobProperties jobProperties) {
+        JobProperties.HttpClient httpClient = jobProperties.getHttpClient();
+        return PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(httpClient.getMaxConnections())
+                .setMaxConnPerRoute(httpClient.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setTimeToLive(TimeValue.ofMilliseconds(httpClient.getTimeToLive().toMillis()))
+                        .setConnectTimeout(Timeout.ofMilliseconds(httpClient.getConnectTimeout().toMillis()))
+                        .build())
+                .build();
+    }
+
+    // The requests are multiplexed over the I/O reactor of the client, so a slow downstream service holds pooled
+    // connections but no threads. Pooled connections are reused for at most the keep-alive the downstream service
+    // announces, capped by our own, and connections idle for longer than the idle timeout are closed in the background.
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient feignHttpClient(PoolingAsyncClientConnectionManager feignConnectionManager, JobProperties jobProperties) {
+        JobProperties.HttpClient httpClient = jobProperties.getHttpClient();
+        TimeValue keepAlive = TimeValue.ofMilliseconds(httpClient.getKeepAlive().toMillis());
+        CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .setConnectionManager(feignConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(httpClient.getConnectionRequestTimeout().toMillis()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context).min(keepAlive))
+                .evictIdleConnections(TimeValue.ofMilliseconds(httpClient.getIdleTimeout().toMillis()))
+                .disableAutomaticRetries()
+                .build();
+        client.start();
+        return client;
+    }
+
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(PoolingAsyncClientConnectionManager feignConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(feignConnectionManager, "feign");
+    }
+}
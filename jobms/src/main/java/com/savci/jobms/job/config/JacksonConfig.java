@@ -0,0 +1,19 @@
+package com.savci.jobms.job.config;
+
+import com.fasterxml.jackson.databind.cfg.CoercionAction;
+import com.fasterxml.jackson.databind.cfg.CoercionInputShape;
+import com.fasterxml.jackson.databind.type.LogicalType;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // Blank numbers such as a "" salary are rejected instead of being silently read as null.
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer blankNumberCustomizer() {
+        return builder -> builder.postConfigurer(objectMapper -> objectMapper.coercionConfigFor(LogicalType.Integer)
+                .setCoercion(CoercionInputShape.EmptyString, CoercionAction.Fail));
+    }
+}
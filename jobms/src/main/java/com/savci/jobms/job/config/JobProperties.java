@@ -0,0 +1,108 @@
+package com.savci.jobms.job.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "jobms")
+@Data
+public class JobProperties {
+    private Pagination pagination = new Pagination();
+    private Export export = new Export();
+    private Downstream downstream = new Downstream();
+    private Bulk bulk = new Bulk();
+    private JobDelete jobDelete = new JobDelete();
+    private ReadModel readModel = new ReadModel();
+    private Hedging hedging = new Hedging();
+    private HttpClient httpClient = new HttpClient();
+    private Coalescing coalescing = new Coalescing();
+    private ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+    private StaleFallback staleFallback = new StaleFallback();
+
+    @Data
+    public static class Pagination {
+        private int defaultPageSize = 20;
+        private int maxPageSize = 100;
+    }
+
+    @Data
+    public static class Export {
+        private int chunkSize = 100;
+    }
+
+    @Data
+    public static class Downstream {
+        private Duration timeout = Duration.ofSeconds(2);
+    }
+
+    @Data
+    public static class Bulk {
+        private int batchSize = 50;
+        private int maxSize = 1000;
+    }
+
+    @Data
+    public static class JobDelete {
+        private int batchSize = 100;
+        private Duration receiveTimeout = Duration.ofMillis(500);
+        private int concurrency = 1;
+        private int maxConcurrency = 4;
+        private int prefetch = 250;
+        private boolean chunked = true;
+        private int chunkSize = 1000;
+    }
+
+    @Data
+    public static class ReadModel {
+        private boolean enabled = false;
+    }
+
+    @Data
+    public static class Hedging {
+        private boolean enabled = true;
+        private double percentile = 0.95;
+        private Duration minDelay = Duration.ofMillis(20);
+        private double budgetRatio = 0.1;
+        private int budgetBurst = 10;
+    }
+
+    @Data
+    public static class HttpClient {
+        private int maxConnections = 200;
+        private int maxConnectionsPerRoute = 50;
+        private Duration timeToLive = Duration.ofMinutes(15);
+        private Duration connectionRequestTimeout = Duration.ofMillis(500);
+        private Duration connectTimeout = Duration.ofSeconds(1);
+        private Duration readTimeout = Duration.ofSeconds(2);
+        private Duration keepAlive = Duration.ofSeconds(30);
+        private Duration idleTimeout = Duration.ofSeconds(60);
+    }
+
+    @Data
+    public static class Coalescing {
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class ConcurrencyLimit {
+        private boolean enabled = true;
+        private int initialLimit = 20;
+        private int minLimit = 2;
+        private int maxLimit = 200;
+        private double rttTolerance = 1.5;
+        private double smoothing = 0.2;
+        private int longWindow = 600;
+        private int queueSize = 4;
+        private double backoffRatio = 0.9;
+    }
+
+    @Data
+    public static class StaleFallback {
+        private boolean enabled = true;
+        private int maxSize = 10000;
+        private Duration maxAge = Duration.ofHours(1);
+    }
+}
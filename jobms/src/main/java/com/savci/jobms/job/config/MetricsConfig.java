@@ -0,0 +1,52 @@
+package com.savci.jobms.job.config;
+
+import io.micrometer.common.KeyValues;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+@Configuration
+public class MetricsConfig {
+    public static final String RESULT_ATTRIBUTE = MetricsConfig.class.getName() + ".result";
+    public static final String OK = "OK";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String CLIENT_ERROR = "CLIENT_ERROR";
+    public static final String SERVER_ERROR = "SERVER_ERROR";
+    public static final String CIRCUIT_OPEN = "CIRCUIT_OPEN";
+    public static final String RATE_LIMITED = "RATE_LIMITED";
+    public static final String BULKHEAD_FULL = "BULKHEAD_FULL";
+    public static final String OVERLOADED = "OVERLOADED";
+    public static final String STALE = "STALE";
+
+    // The request timers are tagged with a result on top of the status, so that the answers refused by a resilience
+    // pattern can be told apart from the ones which failed while being served.
+    @Bean
+    public ServerRequestObservationConvention resultObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context).and("result", result(context));
+            }
+        };
+    }
+
+    private static String result(ServerRequestObservationContext context) {
+        Object result = context.getCarrier().getAttribute(RESULT_ATTRIBUTE);
+        if(result != null) {
+            return result.toString();
+        }
+        HttpServletResponse response = context.getResponse();
+        HttpStatus status = response == null ? null : HttpStatus.resolve(response.getStatus());
+        if(status == null || status.is5xxServerError() || context.getError() != null) {
+            return SERVER_ERROR;
+        }
+        if(status == HttpStatus.NOT_FOUND) {
+            return NOT_FOUND;
+        }
+        return status.is4xxClientError() ? CLIENT_ERROR : OK;
+    }
+}
@@ -1,55 +1,136 @@
 package com.savci.jobms.job.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.savci.jobms.job.config.MetricsConfig;
 import com.savci.jobms.job.dto.JobDTO;
+import com.savci.jobms.job.dto.JobPageDTO;
+import com.savci.jobms.job.dto.JobPageRequest;
+import com.savci.jobms.job.dto.JobSearchRequest;
+import com.savci.jobms.job.dto.JobView;
 import com.savci.jobms.job.service.JobService;
 import com.savci.jobms.job.entity.Job;
 import com.savci.jobms.job.entity.JobId;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/jobs")
 @AllArgsConstructor
 @Slf4j
 public class JobController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String DATA_STALE_HEADER = "X-Data-Stale";
+    public static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
     private JobService jobService;
+    private ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<List<JobDTO>> getAllJobs() {
-        log.info("Fetch all jobs operation is done in the controller layer.");
-        return ResponseEntity.ok(jobService.getAllJobs());
+    public CompletableFuture<ResponseEntity<List<?>>> getAllJobs(JobPageRequest pageRequest, JobView view, HttpServletRequest request) {
+        UriComponentsBuilder currentRequest = ServletUriComponentsBuilder.fromCurrentRequest();
+        return jobService.getAllJobs(pageRequest, view).thenApply(page -> {
+            log.info("Fetch a page of jobs operation is done in the controller layer.");
+            List<?> jobs = page.getJobs().stream().map(jobDTO -> render(jobDTO, view)).toList();
+            HttpHeaders headers = nextPageHeaders(page, currentRequest, "after");
+            if(page.getJobs().stream().anyMatch(JobDTO::isStale)) {
+                addStaleHeaders(headers, request);
+            }
+            return new ResponseEntity<>(jobs, headers, HttpStatus.OK);
+        });
+    }
+
+    @GetMapping("/search")
+    public CompletableFuture<ResponseEntity<List<JobDTO>>> searchJobs(JobSearchRequest searchRequest) {
+        UriComponentsBuilder currentRequest = ServletUriComponentsBuilder.fromCurrentRequest();
+        return jobService.searchJobs(searchRequest).thenApply(page -> {
+            log.info("Search a page of jobs operation is done in the controller layer.");
+            return new ResponseEntity<>(page.getJobs(), nextPageHeaders(page, currentRequest, "offset"), HttpStatus.OK);
+        });
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAllJobs() {
+        log.info("Export all jobs operation is done in the controller layer.");
+        StreamingResponseBody body = outputStream -> jobService.exportAllJobs(jobDTO -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(jobDTO));
+                outputStream.write('\n');
+            } catch(IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getJobById(@PathVariable JobId id) {
-        Map<?, HttpStatus> responseMap = jobService.getJobById(id);
-        Map.Entry<?, HttpStatus> responseEntry = responseMap.entrySet().iterator().next();
-        log.info(String.format("Fetch job with job id %d operation is done in the controller layer.", id.getId()));
-        return new ResponseEntity<>(responseEntry.getKey(), responseEntry.getValue());
+    public CompletableFuture<ResponseEntity<?>> getJobById(@PathVariable JobId id, JobView view, WebRequest webRequest, HttpServletRequest request) {
+        // The conditional request is answered from the version column without loading the job or calling the downstream services.
+        if(webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Map.Entry<?, HttpStatus> versionEntry = jobService.getJobVersionById(id).entrySet().iterator().next();
+            if(versionEntry.getKey() instanceof Long version && webRequest.checkNotModified(eTag(version, view))) {
+                log.info(String.format("Job with job id %d is not modified in the controller layer.", id.getId()));
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag(version, view)).build());
+            }
+        }
+        return jobService.getJobById(id, view).thenApply(responseMap -> {
+            Map.Entry<?, HttpStatus> responseEntry = responseMap.entrySet().iterator().next();
+            log.info(String.format("Fetch job with job id %d operation is done in the controller layer.", id.getId()));
+            // A stale response is not validated by an entity tag, so a conditional request cannot keep the stale relations.
+            if(responseEntry.getKey() instanceof JobDTO jobDTO && jobDTO.isStale()) {
+                HttpHeaders headers = new HttpHeaders();
+                addStaleHeaders(headers, request);
+                return new ResponseEntity<>(render(jobDTO, view), headers, responseEntry.getValue());
+            }
+            if(responseEntry.getKey() instanceof JobDTO jobDTO && jobDTO.getVersion() != null) {
+                return ResponseEntity.status(responseEntry.getValue()).eTag(eTag(jobDTO.getVersion(), view)).body(render(jobDTO, view));
+            }
+            return new ResponseEntity<>(render(responseEntry.getKey(), view), responseEntry.getValue());
+        });
     }
 
     @PostMapping
-    public ResponseEntity<String> createJob(@RequestBody Job job) {
-        Map<String, HttpStatus> responseMap = jobService.createJob(job);
-        Map.Entry<String, HttpStatus> responseEntry = responseMap.entrySet().iterator().next();
-        log.info("Create job operation is done in the controller layer.");
-        return new ResponseEntity<>(responseEntry.getKey(), responseEntry.getValue());
+    public CompletableFuture<ResponseEntity<String>> createJob(@RequestBody Job job) {
+        return jobService.createJob(job).thenApply(responseMap -> {
+            Map.Entry<String, HttpStatus> responseEntry = responseMap.entrySet().iterator().next();
+            log.info("Create job operation is done in the controller layer.");
+            return new ResponseEntity<>(responseEntry.getKey(), responseEntry.getValue());
+        });
     }
 
-    @PutMapping("/{id}")
-    public ResponseEntity<?> updateJobById(@RequestBody Job job, @PathVariable JobId id) {
-        Map<?, HttpStatus> responseMap = jobService.updateJobById(job, id);
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createJobs(@RequestBody List<Job> jobs) {
+        Map<?, HttpStatus> responseMap = jobService.createJobs(jobs);
         Map.Entry<?, HttpStatus> responseEntry = responseMap.entrySet().iterator().next();
-        log.info(String.format("Update job with job id %d operation is done in the controller layer.", id.getId()));
+        log.info("Create jobs in bulk operation is done in the controller layer.");
         return new ResponseEntity<>(responseEntry.getKey(), responseEntry.getValue());
     }
 
+    @PutMapping("/{id}")
+    public CompletableFuture<ResponseEntity<?>> updateJobById(@RequestBody Job job, @PathVariable JobId id) {
+        return jobService.updateJobById(job, id).thenApply(responseMap -> {
+            Map.Entry<?, HttpStatus> responseEntry = responseMap.entrySet().iterator().next();
+            log.info(String.format("Update job with job id %d operation is done in the controller layer.", id.getId()));
+            return new ResponseEntity<>(responseEntry.getKey(), responseEntry.getValue());
+        });
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteJobById(@PathVariable JobId id) {
         Map<String, HttpStatus> responseMap = jobService.deleteJobById(id);
@@ -57,4 +138,44 @@ public class JobController {
         log.info(String.format("Delete job with job id %d operation is done in the controller layer.", id.getId()));
         return new ResponseEntity<>(responseEntry.getKey(), responseEntry.getValue());
     }
+
+    // Relations served from the last known good responses are flagged for the clients and tagged for the request metrics.
+    private static void addStaleHeaders(HttpHeaders headers, HttpServletRequest request) {
+        headers.add(HttpHeaders.WARNING, STALE_WARNING);
+        headers.add(DATA_STALE_HEADER, Boolean.TRUE.toString());
+        request.setAttribute(MetricsConfig.RESULT_ATTRIBUTE, MetricsConfig.STALE);
+    }
+
+    // Sparse views are different representations of the same job, so the selected properties are a part of their entity tag.
+    private static String eTag(Long version, JobView view) {
+        if(view.isFull()) {
+            return String.format("\"%d\"", version);
+        }
+        return String.format("\"%d-%x\"", version, view.getSelectedProperties().hashCode());
+    }
+
+    // Sparse views are rendered as maps which only carry the selected fields and the included relations.
+    private Object render(Object body, JobView view) {
+        if(view.isFull() || !(body instanceof JobDTO)) {
+            return body;
+        }
+        Map<String, Object> fields = new LinkedHashMap<>(objectMapper.convertValue(body, Map.class));
+        fields.keySet().retainAll(view.getSelectedProperties());
+        return fields;
+    }
+
+    // The current request is captured on the request thread since the page completes on a task executor thread.
+    private HttpHeaders nextPageHeaders(JobPageDTO page, UriComponentsBuilder currentRequest, String cursorParameter) {
+        HttpHeaders headers = new HttpHeaders();
+        if(page.getNext() != null) {
+            String nextPage = currentRequest
+                    .replaceQueryParam(cursorParameter, page.getNext())
+                    .replaceQueryParam("limit", page.getLimit())
+                    .build(true)
+                    .toUriString();
+            headers.add(HttpHeaders.LINK, String.format("<%s>; rel=\"next\"", nextPage));
+            headers.add(NEXT_CURSOR_HEADER, String.valueOf(page.getNext()));
+        }
+        return headers;
+    }
 }
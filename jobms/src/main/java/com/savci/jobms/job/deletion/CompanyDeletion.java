@@ -0,0 +1,31 @@
+package com.savci.jobms.job.deletion;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class CompanyDeletion {
+    public enum Status {
+        IN_PROGRESS,
+        COMPLETED
+    }
+
+    @Id
+    private Long companyId;
+    private Long lastDeletedId;
+    private Long deletedRows;
+    @Enumerated(EnumType.STRING)
+    private Status status;
+    private Instant startedAt;
+    private Instant updatedAt;
+}
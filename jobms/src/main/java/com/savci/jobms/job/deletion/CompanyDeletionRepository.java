@@ -0,0 +1,6 @@
+package com.savci.jobms.job.deletion;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CompanyDeletionRepository extends JpaRepository<CompanyDeletion, Long> {
+}
@@ -0,0 +1,15 @@
+package com.savci.jobms.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class JobBulkErrorDTO {
+    private Integer index;
+    private List<String> errors;
+}
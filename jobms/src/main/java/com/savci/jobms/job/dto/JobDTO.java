@@ -1,7 +1,9 @@
 package com.savci.jobms.job.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.savci.jobms.job.external.Company;
 import com.savci.jobms.job.entity.Job;
+import com.savci.jobms.job.entity.JobSummary;
 import com.savci.jobms.job.external.Review;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -18,13 +20,25 @@ public class JobDTO {
     private Long id;
     private String name;
     private String description;
-    private String minSalary;
-    private String maxSalary;
+    private Long minSalary;
+    private Long maxSalary;
     private String location;
     @Valid
     @NotNull(message = "The company should not be null.")
     private Company company;
     private List<Review> reviews;
+    // Only used to attach the company and reviews, it is not a part of the response.
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private Long companyId;
+    // Backs the entity tag of the job, it is not a part of the response either.
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private Long version;
+    // Marks the relations which are served from the last known good responses, it is a response header instead.
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private boolean stale;
 
     public static JobDTO createJobDTO(Job job, Company company, List<Review> reviews) {
         return JobDTO.builder()
@@ -36,6 +50,22 @@ public class JobDTO {
                 .location(job.getLocation())
                 .company(company)
                 .reviews(reviews)
+                .companyId(job.getCompanyId())
+                .version(job.getVersion())
+                .build();
+    }
+
+    public static JobDTO createJobDTO(JobSummary job, Company company, List<Review> reviews) {
+        return JobDTO.builder()
+                .id(job.getId())
+                .name(job.getName())
+                .minSalary(job.getMinSalary())
+                .maxSalary(job.getMaxSalary())
+                .location(job.getLocation())
+                .company(company)
+                .reviews(reviews)
+                .companyId(job.getCompanyId())
+                .version(job.getVersion())
                 .build();
     }
 }
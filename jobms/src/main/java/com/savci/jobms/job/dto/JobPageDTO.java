@@ -0,0 +1,16 @@
+package com.savci.jobms.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class JobPageDTO {
+    private List<JobDTO> jobs;
+    private Integer limit;
+    private Long next;
+}
@@ -0,0 +1,36 @@
+package com.savci.jobms.job.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class JobPageRequest {
+    @Positive(message = "The page limit should be positive.")
+    private Integer limit;
+    @PositiveOrZero(message = "The page cursor should not be negative.")
+    private Long after;
+    @PositiveOrZero(message = "The minimum salary filter should not be negative.")
+    private Long minSalary;
+    @PositiveOrZero(message = "The maximum salary filter should not be negative.")
+    private Long maxSalary;
+    private String location;
+
+    public JobPageRequest(Integer limit, Long after) {
+        this(limit, after, null, null, null);
+    }
+
+    public boolean isFiltered() {
+        return minSalary != null || maxSalary != null || location != null;
+    }
+
+    @AssertTrue(message = "The minimum salary filter should not be greater than the maximum salary filter.")
+    public boolean isSalaryRangeValid() {
+        return minSalary == null || maxSalary == null || minSalary <= maxSalary;
+    }
+}
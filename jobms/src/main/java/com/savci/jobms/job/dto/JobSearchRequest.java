@@ -0,0 +1,20 @@
+package com.savci.jobms.job.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class JobSearchRequest {
+    @NotBlank(message = "The search query should not be blank.")
+    private String q;
+    @Positive(message = "The page limit should be positive.")
+    private Integer limit;
+    @PositiveOrZero(message = "The page offset should not be negative.")
+    private Integer offset;
+}
@@ -0,0 +1,76 @@
+package com.savci.jobms.job.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Sparse fieldset of a job read. Without fields and include the whole job-company data transfer object is returned.
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class JobView {
+    public static final List<String> FIELDS = List.of("id", "name", "description", "minSalary", "maxSalary", "location");
+    public static final String COMPANY = "company";
+    public static final String REVIEWS = "reviews";
+
+    private String fields;
+    private String include;
+
+    public boolean isFull() {
+        return fields == null && include == null;
+    }
+
+    public Set<String> getSelectedFields() {
+        return fields == null ? new LinkedHashSet<>(FIELDS) : split(fields);
+    }
+
+    public boolean includesCompany() {
+        return isFull() || split(include).contains(COMPANY);
+    }
+
+    public boolean includesReviews() {
+        return isFull() || split(include).contains(REVIEWS);
+    }
+
+    public boolean needsDescription() {
+        return getSelectedFields().contains("description");
+    }
+
+    public Set<String> getSelectedProperties() {
+        Set<String> properties = getSelectedFields();
+        if(includesCompany()) {
+            properties.add(COMPANY);
+        }
+        if(includesReviews()) {
+            properties.add(REVIEWS);
+        }
+        return properties;
+    }
+
+    @AssertTrue(message = "The requested fields should be among id, name, description, minSalary, maxSalary and location.")
+    public boolean isFieldsValid() {
+        return FIELDS.containsAll(split(fields));
+    }
+
+    @AssertTrue(message = "The included relations should be among company and reviews.")
+    public boolean isIncludeValid() {
+        return List.of(COMPANY, REVIEWS).containsAll(split(include));
+    }
+
+    private static Set<String> split(String values) {
+        if(values == null) {
+            return new LinkedHashSet<>();
+        }
+        return Arrays.stream(values.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -1,44 +1,67 @@
 package com.savci.jobms.job.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.savci.jobms.job.validation.DependentValidations;
 import com.savci.jobms.job.validation.MinMaxSalaryValidation;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.GroupSequence;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "job_salary_idx", columnList = "minSalary, maxSalary"),
+        @Index(name = "job_location_salary_idx", columnList = "location, minSalary"),
+        @Index(name = "job_company_idx", columnList = "companyId, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
 @MinMaxSalaryValidation(groups = DependentValidations.class)
 @GroupSequence({Job.class, DependentValidations.class})
 public class Job {
+    public static final String MIN_SALARY_MESSAGE = "Please provide a positive number for minimum salary.";
+    public static final String MAX_SALARY_MESSAGE = "Please provide a positive number for maximum salary.";
+    // The pooled optimizer hands out this many ids per sequence call so that inserts can be batched.
+    public static final String ID_GENERATOR = "job_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_GENERATOR)
+    @SequenceGenerator(name = ID_GENERATOR, sequenceName = ID_GENERATOR, allocationSize = ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Exclude
     private Long id;
     @NotNull(message = "Please provide a valid name, job name should not be null.")
     @NotBlank(message = "Please provide a valid name, job name should not be blank.")
     private String name;
     private String description;
-    @Pattern(regexp = "[0-9]+", message = "Please provide a positive number for minimum salary.")
-    private String minSalary;
-    @Pattern(regexp = "[0-9]+", message = "Please provide a positive number for maximum salary.")
-    private String maxSalary;
+    @PositiveOrZero(message = MIN_SALARY_MESSAGE)
+    private Long minSalary;
+    @PositiveOrZero(message = MAX_SALARY_MESSAGE)
+    private Long maxSalary;
     @NotNull(message = "Please provide a valid location, the location should not be null.")
     @NotBlank(message = "Please provide a valid location, the location should not be blank.")
     private String location;
     @NotNull(message = "Please provide a valid id, company id should not be null.")
     private Long companyId;
+    @Version
+    @ColumnDefault("0")
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private Long version;
 
     public void copy(Job other) {
         this.name = other.getName();
@@ -0,0 +1,12 @@
+package com.savci.jobms.job.entity;
+
+// Spring Data interface projection which selects the job columns except the description.
+public interface JobSummary {
+    Long getId();
+    String getName();
+    Long getMinSalary();
+    Long getMaxSalary();
+    String getLocation();
+    Long getCompanyId();
+    Long getVersion();
+}
@@ -0,0 +1,7 @@
+package com.savci.jobms.job.exception;
+
+public class ConcurrencyLimitExceededException extends RuntimeException {
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.savci.jobms.job.exception;
+
+public class DownstreamTimeoutException extends RuntimeException {
+    public DownstreamTimeoutException(String message) {
+        super(message);
+    }
+}
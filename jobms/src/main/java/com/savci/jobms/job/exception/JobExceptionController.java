@@ -1,5 +1,12 @@
 package com.savci.jobms.job.exception;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.savci.jobms.job.config.MetricsConfig;
+import com.savci.jobms.job.entity.Job;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
@@ -15,11 +22,17 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
 
 @Order(Ordered.HIGHEST_PRECEDENCE)
 @ControllerAdvice
 @Slf4j
 public class JobExceptionController {
+    private static final Map<String, String> SALARY_ERRORS = Map.of(
+            "minSalary", Job.MIN_SALARY_MESSAGE,
+            "maxSalary", Job.MAX_SALARY_MESSAGE);
+
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<Map<String, List<String>>> handleConstraintValidation(ConstraintViolationException ex) {
         log.error("Constraints of the entities are not met!");
@@ -28,11 +41,58 @@ public class JobExceptionController {
     }
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
-    public ResponseEntity<String> handleMalformedBodyException(HttpMessageNotReadableException ex) {
+    public ResponseEntity<?> handleMalformedBodyException(HttpMessageNotReadableException ex) {
+        if(ex.getCause() instanceof InvalidFormatException invalidFormat) {
+            List<String> errors = invalidFormat.getPath().stream()
+                    .map(JsonMappingException.Reference::getFieldName)
+                    .filter(Objects::nonNull)
+                    .map(SALARY_ERRORS::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            if(!errors.isEmpty()) {
+                log.error("Salaries of the job body are not numbers!");
+                return new ResponseEntity<>(buildValidationErrors(errors), new HttpHeaders(), HttpStatus.UNPROCESSABLE_ENTITY);
+            }
+        }
         log.error("Required company body is malformed!");
         return new ResponseEntity<>("Required job body is malformed!", HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(DownstreamTimeoutException.class)
+    public ResponseEntity<String> handleDownstreamTimeoutException(DownstreamTimeoutException ex) {
+        log.error("Downstream services did not respond before the deadline!");
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.GATEWAY_TIMEOUT);
+    }
+
+    @ExceptionHandler(CallNotPermittedException.class)
+    public ResponseEntity<String> handleCallNotPermittedException(CallNotPermittedException ex, HttpServletRequest request) {
+        log.error("Downstream calls are not permitted while the circuit breaker is open!");
+        request.setAttribute(MetricsConfig.RESULT_ATTRIBUTE, MetricsConfig.CIRCUIT_OPEN);
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<String> handleConcurrencyLimitExceededException(ConcurrencyLimitExceededException ex, HttpServletRequest request) {
+        log.error("Downstream calls are shed while the concurrency limit of the downstream service is exceeded!");
+        request.setAttribute(MetricsConfig.RESULT_ATTRIBUTE, MetricsConfig.RATE_LIMITED);
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<String> handleBulkheadFullException(BulkheadFullException ex, HttpServletRequest request) {
+        log.error("Downstream calls are rejected while the bulkhead of the downstream service is full!");
+        request.setAttribute(MetricsConfig.RESULT_ATTRIBUTE, MetricsConfig.BULKHEAD_FULL);
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    // A TaskRejectedException of the task executor is a RejectedExecutionException as well.
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleRejectedExecutionException(RejectedExecutionException ex, HttpServletRequest request) {
+        log.error("Downstream calls are rejected while the task executor is saturated!");
+        request.setAttribute(MetricsConfig.RESULT_ATTRIBUTE, MetricsConfig.OVERLOADED);
+        return new ResponseEntity<>("The service is overloaded!", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     private Map<String, List<String>> buildValidationErrors(List<String> errors) {
         Map<String, List<String>> errorResponse = new HashMap<>();
         errorResponse.put("errors", errors);
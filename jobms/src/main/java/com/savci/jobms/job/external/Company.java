@@ -11,6 +11,7 @@ public class Company {
     Long id;
     String name;
     String description;
+    Double averageRating;
 
     @JsonPOJOBuilder(withPrefix = "")
     public static class CompanyBuilder {
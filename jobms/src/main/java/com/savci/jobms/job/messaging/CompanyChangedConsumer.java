@@ -0,0 +1,24 @@
+package com.savci.jobms.job.messaging;
+
+import com.savci.jobms.job.config.CacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+public class CompanyChangedConsumer {
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue,
+            exchange = @Exchange(value = RabbitMQConfig.COMPANY_CHANGED_EXCHANGE, type = ExchangeTypes.FANOUT)))
+    @CacheEvict(cacheNames = CacheConfig.COMPANY_CACHE)
+    public void consumeMessage(Long companyId) {
+        log.info(String.format("The cached company with the id %d is evicted upon the company change.", companyId));
+    }
+}
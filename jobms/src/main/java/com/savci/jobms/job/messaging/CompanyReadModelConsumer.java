@@ -0,0 +1,52 @@
+package com.savci.jobms.job.messaging;
+
+import com.savci.jobms.job.config.JobProperties;
+import com.savci.jobms.job.external.Review;
+import com.savci.jobms.job.readmodel.CompanyReadModelStore;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+
+// Unlike the per-instance cache eviction queues, the read model lives in the shared database,
+// so the instances compete on named durable queues and every change is applied once even across restarts.
+@AllArgsConstructor
+@Service
+@Slf4j
+public class CompanyReadModelConsumer {
+    private final CompanyReadModelStore companyReadModelStore;
+    private final JobProperties jobProperties;
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(RabbitMQConfig.COMPANY_READ_MODEL_QUEUE),
+            exchange = @Exchange(value = RabbitMQConfig.COMPANY_CHANGED_EXCHANGE, type = ExchangeTypes.FANOUT)))
+    public void consumeCompanyChange(Long companyId) {
+        apply(companyId);
+    }
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(RabbitMQConfig.REVIEW_READ_MODEL_QUEUE),
+            exchange = @Exchange(value = RabbitMQConfig.REVIEW_CHANGED_EXCHANGE, type = ExchangeTypes.FANOUT)))
+    public void consumeReviewChange(Review review) {
+        apply(review.getCompanyId());
+    }
+
+    // While the read model is disabled the stale rows are only dropped, so enabling it again fills them in from scratch.
+    private void apply(Long companyId) {
+        if(companyId == null) {
+            log.error("The company id of the change event is missing when updating the read model.");
+            return;
+        }
+        if(jobProperties.getReadModel().isEnabled()) {
+            companyReadModelStore.refresh(Set.of(companyId));
+        } else {
+            companyReadModelStore.evict(Set.of(companyId));
+        }
+    }
+}
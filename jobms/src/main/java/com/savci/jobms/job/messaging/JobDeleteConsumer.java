@@ -5,13 +5,15 @@ import lombok.AllArgsConstructor;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @AllArgsConstructor
 @Service
 public class JobDeleteConsumer {
     private final JobService jobService;
 
-    @RabbitListener(queues = "companyJobDeleteQueue")
-    public void consumeMessage(Long companyId) {
-        jobService.deleteJobByCompanyId(companyId);
+    @RabbitListener(queues = "companyJobDeleteQueue", containerFactory = RabbitMQConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void consumeMessages(List<Long> companyIds) {
+        jobService.deleteJobsByCompanyIds(companyIds);
     }
 }
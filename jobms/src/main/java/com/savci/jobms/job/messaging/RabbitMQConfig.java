@@ -1,21 +1,46 @@
 package com.savci.jobms.job.messaging;
 
+import com.savci.jobms.job.config.JobProperties;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class RabbitMQConfig {
+    public static final String COMPANY_CHANGED_EXCHANGE = "companyChangedExchange";
+    public static final String REVIEW_CHANGED_EXCHANGE = "reviewChangedExchange";
+    public static final String COMPANY_READ_MODEL_QUEUE = "jobReadModelCompanyQueue";
+    public static final String REVIEW_READ_MODEL_QUEUE = "jobReadModelReviewQueue";
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchListenerContainerFactory";
 
     @Bean
     public Queue companyJobDeleteQueue() {
         return new Queue("companyJobDeleteQueue");
     }
 
+    // Drains up to batch-size messages or waits up to receive-timeout, then acks or requeues the whole batch.
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(SimpleRabbitListenerContainerFactoryConfigurer configurer,
+                                                                              ConnectionFactory factory, JobProperties jobProperties) {
+        JobProperties.JobDelete jobDelete = jobProperties.getJobDelete();
+        SimpleRabbitListenerContainerFactory containerFactory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(containerFactory, factory);
+        containerFactory.setBatchListener(true);
+        containerFactory.setConsumerBatchEnabled(true);
+        containerFactory.setBatchSize(jobDelete.getBatchSize());
+        containerFactory.setReceiveTimeout(jobDelete.getReceiveTimeout().toMillis());
+        containerFactory.setConcurrentConsumers(jobDelete.getConcurrency());
+        containerFactory.setMaxConcurrentConsumers(jobDelete.getMaxConcurrency());
+        containerFactory.setPrefetchCount(jobDelete.getPrefetch());
+        return containerFactory;
+    }
+
     @Bean
     public MessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
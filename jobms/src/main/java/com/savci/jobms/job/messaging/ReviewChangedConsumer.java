@@ -0,0 +1,25 @@
+package com.savci.jobms.job.messaging;
+
+import com.savci.jobms.job.config.CacheConfig;
+import com.savci.jobms.job.external.Review;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+public class ReviewChangedConsumer {
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue,
+            exchange = @Exchange(value = RabbitMQConfig.REVIEW_CHANGED_EXCHANGE, type = ExchangeTypes.FANOUT)))
+    @CacheEvict(cacheNames = CacheConfig.REVIEW_CACHE, key = "#review.companyId")
+    public void consumeMessage(Review review) {
+        log.info(String.format("The cached reviews of the company with the id %d are evicted upon the review change.", review.getCompanyId()));
+    }
+}
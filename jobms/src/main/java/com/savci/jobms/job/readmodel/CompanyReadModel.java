@@ -0,0 +1,48 @@
+package com.savci.jobms.job.readmodel;
+
+import com.savci.jobms.job.external.Company;
+import com.savci.jobms.job.external.Review;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class CompanyReadModel {
+    @Id
+    private Long companyId;
+    private String name;
+    private String description;
+    private Double averageRating;
+    private Instant updatedAt;
+    private boolean deleted;
+
+    // The rating is averaged over the very reviews stored next to it, so both stay consistent whatever order the events arrive in.
+    public static CompanyReadModel createCompanyReadModel(Company company, List<Review> reviews, Instant updatedAt) {
+        Double averageRating = reviews.isEmpty() ? null : reviews.stream()
+                .mapToDouble(Review::getRating)
+                .average()
+                .orElseThrow();
+        return new CompanyReadModel(company.getId(), company.getName(), company.getDescription(), averageRating, updatedAt, false);
+    }
+
+    public static CompanyReadModel createDeletedCompanyReadModel(Long companyId, Instant updatedAt) {
+        return new CompanyReadModel(companyId, null, null, null, updatedAt, true);
+    }
+
+    public Company toCompany() {
+        return Company.builder()
+                .id(companyId)
+                .name(name)
+                .description(description)
+                .averageRating(averageRating)
+                .build();
+    }
+}
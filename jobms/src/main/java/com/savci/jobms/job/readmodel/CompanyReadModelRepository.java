@@ -0,0 +1,25 @@
+package com.savci.jobms.job.readmodel;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface CompanyReadModelRepository extends JpaRepository<CompanyReadModel, Long> {
+    @Query("select c.companyId from CompanyReadModel c where c.companyId in :companyIds")
+    Set<Long> findCompanyIdsByCompanyIdIn(@Param("companyIds") Collection<Long> companyIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from CompanyReadModel c where c.companyId in :companyIds")
+    List<CompanyReadModel> findAndLockByCompanyIdIn(@Param("companyIds") Collection<Long> companyIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CompanyReadModel c where c.companyId in :companyIds")
+    int deleteByCompanyIdIn(@Param("companyIds") Collection<Long> companyIds);
+}
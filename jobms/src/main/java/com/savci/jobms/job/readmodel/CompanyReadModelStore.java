@@ -0,0 +1,104 @@
+package com.savci.jobms.job.readmodel;
+
+import com.savci.jobms.job.client.CompanyClient;
+import com.savci.jobms.job.client.ReviewClient;
+import com.savci.jobms.job.external.Company;
+import com.savci.jobms.job.external.Review;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+// Change events only carry the company id, so a refresh re-reads the company and its reviews through the batch endpoints.
+// Reads never call the downstream services: when a company is not stored yet the read reports the miss, so that the caller
+// reads it from the downstream service instead, and the company is filled in by a background backfill.
+@Component
+@AllArgsConstructor
+@Slf4j
+public class CompanyReadModelStore {
+    private final CompanyClient companyClient;
+    private final ReviewClient reviewClient;
+    private final CompanyReadModelRepository companyReadModelRepository;
+    private final ReviewReadModelRepository reviewReadModelRepository;
+    private final CompanyReadModelWriter companyReadModelWriter;
+    private final Executor taskExecutor;
+    private final Set<Long> backfillingCompanyIds = ConcurrentHashMap.newKeySet();
+
+    // Two refreshes of a company which is not stored yet may both insert its row, so the one which loses the race is
+    // written once more, when the row exists and the writer waits on its lock instead.
+    public void refresh(Collection<Long> companyIds) {
+        List<Company> companies = companyClient.getCompanies(companyIds);
+        Set<Long> existingCompanyIds = companies.stream().map(Company::getId).collect(Collectors.toSet());
+        List<Review> reviews = existingCompanyIds.isEmpty() ? Collections.emptyList() : reviewClient.getReviewsByCompanyIds(existingCompanyIds);
+        try {
+            companyReadModelWriter.replace(companyIds, companies, reviews);
+        } catch(DataIntegrityViolationException exception) {
+            log.info("The read model of the companies is refreshed concurrently, so it is written once more.");
+            companyReadModelWriter.replace(companyIds, companies, reviews);
+        }
+        log.info(String.format("The read model of %d companies is refreshed with %d reviews.", companies.size(), reviews.size()));
+    }
+
+    public void evict(Collection<Long> companyIds) {
+        companyReadModelWriter.remove(companyIds);
+        log.info(String.format("The read model of %d companies is evicted.", companyIds.size()));
+    }
+
+    // Returns null unless every company is stored. Deleted companies are stored as well, so they are not filled in again.
+    public List<Company> getCompanies(Collection<Long> companyIds) {
+        List<CompanyReadModel> companies = companyReadModelRepository.findAllById(companyIds);
+        Set<Long> missingCompanyIds = new HashSet<>(companyIds);
+        companies.forEach(company -> missingCompanyIds.remove(company.getCompanyId()));
+        if(!missingCompanyIds.isEmpty()) {
+            backfill(missingCompanyIds);
+            return null;
+        }
+        return companies.stream()
+                .filter(company -> !company.isDeleted())
+                .map(CompanyReadModel::toCompany)
+                .collect(Collectors.toList());
+    }
+
+    // Returns null unless the reviews of every company are stored.
+    public List<Review> getReviews(Collection<Long> companyIds) {
+        Set<Long> missingCompanyIds = new HashSet<>(companyIds);
+        missingCompanyIds.removeAll(companyReadModelRepository.findCompanyIdsByCompanyIdIn(companyIds));
+        if(!missingCompanyIds.isEmpty()) {
+            backfill(missingCompanyIds);
+            return null;
+        }
+        return reviewReadModelRepository.findByCompanyIdIn(companyIds).stream().map(ReviewReadModel::toReview).collect(Collectors.toList());
+    }
+
+    // Companies which are already being filled in are skipped, so a burst of reads refreshes every company once.
+    private void backfill(Set<Long> missingCompanyIds) {
+        Set<Long> companyIds = missingCompanyIds.stream().filter(backfillingCompanyIds::add).collect(Collectors.toSet());
+        if(companyIds.isEmpty()) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    refresh(companyIds);
+                } catch(RuntimeException exception) {
+                    log.error("The read model of the missing companies is not filled in!", exception);
+                } finally {
+                    backfillingCompanyIds.removeAll(companyIds);
+                }
+            });
+        } catch(RejectedExecutionException exception) {
+            backfillingCompanyIds.removeAll(companyIds);
+            log.error("The task executor is saturated when filling in the read model of the missing companies!");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.savci.jobms.job.readmodel;
+
+import com.savci.jobms.job.external.Company;
+import com.savci.jobms.job.external.Review;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// The rows of the given companies are written in a single transaction, so readers never see a company without its reviews.
+// The stored companies are locked first and their rows are updated in place, so concurrent writes of a company wait for
+// each other instead of deleting and inserting the same rows.
+@Component
+@AllArgsConstructor
+public class CompanyReadModelWriter {
+    private CompanyReadModelRepository companyReadModelRepository;
+    private ReviewReadModelRepository reviewReadModelRepository;
+
+    // A company which no longer exists is kept as a deleted row without reviews.
+    @Transactional
+    public void replace(Collection<Long> companyIds, List<Company> companies, List<Review> reviews) {
+        companyReadModelRepository.findAndLockByCompanyIdIn(companyIds);
+        Map<Long, Company> companiesById = companies.stream().collect(Collectors.toMap(Company::getId, Function.identity(), (first, second) -> first));
+        Map<Long, List<Review>> reviewsByCompany = reviews.stream().collect(Collectors.groupingBy(Review::getCompanyId));
+        Set<Long> reviewIds = reviews.stream().map(Review::getId).collect(Collectors.toSet());
+        if(reviewIds.isEmpty()) {
+            reviewReadModelRepository.deleteByCompanyIdIn(companyIds);
+        } else {
+            reviewReadModelRepository.deleteByCompanyIdInAndIdNotIn(companyIds, reviewIds);
+        }
+        Instant now = Instant.now();
+        for(Long companyId : companyIds) {
+            Company company = companiesById.get(companyId);
+            if(company == null) {
+                companyReadModelRepository.save(CompanyReadModel.createDeletedCompanyReadModel(companyId, now));
+                continue;
+            }
+            List<Review> companyReviews = reviewsByCompany.getOrDefault(companyId, Collections.emptyList());
+            companyReadModelRepository.save(CompanyReadModel.createCompanyReadModel(company, companyReviews, now));
+            reviewReadModelRepository.saveAll(companyReviews.stream().map(ReviewReadModel::createReviewReadModel).toList());
+        }
+    }
+
+    @Transactional
+    public void remove(Collection<Long> companyIds) {
+        reviewReadModelRepository.deleteByCompanyIdIn(companyIds);
+        companyReadModelRepository.deleteByCompanyIdIn(companyIds);
+    }
+}
@@ -0,0 +1,38 @@
+package com.savci.jobms.job.readmodel;
+
+import com.savci.jobms.job.external.Review;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(indexes = @Index(name = "review_read_model_company_idx", columnList = "companyId"))
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ReviewReadModel {
+    @Id
+    private Long id;
+    private Long companyId;
+    private String title;
+    private String description;
+    private Double rating;
+
+    public static ReviewReadModel createReviewReadModel(Review review) {
+        return new ReviewReadModel(review.getId(), review.getCompanyId(), review.getTitle(), review.getDescription(), review.getRating());
+    }
+
+    public Review toReview() {
+        return Review.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .rating(rating)
+                .companyId(companyId)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.savci.jobms.job.readmodel;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ReviewReadModelRepository extends JpaRepository<ReviewReadModel, Long> {
+    List<ReviewReadModel> findByCompanyIdIn(Collection<Long> companyIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ReviewReadModel r where r.companyId in :companyIds")
+    int deleteByCompanyIdIn(@Param("companyIds") Collection<Long> companyIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ReviewReadModel r where r.companyId in :companyIds and r.id not in :reviewIds")
+    int deleteByCompanyIdInAndIdNotIn(@Param("companyIds") Collection<Long> companyIds, @Param("reviewIds") Collection<Long> reviewIds);
+}
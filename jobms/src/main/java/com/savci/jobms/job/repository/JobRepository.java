@@ -1,14 +1,66 @@
 package com.savci.jobms.job.repository;
 
 import com.savci.jobms.job.entity.Job;
+import com.savci.jobms.job.entity.JobSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
-public interface JobRepository extends JpaRepository<Job, Long> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job> {
+    String EXPORT_FETCH_SIZE = "500";
+
+    List<Job> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<JobSummary> findSummaryByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    Optional<JobSummary> findSummaryById(Long id);
+
+    @Query("select j.version from Job j where j.id=:id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select j from Job j order by j.id")
+    Stream<Job> streamAll();
+
+    @Query(value = "select j.* from job j, websearch_to_tsquery('english', :query) q where j.search_vector @@ q " +
+            "order by ts_rank(j.search_vector, q) desc, j.id offset :offset limit :limit", nativeQuery = true)
+    List<Job> searchByText(@Param("query") String query, @Param("offset") int offset, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query("update Job j set j.name=:#{#job.name}, j.description=:#{#job.description}, j.minSalary=:#{#job.minSalary}, " +
+            "j.maxSalary=:#{#job.maxSalary}, j.location=:#{#job.location}, j.companyId=:#{#job.companyId}, j.version=j.version+1 where j.id=:id")
+    int updateJobById(@Param("id") Long id, @Param("job") Job job);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Job j where j.id=:id")
+    int deleteJobById(@Param("id") Long id);
+
+    @Query("select j.id from Job j where j.companyId=:companyId and j.id>:after order by j.id")
+    List<Long> findIdsByCompanyIdAfter(@Param("companyId") Long companyId, @Param("after") Long after, Limit limit);
+
+    @Modifying
+    @Query("delete from Job j where j.companyId=:companyId and j.id between :fromId and :toId")
+    int deleteByCompanyIdAndIdBetween(@Param("companyId") Long companyId, @Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Transactional
     @Modifying
-    @Query("delete from Job j where j.companyId=:companyId")
-    void deleteByCompanyId(@Param("companyId") Long companyId);
+    @Query("delete from Job j where j.companyId in :companyIds")
+    int deleteByCompanyIdIn(@Param("companyIds") Collection<Long> companyIds);
 }
@@ -0,0 +1,28 @@
+package com.savci.jobms.job.repository;
+
+import com.savci.jobms.job.entity.Job;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class JobSpecifications {
+    public static final Sort BY_ID = Sort.by(Sort.Direction.ASC, "id");
+
+    private JobSpecifications() {
+    }
+
+    public static Specification<Job> idGreaterThan(Long id) {
+        return (root, query, builder) -> builder.greaterThan(root.get("id"), id);
+    }
+
+    public static Specification<Job> minSalaryAtLeast(Long minSalary) {
+        return minSalary == null ? null : (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("minSalary"), minSalary);
+    }
+
+    public static Specification<Job> maxSalaryAtMost(Long maxSalary) {
+        return maxSalary == null ? null : (root, query, builder) -> builder.lessThanOrEqualTo(root.get("maxSalary"), maxSalary);
+    }
+
+    public static Specification<Job> locatedIn(String location) {
+        return location == null ? null : (root, query, builder) -> builder.equal(root.get("location"), location);
+    }
+}
@@ -0,0 +1,138 @@
+package com.savci.jobms.job.search;
+
+import com.savci.jobms.job.entity.Job;
+import com.savci.jobms.job.repository.JobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Inverted index over job names and descriptions for databases without full-text search such as H2.
+@Component
+@ConditionalOnProperty(prefix = "jobms.search", name = "engine", havingValue = "in-memory")
+@Slf4j
+public class InMemoryJobSearchIndex implements JobSearchIndex {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final JobRepository jobRepository;
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InMemoryJobSearchIndex(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        try(Stream<Job> jobs = jobRepository.streamAll()) {
+            jobs.forEach(this::index);
+        }
+        log.info(String.format("The in-memory search index is built with %d jobs!", documents.size()));
+    }
+
+    // Jobs deleted without passing through the index, e.g. by company, are pruned lazily until the page is filled.
+    @Override
+    public List<Job> search(String query, int offset, int limit) {
+        List<String> terms = tokenize(query).distinct().toList();
+        while(true) {
+            List<Long> rankedIds;
+            lock.readLock().lock();
+            try {
+                rankedIds = rank(terms).stream().skip(offset).limit(limit).toList();
+            } finally {
+                lock.readLock().unlock();
+            }
+            Map<Long, Job> jobs = jobRepository.findAllById(rankedIds).stream()
+                    .collect(Collectors.toMap(Job::getId, Function.identity()));
+            List<Long> staleIds = rankedIds.stream().filter(id -> !jobs.containsKey(id)).toList();
+            if(staleIds.isEmpty()) {
+                return rankedIds.stream().map(jobs::get).toList();
+            }
+            staleIds.forEach(this::remove);
+        }
+    }
+
+    @Override
+    public void index(Job job) {
+        Map<String, Integer> termWeights = new HashMap<>();
+        tokenize(job.getName()).forEach(term -> termWeights.merge(term, NAME_WEIGHT, Integer::sum));
+        tokenize(job.getDescription()).forEach(term -> termWeights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+        lock.writeLock().lock();
+        try {
+            removeDocument(job.getId());
+            documents.put(job.getId(), termWeights);
+            termWeights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(job.getId(), weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Long> rank(List<String> terms) {
+        if(terms.isEmpty()) {
+            return List.of();
+        }
+        List<Map<Long, Integer>> termPostings = terms.stream()
+                .map(term -> postings.getOrDefault(term, Map.of()))
+                .sorted(Comparator.comparingInt(Map::size))
+                .toList();
+        Map<Long, Double> scores = new HashMap<>();
+        termPostings.get(0).keySet().stream()
+                .filter(id -> termPostings.stream().allMatch(posting -> posting.containsKey(id)))
+                .forEach(id -> scores.put(id, termPostings.stream()
+                        .mapToDouble(posting -> posting.get(id) * Math.log(1.0D + (double) documents.size() / posting.size()))
+                        .sum()));
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private void removeDocument(Long jobId) {
+        Map<String, Integer> termWeights = documents.remove(jobId);
+        if(termWeights == null) {
+            return;
+        }
+        termWeights.keySet().forEach(term -> {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(jobId);
+            if(posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+    }
+
+    private static Stream<String> tokenize(String text) {
+        if(text == null) {
+            return Stream.empty();
+        }
+        return TOKEN_SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT)).filter(token -> !token.isEmpty());
+    }
+}
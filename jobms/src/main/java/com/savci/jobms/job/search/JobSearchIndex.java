@@ -0,0 +1,15 @@
+package com.savci.jobms.job.search;
+
+import com.savci.jobms.job.entity.Job;
+
+import java.util.List;
+
+public interface JobSearchIndex {
+    List<Job> search(String query, int offset, int limit);
+
+    default void index(Job job) {
+    }
+
+    default void remove(Long jobId) {
+    }
+}
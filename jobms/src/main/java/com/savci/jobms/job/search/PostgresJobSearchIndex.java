@@ -0,0 +1,22 @@
+package com.savci.jobms.job.search;
+
+import com.savci.jobms.job.entity.Job;
+import com.savci.jobms.job.repository.JobRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// The search_vector column and its GIN index are maintained by Postgres itself, so indexing is a no-op here.
+@Component
+@ConditionalOnProperty(prefix = "jobms.search", name = "engine", havingValue = "postgres", matchIfMissing = true)
+@AllArgsConstructor
+public class PostgresJobSearchIndex implements JobSearchIndex {
+    private JobRepository jobRepository;
+
+    @Override
+    public List<Job> search(String query, int offset, int limit) {
+        return jobRepository.searchByText(query, offset, limit);
+    }
+}
@@ -1,18 +1,28 @@
 package com.savci.jobms.job.service;
 
 import com.savci.jobms.job.dto.JobDTO;
+import com.savci.jobms.job.dto.JobPageDTO;
+import com.savci.jobms.job.dto.JobPageRequest;
+import com.savci.jobms.job.dto.JobSearchRequest;
+import com.savci.jobms.job.dto.JobView;
 import com.savci.jobms.job.entity.Job;
 import com.savci.jobms.job.entity.JobId;
 import org.springframework.http.HttpStatus;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface JobService {
-    List<JobDTO> getAllJobs();
-    Map<Object, HttpStatus> getJobById(JobId id);
-    Map<String, HttpStatus> createJob(Job job);
-    Map<Object, HttpStatus> updateJobById(Job job, JobId id);
+    CompletableFuture<JobPageDTO> getAllJobs(JobPageRequest pageRequest, JobView view);
+    CompletableFuture<JobPageDTO> searchJobs(JobSearchRequest searchRequest);
+    void exportAllJobs(Consumer<JobDTO> consumer);
+    CompletableFuture<Map<Object, HttpStatus>> getJobById(JobId id, JobView view);
+    Map<Object, HttpStatus> getJobVersionById(JobId id);
+    CompletableFuture<Map<String, HttpStatus>> createJob(Job job);
+    Map<Object, HttpStatus> createJobs(List<Job> jobs);
+    CompletableFuture<Map<Object, HttpStatus>> updateJobById(Job job, JobId id);
     Map<String, HttpStatus> deleteJobById(JobId id);
-    void deleteJobByCompanyId(Long companyId);
+    void deleteJobsByCompanyIds(List<Long> companyIds);
 }
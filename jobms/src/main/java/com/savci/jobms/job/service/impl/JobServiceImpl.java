@@ -1,30 +1,65 @@
 package com.savci.jobms.job.service.impl;
 
 import com.savci.jobms.job.client.CompanyClient;
+import com.savci.jobms.job.client.RequestCoalescer;
+import com.savci.jobms.job.client.RequestHedger;
 import com.savci.jobms.job.client.ReviewClient;
+import com.savci.jobms.job.config.JobProperties;
+import com.savci.jobms.job.deletion.ChunkedJobDeleter;
 import com.savci.jobms.job.entity.CompanyId;
 import com.savci.jobms.job.external.Company;
+import com.savci.jobms.job.external.Review;
+import com.savci.jobms.job.dto.JobBulkErrorDTO;
+import com.savci.jobms.job.dto.JobBulkResultDTO;
 import com.savci.jobms.job.dto.JobDTO;
+import com.savci.jobms.job.dto.JobPageDTO;
+import com.savci.jobms.job.dto.JobPageRequest;
+import com.savci.jobms.job.dto.JobSearchRequest;
+import com.savci.jobms.job.dto.JobView;
 import com.savci.jobms.job.entity.Job;
 import com.savci.jobms.job.entity.JobId;
+import com.savci.jobms.job.entity.JobSummary;
+import com.savci.jobms.job.exception.DownstreamTimeoutException;
+import com.savci.jobms.job.readmodel.CompanyReadModelStore;
 import com.savci.jobms.job.repository.JobRepository;
+import com.savci.jobms.job.repository.JobSpecifications;
+import com.savci.jobms.job.search.JobSearchIndex;
 import com.savci.jobms.job.service.JobService;
+import com.savci.jobms.job.stale.LastKnownGoodStore;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import jakarta.persistence.EntityManager;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
 import jakarta.validation.Validator;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
@@ -34,60 +69,271 @@ public class JobServiceImpl implements JobService {
     private JobRepository jobRepository;
     private CompanyClient companyClient;
     private ReviewClient reviewClient;
+    private JobProperties jobProperties;
+    private EntityManager entityManager;
+    private Executor taskExecutor;
+    private JobSearchIndex jobSearchIndex;
+    private ChunkedJobDeleter chunkedJobDeleter;
+    private CompanyReadModelStore companyReadModelStore;
+    private RequestHedger requestHedger;
+    private RequestCoalescer requestCoalescer;
+    private LastKnownGoodStore lastKnownGoodStore;
+
+    @Override
+    @CircuitBreaker(name = "reviewBreaker", fallbackMethod = "getAllJobsFromLastKnownGood")
+    public CompletableFuture<JobPageDTO> getAllJobs(JobPageRequest pageRequest, JobView view) {
+        return findJobPage(pageRequest, view, jobDTOs -> enrichJobsAsync(jobDTOs, view));
+    }
+
+    // While the breaker is open or the downstream services miss the deadline, the page is served with the last known good relations.
+    // The fallbacks are invoked on the proxy, so they are not private in order to reach the service itself.
+    CompletableFuture<JobPageDTO> getAllJobsFromLastKnownGood(JobPageRequest pageRequest, JobView view, CallNotPermittedException exception) {
+        return findJobPage(pageRequest, view, jobDTOs -> enrichJobsFromLastKnownGood(jobDTOs, view, exception));
+    }
+
+    CompletableFuture<JobPageDTO> getAllJobsFromLastKnownGood(JobPageRequest pageRequest, JobView view, DownstreamTimeoutException exception) {
+        return findJobPage(pageRequest, view, jobDTOs -> enrichJobsFromLastKnownGood(jobDTOs, view, exception));
+    }
+
+    private CompletableFuture<JobPageDTO> findJobPage(JobPageRequest pageRequest, JobView view, Function<List<JobDTO>, CompletableFuture<List<JobDTO>>> enrich) {
+        Set<ConstraintViolation<JobPageRequest>> pageConstraintViolations = validator.validate(pageRequest);
+        if(!pageConstraintViolations.isEmpty()) {
+            log.error("Constraints of the job page request is not met when fetching in the service layer!");
+            throw new ConstraintViolationException(pageConstraintViolations);
+        }
+        validateView(view);
+        JobProperties.Pagination pagination = jobProperties.getPagination();
+        int limit = pageRequest.getLimit() == null ? pagination.getDefaultPageSize() : Math.min(pageRequest.getLimit(), pagination.getMaxPageSize());
+        long after = pageRequest.getAfter() == null ? 0L : pageRequest.getAfter();
+        List<JobDTO> jobs = view.needsDescription()
+                ? findJobs(pageRequest, after, limit + 1)
+                : findJobSummaries(pageRequest, after, limit + 1);
+        Long next = null;
+        if(jobs.size() > limit) {
+            jobs = jobs.subList(0, limit);
+            next = jobs.get(limit - 1).getId();
+        }
+        Long nextCursor = next;
+        log.info(String.format("Fetch the page of %d job-company data transfer objects after the job id %d operation is successfully done in the service layer!", jobs.size(), after));
+        return enrich.apply(jobs).thenApply(jobDTOs -> new JobPageDTO(jobDTOs, limit, nextCursor));
+    }
 
     @Override
-    @RateLimiter(name = "companyBreaker")
     @CircuitBreaker(name = "reviewBreaker")
-    public List<JobDTO> getAllJobs() {
-        log.info("Fetch all the job-company data transfer objects operation is successfully done in the service layer!");
-        return jobRepository.findAll().stream().map(job -> JobDTO.createJobDTO(job, companyClient.getCompany(job.getCompanyId()), reviewClient.getReviews(job.getCompanyId()))).toList();
+    public CompletableFuture<JobPageDTO> searchJobs(JobSearchRequest searchRequest) {
+        Set<ConstraintViolation<JobSearchRequest>> searchConstraintViolations = validator.validate(searchRequest);
+        if(!searchConstraintViolations.isEmpty()) {
+            log.error("Constraints of the job search request is not met when searching in the service layer!");
+            throw new ConstraintViolationException(searchConstraintViolations);
+        }
+        JobProperties.Pagination pagination = jobProperties.getPagination();
+        int limit = searchRequest.getLimit() == null ? pagination.getDefaultPageSize() : Math.min(searchRequest.getLimit(), pagination.getMaxPageSize());
+        int offset = searchRequest.getOffset() == null ? 0 : searchRequest.getOffset();
+        List<Job> jobs = jobSearchIndex.search(searchRequest.getQ(), offset, limit + 1);
+        Long next = null;
+        if(jobs.size() > limit) {
+            jobs = jobs.subList(0, limit);
+            next = (long) offset + limit;
+        }
+        Long nextOffset = next;
+        log.info(String.format("Search of %d ranked job-company data transfer objects at the offset %d operation is successfully done in the service layer!", jobs.size(), offset));
+        return enrichJobsAsync(toJobDTOs(jobs), new JobView()).thenApply(jobDTOs -> new JobPageDTO(jobDTOs, limit, nextOffset));
+    }
+
+    private List<JobDTO> findJobs(JobPageRequest pageRequest, long after, int limit) {
+        List<Job> jobs = pageRequest.isFiltered()
+                ? jobRepository.findBy(createSpecification(pageRequest, after), query -> query.sortBy(JobSpecifications.BY_ID).limit(limit).all())
+                : jobRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit));
+        return toJobDTOs(jobs);
+    }
+
+    // The description is the only unbounded column, so the projection leaves it out when it is not requested.
+    private List<JobDTO> findJobSummaries(JobPageRequest pageRequest, long after, int limit) {
+        List<JobSummary> jobs = pageRequest.isFiltered()
+                ? jobRepository.findBy(createSpecification(pageRequest, after), query -> query.as(JobSummary.class).sortBy(JobSpecifications.BY_ID).limit(limit).all())
+                : jobRepository.findSummaryByIdGreaterThanOrderByIdAsc(after, Limit.of(limit));
+        return jobs.stream().map(job -> JobDTO.createJobDTO(job, null, null)).collect(Collectors.toList());
+    }
+
+    private Specification<Job> createSpecification(JobPageRequest pageRequest, long after) {
+        return Specification.where(JobSpecifications.idGreaterThan(after))
+                .and(JobSpecifications.minSalaryAtLeast(pageRequest.getMinSalary()))
+                .and(JobSpecifications.maxSalaryAtMost(pageRequest.getMaxSalary()))
+                .and(JobSpecifications.locatedIn(pageRequest.getLocation()));
+    }
+
+    private void validateView(JobView view) {
+        Set<ConstraintViolation<JobView>> viewConstraintViolations = validator.validate(view);
+        if(!viewConstraintViolations.isEmpty()) {
+            log.error("Constraints of the job view is not met when fetching in the service layer!");
+            throw new ConstraintViolationException(viewConstraintViolations);
+        }
     }
 
     @Override
-    @RateLimiter(name = "companyBreaker")
     @CircuitBreaker(name = "reviewBreaker")
-    public Map<Object, HttpStatus> getJobById(JobId id) {
+    @Transactional(readOnly = true)
+    public void exportAllJobs(Consumer<JobDTO> consumer) {
+        int chunkSize = jobProperties.getExport().getChunkSize();
+        List<Job> chunk = new ArrayList<>(chunkSize);
+        long exportedJobs = 0;
+        try(Stream<Job> jobs = jobRepository.streamAll()) {
+            for(Job job : (Iterable<Job>) jobs::iterator) {
+                chunk.add(job);
+                if(chunk.size() == chunkSize) {
+                    exportedJobs += exportChunk(chunk, consumer);
+                }
+            }
+        }
+        exportedJobs += exportChunk(chunk, consumer);
+        log.info(String.format("Export of %d job-company data transfer objects operation is successfully done in the service layer!", exportedJobs));
+    }
+
+    @Override
+    @CircuitBreaker(name = "reviewBreaker", fallbackMethod = "getJobByIdFromLastKnownGood")
+    public CompletableFuture<Map<Object, HttpStatus>> getJobById(JobId id, JobView view) {
+        return findJobById(id, view, jobDTO -> enrichJobAsync(jobDTO, view));
+    }
+
+    CompletableFuture<Map<Object, HttpStatus>> getJobByIdFromLastKnownGood(JobId id, JobView view, CallNotPermittedException exception) {
+        return findJobById(id, view, jobDTO -> enrichJobsFromLastKnownGood(List.of(jobDTO), view, exception).thenApply(jobDTOs -> jobDTO));
+    }
+
+    CompletableFuture<Map<Object, HttpStatus>> getJobByIdFromLastKnownGood(JobId id, JobView view, DownstreamTimeoutException exception) {
+        return findJobById(id, view, jobDTO -> enrichJobsFromLastKnownGood(List.of(jobDTO), view, exception).thenApply(jobDTOs -> jobDTO));
+    }
+
+    private CompletableFuture<Map<Object, HttpStatus>> findJobById(JobId id, JobView view, Function<JobDTO, CompletableFuture<JobDTO>> enrich) {
         Set<ConstraintViolation<JobId>> idConstraintViolations = validator.validate(id);
         if(!idConstraintViolations.isEmpty()){
             log.error("Constraints of the job id is not met when fetching in the service layer!");
             throw new ConstraintViolationException(idConstraintViolations);
         }
-        if(!jobRepository.existsById(id.getId())) {
+        validateView(view);
+        JobDTO jobDTO = view.needsDescription()
+                ? jobRepository.findById(id.getId()).map(job -> JobDTO.createJobDTO(job, null, null)).orElse(null)
+                : jobRepository.findSummaryById(id.getId()).map(job -> JobDTO.createJobDTO(job, null, null)).orElse(null);
+        if(jobDTO == null) {
             log.error("The job is not found in the job repository when querying in the service layer!");
-            return Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND);
+            return CompletableFuture.completedFuture(Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND));
         }
-        Job job = jobRepository.findById(id.getId()).orElse(null);
-        assert job != null;
-        Company company = companyClient.getCompany(job.getCompanyId());
-        if(company == null) {
-            log.error("The company which belongs to the job is not found when querying in the service layer!");
-            return Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND);
+        return enrich.apply(jobDTO).thenApply(enrichedJobDTO -> {
+            if(view.includesCompany() && enrichedJobDTO.getCompany() == null) {
+                log.error("The company which belongs to the job is not found when querying in the service layer!");
+                return Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND);
+            }
+            log.info(String.format("The job-company data transfer object with the id %d is created successfully in the service layer!", id.getId()));
+            return Collections.singletonMap(enrichedJobDTO, HttpStatus.OK);
+        });
+    }
+
+    private CompletableFuture<JobDTO> enrichJobAsync(JobDTO jobDTO, JobView view) {
+        CompletableFuture<Company> companyFuture = view.includesCompany()
+                ? fetchCompany(jobDTO.getCompanyId())
+                : CompletableFuture.completedFuture(null);
+        CompletableFuture<List<Review>> reviewsFuture = view.includesReviews()
+                ? fetchReviews(jobDTO.getCompanyId())
+                : CompletableFuture.completedFuture(null);
+        return companyFuture.thenCombine(reviewsFuture, (company, reviews) -> {
+            jobDTO.setCompany(company);
+            jobDTO.setReviews(reviews);
+            return jobDTO;
+        });
+    }
+
+    @Override
+    public Map<Object, HttpStatus> getJobVersionById(JobId id) {
+        Set<ConstraintViolation<JobId>> idConstraintViolations = validator.validate(id);
+        if(!idConstraintViolations.isEmpty()){
+            log.error("Constraints of the job id is not met when fetching the version in the service layer!");
+            throw new ConstraintViolationException(idConstraintViolations);
+        }
+        Long version = jobRepository.findVersionById(id.getId()).orElse(null);
+        if(version == null) {
+            log.error("The job is not found in the job repository when querying the version in the service layer!");
+            return Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND);
         }
-        log.info(String.format("The job-company data transfer object with the id %d is created successfully in the service layer!", id.getId()));
-        return Collections.singletonMap(JobDTO.createJobDTO(job, company, reviewClient.getReviews(job.getCompanyId())), HttpStatus.OK);
+        log.info(String.format("The version of the job with the id %d is fetched successfully in the service layer!", id.getId()));
+        return Collections.singletonMap(version, HttpStatus.OK);
     }
 
     @Override
-    @RateLimiter(name = "companyBreaker")
-    public Map<String, HttpStatus> createJob(@Valid Job job) {
+    public CompletableFuture<Map<String, HttpStatus>> createJob(@Valid Job job) {
         if(job == null) {
             log.error("The job is not valid upon the creation in the service layer!");
-            return Collections.singletonMap("The job is not valid!", HttpStatus.BAD_REQUEST);
+            return CompletableFuture.completedFuture(Collections.singletonMap("The job is not valid!", HttpStatus.BAD_REQUEST));
+        }
+        return supplyDownstream(RequestHedger.COMPANY_CLIENT, job.getCompanyId(), () -> companyClient.getCompanyAsync(job.getCompanyId())).thenApply(company -> {
+            if(company == null) {
+                log.error("The company which belongs to the job is not found when querying in the service layer!");
+                return Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND);
+            }
+            // A versioned entity with an id would be merged as a detached one, so the id of a new job is always generated.
+            job.setId(null);
+            jobRepository.save(job);
+            jobSearchIndex.index(job);
+            log.info("The job is created successfully in the service layer!");
+            return Collections.singletonMap("The job is created successfully!", HttpStatus.CREATED);
+        });
+    }
+
+    @Override
+    @Transactional
+    public Map<Object, HttpStatus> createJobs(List<Job> jobs) {
+        if(jobs == null || jobs.isEmpty()) {
+            log.error("The jobs are not valid upon the bulk creation in the service layer!");
+            return Collections.singletonMap("The jobs are not valid!", HttpStatus.BAD_REQUEST);
         }
-        Company company = companyClient.getCompany(job.getCompanyId());
-        if(company == null) {
-            log.error("The company which belongs to the job is not found when querying in the service layer!");
-            return Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND);
+        JobProperties.Bulk bulk = jobProperties.getBulk();
+        if(jobs.size() > bulk.getMaxSize()) {
+            log.error("The number of jobs exceeds the bulk limit upon the bulk creation in the service layer!");
+            return Collections.singletonMap(String.format("The number of jobs should not exceed %d!", bulk.getMaxSize()), HttpStatus.PAYLOAD_TOO_LARGE);
         }
-        jobRepository.save(job);
-        log.info("The job is created successfully in the service layer!");
-        return Collections.singletonMap("The job is created successfully!", HttpStatus.CREATED);
+        List<JobBulkErrorDTO> errors = new ArrayList<>();
+        Map<Integer, Job> validJobs = new LinkedHashMap<>();
+        for(int index = 0; index < jobs.size(); index++) {
+            Job job = jobs.get(index);
+            if(job == null) {
+                errors.add(new JobBulkErrorDTO(index, List.of("The job is not valid!")));
+                continue;
+            }
+            Set<ConstraintViolation<Job>> jobConstraintViolations = validator.validate(job);
+            if(!jobConstraintViolations.isEmpty()) {
+                errors.add(new JobBulkErrorDTO(index, jobConstraintViolations.stream().map(ConstraintViolation::getMessage).toList()));
+                continue;
+            }
+            validJobs.put(index, job);
+        }
+        Set<Long> companyIds = validJobs.values().stream().map(Job::getCompanyId).collect(Collectors.toSet());
+        Set<Long> existingCompanyIds = companyIds.isEmpty() ? Collections.emptySet() : companyClient.getCompanies(companyIds).stream()
+                .map(Company::getId)
+                .collect(Collectors.toSet());
+        List<Long> created = new ArrayList<>();
+        for(Map.Entry<Integer, Job> entry : validJobs.entrySet()) {
+            Job job = entry.getValue();
+            if(!existingCompanyIds.contains(job.getCompanyId())) {
+                errors.add(new JobBulkErrorDTO(entry.getKey(), List.of("The company is not found!")));
+                continue;
+            }
+            job.setId(null);
+            entityManager.persist(job);
+            jobSearchIndex.index(job);
+            created.add(job.getId());
+            if(created.size() % bulk.getBatchSize() == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        errors.sort(Comparator.comparing(JobBulkErrorDTO::getIndex));
+        log.info(String.format("The %d of %d jobs are created in batches of %d in the service layer!", created.size(), jobs.size(), bulk.getBatchSize()));
+        HttpStatus status = errors.isEmpty() ? HttpStatus.CREATED : created.isEmpty() ? HttpStatus.UNPROCESSABLE_ENTITY : HttpStatus.MULTI_STATUS;
+        return Collections.singletonMap(new JobBulkResultDTO(created, errors), status);
     }
 
     @Override
-    @RateLimiter(name = "companyBreaker")
     @CircuitBreaker(name = "reviewBreaker")
-    public Map<Object, HttpStatus> updateJobById(@Valid Job job, JobId id) {
+    public CompletableFuture<Map<Object, HttpStatus>> updateJobById(@Valid Job job, JobId id) {
         Set<ConstraintViolation<JobId>> idConstraintViolations = validator.validate(id);
         if(!idConstraintViolations.isEmpty()) {
             log.error("Constraints of the job id is not met when updating in the service layer!");
@@ -95,28 +341,29 @@ public class JobServiceImpl implements JobService {
         }
         if(job == null) {
             log.error("The job is not valid upon the update in the service layer!");
-            return Collections.singletonMap("The job is not valid!", HttpStatus.BAD_REQUEST);
+            return CompletableFuture.completedFuture(Collections.singletonMap("The job is not valid!", HttpStatus.BAD_REQUEST));
         }
-        Company company = companyClient.getCompany(job.getCompanyId());
-        if(company == null) {
-            log.error("The company which belongs to the job is not found when querying in the service layer!");
-            return Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND);
+        Set<ConstraintViolation<Job>> jobConstraintViolations = validator.validate(job);
+        if(!jobConstraintViolations.isEmpty()) {
+            log.error("Constraints of the job is not met when updating in the service layer!");
+            throw new ConstraintViolationException(jobConstraintViolations);
         }
-        if(!jobRepository.existsById(id.getId())) {
-            log.error("The job is not found in the job repository when querying in the service layer!");
-            return Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND);
-        }
-        Job updatedJob = jobRepository.findById(id.getId()).orElse(null);
-        assert updatedJob != null;
-        Company updatedCompany = companyClient.getCompany(updatedJob.getCompanyId());
-        if(updatedCompany == null) {
-            log.error("The updated company which belongs to the job is not found when querying in the service layer!");
-            return Collections.singletonMap("The updated company is not found!", HttpStatus.NOT_FOUND);
-        }
-        updatedJob.copy(job);
-        jobRepository.save(updatedJob);
-        log.info("The job is updated successfully in the service layer!");
-        return Collections.singletonMap(JobDTO.createJobDTO(updatedJob, company, reviewClient.getReviews(job.getCompanyId())), HttpStatus.OK);
+        CompletableFuture<Company> companyFuture = supplyDownstream(RequestHedger.COMPANY_CLIENT, job.getCompanyId(), () -> companyClient.getCompanyAsync(job.getCompanyId()));
+        CompletableFuture<List<Review>> reviewsFuture = supplyDownstream(RequestHedger.REVIEW_CLIENT, job.getCompanyId(), () -> reviewClient.getReviewsAsync(job.getCompanyId()));
+        return companyFuture.thenCombine(reviewsFuture, (company, reviews) -> {
+            if(company == null) {
+                log.error("The company which belongs to the job is not found when querying in the service layer!");
+                return Collections.singletonMap("The company is not found!", HttpStatus.NOT_FOUND);
+            }
+            if(jobRepository.updateJobById(id.getId(), job) == 0) {
+                log.error("The job is not found in the job repository when updating in the service layer!");
+                return Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND);
+            }
+            job.setId(id.getId());
+            jobSearchIndex.index(job);
+            log.info("The job is updated successfully in the service layer!");
+            return Collections.singletonMap(JobDTO.createJobDTO(job, company, reviews), HttpStatus.OK);
+        });
     }
 
     @Override
@@ -126,24 +373,194 @@ public class JobServiceImpl implements JobService {
             log.error("Constraints of the job id is not met when deleting in the service layer!");
             throw new ConstraintViolationException(idConstraintViolations);
         }
-        if(!jobRepository.existsById(id.getId())) {
-            log.error("The job is not found in the job repository when querying in the service layer!");
+        if(jobRepository.deleteJobById(id.getId()) == 0) {
+            log.error("The job is not found in the job repository when deleting in the service layer!");
             return Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND);
         }
-        jobRepository.deleteById(id.getId());
+        jobSearchIndex.remove(id.getId());
         log.info("The job is deleted successfully in the service layer!");
         return Collections.singletonMap("The job is deleted successfully!", HttpStatus.OK);
     }
 
     @Override
-    @Transactional
-    public void deleteJobByCompanyId(Long companyId) {
-        CompanyId id = new CompanyId(companyId);
-        Set<ConstraintViolation<CompanyId>> idConstraintViolations = validator.validate(id);
-        if(!idConstraintViolations.isEmpty()) {
-            log.error("Constraints of the job id is not met when deleting in the service layer!");
-            throw new ConstraintViolationException(idConstraintViolations);
+    public void deleteJobsByCompanyIds(List<Long> companyIds) {
+        Set<Long> validCompanyIds = new HashSet<>();
+        for(Long companyId : companyIds) {
+            if(!validator.validate(new CompanyId(companyId)).isEmpty()) {
+                log.error(String.format("Constraints of the company id %s is not met when deleting in the service layer!", companyId));
+                continue;
+            }
+            validCompanyIds.add(companyId);
+        }
+        if(validCompanyIds.isEmpty()) {
+            return;
+        }
+        JobProperties.JobDelete jobDelete = jobProperties.getJobDelete();
+        if(jobDelete.isChunked()) {
+            validCompanyIds.forEach(companyId -> deleteJobsInChunks(companyId, jobDelete.getChunkSize()));
+            return;
+        }
+        int deletedJobs = jobRepository.deleteByCompanyIdIn(validCompanyIds);
+        log.info(String.format("The %d jobs of %d companies are deleted in the service layer!", deletedJobs, validCompanyIds.size()));
+    }
+
+    private void deleteJobsInChunks(Long companyId, int chunkSize) {
+        chunkedJobDeleter.begin(companyId);
+        int chunks = 0;
+        while(chunkedJobDeleter.deleteNextChunk(companyId, chunkSize)) {
+            chunks++;
+        }
+        log.info(String.format("The jobs of the company with the id %d are deleted in %d chunks in the service layer!", companyId, chunks));
+    }
+
+    // With the read model enabled a company which is not stored yet is still read from the downstream service.
+    private CompletableFuture<Company> fetchCompany(Long companyId) {
+        List<Company> storedCompanies = jobProperties.getReadModel().isEnabled() ? companyReadModelStore.getCompanies(Set.of(companyId)) : null;
+        if(storedCompanies != null) {
+            return CompletableFuture.completedFuture(storedCompanies.stream().findFirst().orElse(null));
+        }
+        return supplyDownstream(RequestHedger.COMPANY_CLIENT, companyId, () -> companyClient.getCompanyAsync(companyId).thenApply(company -> lastKnownGoodStore.rememberCompany(companyId, company)));
+    }
+
+    private CompletableFuture<List<Review>> fetchReviews(Long companyId) {
+        List<Review> storedReviews = jobProperties.getReadModel().isEnabled() ? companyReadModelStore.getReviews(Set.of(companyId)) : null;
+        if(storedReviews != null) {
+            return CompletableFuture.completedFuture(storedReviews);
+        }
+        return supplyDownstream(RequestHedger.REVIEW_CLIENT, companyId, () -> reviewClient.getReviewsAsync(companyId).thenApply(reviews -> lastKnownGoodStore.rememberReviews(companyId, reviews)));
+    }
+
+    private CompletableFuture<List<Company>> fetchCompanies(Set<Long> companyIds) {
+        List<Company> storedCompanies = jobProperties.getReadModel().isEnabled() ? companyReadModelStore.getCompanies(companyIds) : null;
+        if(storedCompanies != null) {
+            return CompletableFuture.completedFuture(storedCompanies);
+        }
+        return supplyDownstream(RequestHedger.COMPANY_CLIENT, companyIds, () -> companyClient.getCompaniesAsync(companyIds).thenApply(companies -> lastKnownGoodStore.rememberCompanies(companyIds, companies)));
+    }
+
+    private CompletableFuture<List<Review>> fetchReviews(Set<Long> companyIds) {
+        List<Review> storedReviews = jobProperties.getReadModel().isEnabled() ? companyReadModelStore.getReviews(companyIds) : null;
+        if(storedReviews != null) {
+            return CompletableFuture.completedFuture(storedReviews);
         }
-        jobRepository.deleteByCompanyId(companyId);
+        return supplyDownstream(RequestHedger.REVIEW_CLIENT, companyIds, () -> reviewClient.getReviewsByCompanyIdsAsync(companyIds).thenApply(reviews -> lastKnownGoodStore.rememberReviews(companyIds, reviews)));
+    }
+
+    // Downstream calls are asynchronous, so neither the request threads nor the task executor wait on their I/O.
+    // They are all idempotent reads keyed by their arguments, so concurrent identical calls share one request
+    // and a slow one may be hedged by a second request. The reads remember their answers as the last known good
+    // ones within the call, so an answer which arrives after the deadline still refreshes them.
+    private <T> CompletableFuture<T> supplyDownstream(String client, Object key, Supplier<CompletableFuture<T>> supplier) {
+        return continueOnTaskExecutor(requestCoalescer.coalesce(client, key, () -> requestHedger.supply(client, supplier))
+                .orTimeout(jobProperties.getDownstream().getTimeout().toNanos(), TimeUnit.NANOSECONDS))
+                .exceptionally(this::rethrowDownstreamFailure);
+    }
+
+    // The answers complete on the I/O threads of the HTTP client or on the timer of the deadline, so the work which
+    // follows them is handed back to the task executor. When it is saturated the call fails with the rejection instead.
+    private <T> CompletableFuture<T> continueOnTaskExecutor(CompletableFuture<T> future) {
+        CompletableFuture<T> continuation = new CompletableFuture<>();
+        future.whenComplete((value, throwable) -> {
+            try {
+                taskExecutor.execute(() -> {
+                    if(throwable != null) {
+                        continuation.completeExceptionally(throwable);
+                    } else {
+                        continuation.complete(value);
+                    }
+                });
+            } catch(RejectedExecutionException exception) {
+                log.error("The task executor is saturated when continuing the downstream call in the service layer!");
+                continuation.completeExceptionally(exception);
+            }
+        });
+        return continuation;
+    }
+
+    private <T> T rethrowDownstreamFailure(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        if(cause instanceof TimeoutException) {
+            log.error("The downstream call is not completed before the deadline in the service layer!");
+            throw new DownstreamTimeoutException("The downstream services did not respond in time!");
+        }
+        if(cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        throw new CompletionException(cause);
+    }
+
+    private int exportChunk(List<Job> chunk, Consumer<JobDTO> consumer) {
+        int chunkSize = chunk.size();
+        if(chunkSize == 0) {
+            return 0;
+        }
+        enrichJobs(toJobDTOs(chunk)).forEach(consumer);
+        chunk.clear();
+        entityManager.clear();
+        return chunkSize;
+    }
+
+    private List<JobDTO> toJobDTOs(List<Job> jobs) {
+        return jobs.stream().map(job -> JobDTO.createJobDTO(job, null, null)).collect(Collectors.toList());
+    }
+
+    private List<JobDTO> enrichJobs(List<JobDTO> jobDTOs) {
+        if(jobDTOs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<Long> companyIds = jobDTOs.stream().map(JobDTO::getCompanyId).collect(Collectors.toSet());
+        boolean readModelEnabled = jobProperties.getReadModel().isEnabled();
+        List<Company> companies = readModelEnabled ? companyReadModelStore.getCompanies(companyIds) : null;
+        List<Review> reviews = readModelEnabled ? companyReadModelStore.getReviews(companyIds) : null;
+        return attachRelations(jobDTOs,
+                companies == null ? companyClient.getCompanies(companyIds) : companies,
+                reviews == null ? reviewClient.getReviewsByCompanyIds(companyIds) : reviews);
+    }
+
+    // Relations which are not included in the view are neither requested from the downstream services nor attached.
+    // With the read model enabled they are read from the local tables, and only the ones of companies which are not
+    // stored yet are requested from the downstream services.
+    private CompletableFuture<List<JobDTO>> enrichJobsAsync(List<JobDTO> jobDTOs, JobView view) {
+        if(jobDTOs.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        Set<Long> companyIds = jobDTOs.stream().map(JobDTO::getCompanyId).collect(Collectors.toSet());
+        CompletableFuture<List<Company>> companiesFuture = view.includesCompany() ? fetchCompanies(companyIds) : CompletableFuture.completedFuture(null);
+        CompletableFuture<List<Review>> reviewsFuture = view.includesReviews() ? fetchReviews(companyIds) : CompletableFuture.completedFuture(null);
+        return companiesFuture.thenCombine(reviewsFuture, (companies, reviews) -> attachRelations(jobDTOs, companies, reviews));
+    }
+
+    // The relations are only served stale when every one of them is known, otherwise the original failure is passed on.
+    private CompletableFuture<List<JobDTO>> enrichJobsFromLastKnownGood(List<JobDTO> jobDTOs, JobView view, RuntimeException exception) {
+        if(jobDTOs.isEmpty() || !(view.includesCompany() || view.includesReviews())) {
+            return CompletableFuture.completedFuture(jobDTOs);
+        }
+        Set<Long> companyIds = jobDTOs.stream().map(JobDTO::getCompanyId).collect(Collectors.toSet());
+        List<Company> companies = view.includesCompany() ? lastKnownGoodStore.getCompanies(companyIds) : null;
+        List<Review> reviews = view.includesReviews() ? lastKnownGoodStore.getReviews(companyIds) : null;
+        if((view.includesCompany() && companies == null) || (view.includesReviews() && reviews == null)) {
+            log.error("The last known good relations of the jobs are not known when serving them stale in the service layer!");
+            return CompletableFuture.failedFuture(exception);
+        }
+        log.info(String.format("The %d jobs are served with the last known good relations in the service layer!", jobDTOs.size()));
+        attachRelations(jobDTOs, companies, reviews).forEach(jobDTO -> jobDTO.setStale(true));
+        return CompletableFuture.completedFuture(jobDTOs);
+    }
+
+    private List<JobDTO> attachRelations(List<JobDTO> jobDTOs, List<Company> companyList, List<Review> reviewList) {
+        Map<Long, Company> companies = companyList == null ? Collections.emptyMap() : companyList.stream()
+                .collect(Collectors.toMap(Company::getId, Function.identity(), (first, second) -> first));
+        Map<Long, List<Review>> reviews = reviewList == null ? Collections.emptyMap() : reviewList.stream()
+                .collect(Collectors.groupingBy(Review::getCompanyId));
+        log.info(String.format("The %d jobs are enriched with %d distinct companies in the service layer!", jobDTOs.size(), companies.size()));
+        jobDTOs.forEach(jobDTO -> {
+            if(companyList != null) {
+                jobDTO.setCompany(companies.get(jobDTO.getCompanyId()));
+            }
+            if(reviewList != null) {
+                jobDTO.setReviews(reviews.getOrDefault(jobDTO.getCompanyId(), Collections.emptyList()));
+            }
+        });
+        return jobDTOs;
     }
 }
@@ -0,0 +1,65 @@
+package com.savci.jobms.job.stale;
+
+import com.savci.jobms.job.client.CompanyClient;
+import com.savci.jobms.job.client.ReviewClient;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+// Once the breaker half-opens, the companies and reviews which were served stale are read again in the background. The
+// reads go through the breaker, so they are among the trial calls which decide whether it closes again. They are
+// asynchronous, so the refresh holds no thread while waiting for the downstream services.
+@Component
+@AllArgsConstructor
+@Slf4j
+public class LastKnownGoodRefresher {
+    public static final String BREAKER = "reviewBreaker";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final LastKnownGoodStore lastKnownGoodStore;
+    private final CompanyClient companyClient;
+    private final ReviewClient reviewClient;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(BREAKER);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            if(event.getStateTransition().getToState() == CircuitBreaker.State.HALF_OPEN) {
+                refresh(circuitBreaker);
+            }
+        });
+    }
+
+    public void refresh(CircuitBreaker circuitBreaker) {
+        Set<Long> companyIds = lastKnownGoodStore.takeStaleCompanyIds();
+        if(!companyIds.isEmpty()) {
+            circuitBreaker.executeCompletionStage(() -> companyClient.getCompaniesAsync(companyIds)).whenComplete((companies, throwable) -> {
+                if(throwable != null) {
+                    lastKnownGoodStore.markCompaniesStale(companyIds);
+                    log.error("The last known good data of the companies is not refreshed while the breaker is half-open!");
+                    return;
+                }
+                lastKnownGoodStore.rememberCompanies(companyIds, companies);
+                log.info(String.format("The last known good data of %d companies is refreshed.", companyIds.size()));
+            });
+        }
+        Set<Long> reviewCompanyIds = lastKnownGoodStore.takeStaleReviewCompanyIds();
+        if(!reviewCompanyIds.isEmpty()) {
+            circuitBreaker.executeCompletionStage(() -> reviewClient.getReviewsByCompanyIdsAsync(reviewCompanyIds)).whenComplete((reviews, throwable) -> {
+                if(throwable != null) {
+                    lastKnownGoodStore.markReviewsStale(reviewCompanyIds);
+                    log.error("The last known good reviews of the companies are not refreshed while the breaker is half-open!");
+                    return;
+                }
+                lastKnownGoodStore.rememberReviews(reviewCompanyIds, reviews);
+                log.info(String.format("The last known good reviews of %d companies are refreshed.", reviewCompanyIds.size()));
+            });
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.savci.jobms.job.stale;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.savci.jobms.job.client.RequestHedger;
+import com.savci.jobms.job.config.JobProperties;
+import com.savci.jobms.job.external.Company;
+import com.savci.jobms.job.external.Review;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// Keeps the last successful company and review responses of the downstream services, so that reads can still be answered
+// with stale relations while the downstream services are unavailable. Unlike the response caches it is never read while
+// the downstream services answer, and the companies which are served from it are remembered until they are revalidated.
+@Component
+public class LastKnownGoodStore {
+    private final JobProperties jobProperties;
+    private final Cache<Long, Company> companies;
+    private final Cache<Long, List<Review>> reviews;
+    private final Set<Long> staleCompanyIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> staleReviewCompanyIds = ConcurrentHashMap.newKeySet();
+    private final Counter servedCompanies;
+    private final Counter servedReviews;
+
+    public LastKnownGoodStore(JobProperties jobProperties, MeterRegistry meterRegistry) {
+        JobProperties.StaleFallback staleFallback = jobProperties.getStaleFallback();
+        this.jobProperties = jobProperties;
+        this.companies = Caffeine.newBuilder().maximumSize(staleFallback.getMaxSize()).expireAfterWrite(staleFallback.getMaxAge()).build();
+        this.reviews = Caffeine.newBuilder().maximumSize(staleFallback.getMaxSize()).expireAfterWrite(staleFallback.getMaxAge()).build();
+        this.servedCompanies = Counter.builder("jobms.downstream.stale.served").tag("client", RequestHedger.COMPANY_CLIENT).register(meterRegistry);
+        this.servedReviews = Counter.builder("jobms.downstream.stale.served").tag("client", RequestHedger.REVIEW_CLIENT).register(meterRegistry);
+    }
+
+    // A company which is not found any more is forgotten, so that a deleted company is never served stale.
+    public Company rememberCompany(Long companyId, Company company) {
+        rememberCompanies(Set.of(companyId), company == null ? Collections.emptyList() : List.of(company));
+        return company;
+    }
+
+    public List<Company> rememberCompanies(Collection<Long> companyIds, List<Company> companyList) {
+        if(!jobProperties.getStaleFallback().isEnabled() || companyList == null) {
+            return companyList;
+        }
+        Set<Long> missingCompanyIds = new HashSet<>(companyIds);
+        companyList.forEach(company -> {
+            companies.put(company.getId(), company);
+            missingCompanyIds.remove(company.getId());
+        });
+        companies.invalidateAll(missingCompanyIds);
+        staleCompanyIds.removeAll(companyIds);
+        return companyList;
+    }
+
+    public List<Review> rememberReviews(Long companyId, List<Review> reviewList) {
+        return rememberReviews(Set.of(companyId), reviewList);
+    }
+
+    // The batch endpoint only answers the companies which have reviews, so the others are remembered without reviews.
+    public List<Review> rememberReviews(Collection<Long> companyIds, List<Review> reviewList) {
+        if(!jobProperties.getStaleFallback().isEnabled() || reviewList == null) {
+            return reviewList;
+        }
+        Map<Long, List<Review>> reviewsByCompanyId = reviewList.stream().collect(Collectors.groupingBy(Review::getCompanyId));
+        companyIds.forEach(companyId -> reviews.put(companyId, List.copyOf(reviewsByCompanyId.getOrDefault(companyId, Collections.emptyList()))));
+        staleReviewCompanyIds.removeAll(companyIds);
+        return reviewList;
+    }
+
+    // Returns null unless every company is known, since a partially known page cannot be served.
+    public List<Company> getCompanies(Collection<Long> companyIds) {
+        if(!jobProperties.getStaleFallback().isEnabled()) {
+            return null;
+        }
+        Map<Long, Company> knownCompanies = companies.getAllPresent(companyIds);
+        if(knownCompanies.size() < new HashSet<>(companyIds).size()) {
+            return null;
+        }
+        staleCompanyIds.addAll(companyIds);
+        servedCompanies.increment();
+        return new ArrayList<>(knownCompanies.values());
+    }
+
+    // Returns null unless the reviews of every company are known.
+    public List<Review> getReviews(Collection<Long> companyIds) {
+        if(!jobProperties.getStaleFallback().isEnabled()) {
+            return null;
+        }
+        Map<Long, List<Review>> knownReviews = reviews.getAllPresent(companyIds);
+        if(knownReviews.size() < new HashSet<>(companyIds).size()) {
+            return null;
+        }
+        staleReviewCompanyIds.addAll(companyIds);
+        servedReviews.increment();
+        return knownReviews.values().stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
+    // The ids are handed over to the caller, which puts them back when the revalidation fails.
+    public Set<Long> takeStaleCompanyIds() {
+        return take(staleCompanyIds);
+    }
+
+    public Set<Long> takeStaleReviewCompanyIds() {
+        return take(staleReviewCompanyIds);
+    }
+
+    public void markCompaniesStale(Collection<Long> companyIds) {
+        staleCompanyIds.addAll(companyIds);
+    }
+
+    public void markReviewsStale(Collection<Long> companyIds) {
+        staleReviewCompanyIds.addAll(companyIds);
+    }
+
+    private static Set<Long> take(Set<Long> ids) {
+        Set<Long> taken = new HashSet<>();
+        ids.removeIf(taken::add);
+        return taken;
+    }
+}
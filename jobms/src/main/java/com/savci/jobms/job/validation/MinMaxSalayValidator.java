@@ -17,6 +17,6 @@ public class MinMaxSalayValidator implements ConstraintValidator<MinMaxSalaryVal
     }
 
     private final boolean checkMinMaxSalaryConstraintViolation(Job job) {
-        return job.getMinSalary() != null && job.getMaxSalary() != null && Long.parseLong(job.getMinSalary()) > Long.parseLong(job.getMaxSalary());
+        return job.getMinSalary() != null && job.getMaxSalary() != null && job.getMinSalary() > job.getMaxSalary();
     }
 }
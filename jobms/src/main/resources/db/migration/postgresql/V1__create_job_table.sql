@@ -0,0 +1,9 @@
+create table if not exists job (
+    id bigint generated by default as identity primary key,
+    company_id bigint,
+    description varchar(255),
+    location varchar(255),
+    max_salary varchar(255),
+    min_salary varchar(255),
+    name varchar(255)
+);
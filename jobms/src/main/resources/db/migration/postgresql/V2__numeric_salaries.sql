@@ -0,0 +1,6 @@
+alter table job
+    alter column min_salary type bigint using nullif(trim(min_salary), '')::bigint,
+    alter column max_salary type bigint using nullif(trim(max_salary), '')::bigint;
+
+create index if not exists job_salary_idx on job (min_salary, max_salary);
+create index if not exists job_location_salary_idx on job (location, min_salary);
@@ -0,0 +1,7 @@
+alter table job add column if not exists search_vector tsvector
+    generated always as (
+        setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) stored;
+
+create index if not exists job_search_idx on job using gin (search_vector);
@@ -0,0 +1,4 @@
+create sequence if not exists job_seq increment by 50;
+
+-- The pooled optimizer treats each sequence value as the upper bound of its block of ids.
+select setval('job_seq', coalesce((select max(id) from job), 0) + 50, false);
@@ -0,0 +1,10 @@
+create index if not exists job_company_idx on job (company_id, id);
+
+create table if not exists company_deletion (
+    company_id bigint primary key,
+    last_deleted_id bigint,
+    deleted_rows bigint,
+    status varchar(255),
+    started_at timestamp(6) with time zone,
+    updated_at timestamp(6) with time zone
+);
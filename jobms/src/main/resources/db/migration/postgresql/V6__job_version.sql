@@ -0,0 +1,2 @@
+-- Optimistic locking version which also backs the entity tag of the job.
+alter table job add column if not exists version bigint not null default 0;
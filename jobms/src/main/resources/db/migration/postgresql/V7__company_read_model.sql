@@ -0,0 +1,17 @@
+create table if not exists company_read_model (
+    company_id bigint primary key,
+    name varchar(255),
+    description varchar(255),
+    average_rating float(53),
+    updated_at timestamp(6) with time zone
+);
+
+create table if not exists review_read_model (
+    id bigint primary key,
+    company_id bigint,
+    title varchar(255),
+    description varchar(255),
+    rating float(53)
+);
+
+create index if not exists review_read_model_company_idx on review_read_model (company_id);
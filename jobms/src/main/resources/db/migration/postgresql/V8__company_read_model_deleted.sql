@@ -0,0 +1,2 @@
+-- Companies which no longer exist are kept in the read model as deleted rows, so they are not filled in on every read.
+alter table company_read_model add column if not exists deleted boolean not null default false;
@@ -1,33 +1,68 @@
 package com.savci.jobms;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.savci.jobms.job.client.BulkheadCapability;
 import com.savci.jobms.job.client.CompanyClient;
 import com.savci.jobms.job.client.ReviewClient;
+import com.savci.jobms.job.config.CacheConfig;
+import com.savci.jobms.job.config.JobProperties;
+import com.savci.jobms.job.controller.JobController;
+import com.savci.jobms.job.deletion.ChunkedJobDeleter;
+import com.savci.jobms.job.dto.JobBulkResultDTO;
 import com.savci.jobms.job.dto.JobDTO;
 import com.savci.jobms.job.entity.Job;
 import com.savci.jobms.job.entity.JobId;
 import com.savci.jobms.job.external.Company;
 import com.savci.jobms.job.external.Review;
+import com.savci.jobms.job.messaging.CompanyChangedConsumer;
+import com.savci.jobms.job.messaging.CompanyReadModelConsumer;
+import com.savci.jobms.job.messaging.JobDeleteConsumer;
+import com.savci.jobms.job.messaging.ReviewChangedConsumer;
+import com.savci.jobms.job.readmodel.CompanyReadModelRepository;
+import com.savci.jobms.job.readmodel.ReviewReadModelRepository;
 import com.savci.jobms.job.repository.JobRepository;
+import com.savci.jobms.job.stale.LastKnownGoodRefresher;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.circuitbreaker.utils.CircuitBreakerUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.reactor.IOReactorStatus;
 import org.junit.jupiter.api.*;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
 @DisplayName("It should handle the integration tests successfully.")
 class JobmsApplicationTests {
 
@@ -38,8 +73,36 @@ class JobmsApplicationTests {
 
 	private static final RestTemplate REST_TEMPLATE = new RestTemplate();
 
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
 	@Autowired
 	private JobRepository jobRepository;
+	@Autowired
+	private CacheManager cacheManager;
+	@Autowired
+	private CompanyChangedConsumer companyChangedConsumer;
+	@Autowired
+	private ReviewChangedConsumer reviewChangedConsumer;
+	@Autowired
+	private JobDeleteConsumer jobDeleteConsumer;
+	@Autowired
+	private ChunkedJobDeleter chunkedJobDeleter;
+	@Autowired
+	private CompanyReadModelConsumer companyReadModelConsumer;
+	@Autowired
+	private CompanyReadModelRepository companyReadModelRepository;
+	@Autowired
+	private ReviewReadModelRepository reviewReadModelRepository;
+	@Autowired
+	private JobProperties jobProperties;
+	@Autowired
+	private CloseableHttpAsyncClient feignHttpClient;
+	@Autowired
+	private MeterRegistry meterRegistry;
+	@Autowired
+	private BulkheadRegistry bulkheadRegistry;
+	@Autowired
+	private CircuitBreakerRegistry circuitBreakerRegistry;
 	@MockBean
 	private CompanyClient companyClient;
 	@MockBean
@@ -47,18 +110,19 @@ class JobmsApplicationTests {
 
 	private Job firstJob;
 	private Job secondJob;
+	private Job sameCompanyJob;
 	private Job nullJobName;
 	private Job blankJobName;
 	private Job nullJobDescription;
 	private Job blankJobDescription;
 	private Job nullMinSalary;
-	private Job blankMinSalary;
-	private Job alphaMinSalary;
-	private Job alphanumMinSalary;
+	private Map<String, Object> blankMinSalary;
+	private Map<String, Object> alphaMinSalary;
+	private Map<String, Object> alphanumMinSalary;
 	private Job nullMaxSalary;
-	private Job blankMaxSalary;
-	private Job alphaMaxSalary;
-	private Job alphanumMaxSalary;
+	private Map<String, Object> blankMaxSalary;
+	private Map<String, Object> alphaMaxSalary;
+	private Map<String, Object> alphanumMaxSalary;
 	private Job minMaxSalaryViolation;
 	private Job nullJobLocation;
 	private Job blankJobLocation;
@@ -69,12 +133,15 @@ class JobmsApplicationTests {
 	private JobId outOfBoundsJobId;
 
 	private Company company;
+	private Company secondCompany;
 
 	private Review firstReview;
 	private Review secondReview;
+	private Review thirdReview;
 
 	private JobDTO firstJobDTO;
 	private JobDTO secondJobDTO;
+	private JobDTO sameCompanyJobDTO;
 
 	@BeforeEach
 	@DisplayName("It sets up the data for integration tests.")
@@ -84,25 +151,33 @@ class JobmsApplicationTests {
 		firstJob = new Job();
 		firstJob.setName("Job 1");
 		firstJob.setDescription("Description 1");
-		firstJob.setMinSalary("30000");
-		firstJob.setMaxSalary("40000");
+		firstJob.setMinSalary(30000L);
+		firstJob.setMaxSalary(40000L);
 		firstJob.setLocation("Location 1");
 		firstJob.setCompanyId(1L);
 
 		secondJob = new Job();
 		secondJob.setName("Job 2");
 		secondJob.setDescription("Description 2");
-		secondJob.setMinSalary("50000");
-		secondJob.setMaxSalary("60000");
+		secondJob.setMinSalary(50000L);
+		secondJob.setMaxSalary(60000L);
 		secondJob.setLocation("Location 2");
 		secondJob.setCompanyId(2L);
 
+		sameCompanyJob = new Job();
+		sameCompanyJob.setName("Job 3");
+		sameCompanyJob.setDescription("Description 3");
+		sameCompanyJob.setMinSalary(70000L);
+		sameCompanyJob.setMaxSalary(80000L);
+		sameCompanyJob.setLocation("Location 3");
+		sameCompanyJob.setCompanyId(1L);
+
 		nullJobName = new Job();
 		nullJobName.setId(1L);
 		nullJobName.setName(null);
 		nullJobName.setDescription("Description 1");
-		nullJobName.setMinSalary("30000");
-		nullJobName.setMaxSalary("40000");
+		nullJobName.setMinSalary(30000L);
+		nullJobName.setMaxSalary(40000L);
 		nullJobName.setLocation("Location 1");
 		nullJobName.setCompanyId(1L);
 
@@ -110,8 +185,8 @@ class JobmsApplicationTests {
 		blankJobName.setId(1L);
 		blankJobName.setName("");
 		blankJobName.setDescription("Description 1");
-		blankJobName.setMinSalary("30000");
-		blankJobName.setMaxSalary("40000");
+		blankJobName.setMinSalary(30000L);
+		blankJobName.setMaxSalary(40000L);
 		blankJobName.setLocation("Location 1");
 		blankJobName.setCompanyId(1L);
 
@@ -119,8 +194,8 @@ class JobmsApplicationTests {
 		nullJobDescription.setId(1L);
 		nullJobDescription.setName("Job 1");
 		nullJobDescription.setDescription(null);
-		nullJobDescription.setMinSalary("30000");
-		nullJobDescription.setMaxSalary("40000");
+		nullJobDescription.setMinSalary(30000L);
+		nullJobDescription.setMaxSalary(40000L);
 		nullJobDescription.setLocation("Location 1");
 		nullJobDescription.setCompanyId(1L);
 
@@ -128,8 +203,8 @@ class JobmsApplicationTests {
 		blankJobDescription.setId(1L);
 		blankJobDescription.setName("Job 1");
 		blankJobDescription.setDescription("");
-		blankJobDescription.setMinSalary("30000");
-		blankJobDescription.setMaxSalary("40000");
+		blankJobDescription.setMinSalary(30000L);
+		blankJobDescription.setMaxSalary(40000L);
 		blankJobDescription.setLocation("Location 1");
 		blankJobDescription.setCompanyId(1L);
 
@@ -138,79 +213,37 @@ class JobmsApplicationTests {
 		nullMinSalary.setName("Job 1");
 		nullMinSalary.setDescription("Description 1");
 		nullMinSalary.setMinSalary(null);
-		nullMinSalary.setMaxSalary("40000");
+		nullMinSalary.setMaxSalary(40000L);
 		nullMinSalary.setLocation("Location 1");
 		nullMinSalary.setCompanyId(1L);
 
-		blankMinSalary = new Job();
-		blankMinSalary.setId(1L);
-		blankMinSalary.setName("Job 1");
-		blankMinSalary.setDescription("Description 1");
-		blankMinSalary.setMinSalary("");
-		blankMinSalary.setMaxSalary("40000");
-		blankMinSalary.setLocation("Location 1");
-		blankMinSalary.setCompanyId(1L);
-
-		alphaMinSalary = new Job();
-		alphaMinSalary.setId(1L);
-		alphaMinSalary.setName("Job 1");
-		alphaMinSalary.setDescription("Description 1");
-		alphaMinSalary.setMinSalary("abcde");
-		alphaMinSalary.setMaxSalary("40000");
-		alphaMinSalary.setLocation("Location 1");
-		alphaMinSalary.setCompanyId(1L);
-
-		alphanumMinSalary = new Job();
-		alphanumMinSalary.setId(1L);
-		alphanumMinSalary.setName("Job 1");
-		alphanumMinSalary.setDescription("Description 1");
-		alphanumMinSalary.setMinSalary("a3db2");
-		alphanumMinSalary.setMaxSalary("40000");
-		alphanumMinSalary.setLocation("Location 1");
-		alphanumMinSalary.setCompanyId(1L);
+		blankMinSalary = malformedSalaryJob("", "40000");
+
+		alphaMinSalary = malformedSalaryJob("abcde", "40000");
+
+		alphanumMinSalary = malformedSalaryJob("a3db2", "40000");
 
 		nullMaxSalary = new Job();
 		nullMaxSalary.setId(1L);
 		nullMaxSalary.setName("Job 1");
 		nullMaxSalary.setDescription("Description 1");
 		nullMaxSalary.setMaxSalary(null);
-		nullMaxSalary.setMinSalary("40000");
+		nullMaxSalary.setMinSalary(40000L);
 		nullMaxSalary.setLocation("Location 1");
 		nullMaxSalary.setCompanyId(1L);
 
-		blankMaxSalary = new Job();
-		blankMaxSalary.setId(1L);
-		blankMaxSalary.setName("Job 1");
-		blankMaxSalary.setDescription("Description 1");
-		blankMaxSalary.setMaxSalary("");
-		blankMaxSalary.setMinSalary("40000");
-		blankMaxSalary.setLocation("Location 1");
-		blankMaxSalary.setCompanyId(1L);
-
-		alphaMaxSalary = new Job();
-		alphaMaxSalary.setId(1L);
-		alphaMaxSalary.setName("Job 1");
-		alphaMaxSalary.setDescription("Description 1");
-		alphaMaxSalary.setMaxSalary("abcde");
-		alphaMaxSalary.setMinSalary("40000");
-		alphaMaxSalary.setLocation("Location 1");
-		alphaMaxSalary.setCompanyId(1L);
-
-		alphanumMaxSalary = new Job();
-		alphanumMaxSalary.setId(1L);
-		alphanumMaxSalary.setName("Job 1");
-		alphanumMaxSalary.setDescription("Description 1");
-		alphanumMaxSalary.setMaxSalary("a3db2");
-		alphanumMaxSalary.setMinSalary("40000");
-		alphanumMaxSalary.setLocation("Location 1");
-		alphanumMaxSalary.setCompanyId(1L);
+		blankMaxSalary = malformedSalaryJob("40000", "");
+
+		alphaMaxSalary = malformedSalaryJob("40000", "abcde");
+
+		alphanumMaxSalary = malformedSalaryJob("40000", "a3db2");
 
 		minMaxSalaryViolation = new Job();
 		minMaxSalaryViolation.setId(1L);
 		minMaxSalaryViolation.setName("Job 1");
 		minMaxSalaryViolation.setDescription("Description 1");
-		minMaxSalaryViolation.setMaxSalary("20000");
-		minMaxSalaryViolation.setMinSalary("40000");
+		minMaxSalaryViolation.setMaxSalary(20000L);
+		minMaxSalaryViolation.setMinSalary(40000L);
 		minMaxSalaryViolation.setLocation("Location 1");
 		minMaxSalaryViolation.setCompanyId(1L);
 
@@ -218,8 +251,8 @@ class JobmsApplicationTests {
 		nullJobLocation.setId(1L);
 		nullJobLocation.setName("Job 1");
 		nullJobLocation.setDescription("Description 1");
-		nullJobLocation.setMinSalary("30000");
-		nullJobLocation.setMaxSalary("40000");
+		nullJobLocation.setMinSalary(30000L);
+		nullJobLocation.setMaxSalary(40000L);
 		nullJobLocation.setLocation(null);
 		nullJobLocation.setCompanyId(1L);
 
@@ -227,8 +260,8 @@ class JobmsApplicationTests {
 		blankJobLocation.setId(1L);
 		blankJobLocation.setName("Job 1");
 		blankJobLocation.setDescription("Description 1");
-		blankJobLocation.setMinSalary("30000");
-		blankJobLocation.setMaxSalary("40000");
+		blankJobLocation.setMinSalary(30000L);
+		blankJobLocation.setMaxSalary(40000L);
 		blankJobLocation.setLocation("");
 		blankJobLocation.setCompanyId(1L);
 
@@ -236,8 +269,8 @@ class JobmsApplicationTests {
 		nullCompanyId.setId(1L);
 		nullCompanyId.setName("Job 1");
 		nullCompanyId.setDescription("Description 1");
-		nullCompanyId.setMinSalary("30000");
-		nullCompanyId.setMaxSalary("40000");
+		nullCompanyId.setMinSalary(30000L);
+		nullCompanyId.setMaxSalary(40000L);
 		nullCompanyId.setLocation("Location 1");
 		nullCompanyId.setCompanyId(null);
 
@@ -246,11 +279,23 @@ class JobmsApplicationTests {
 		negativeJobId = new JobId(-1L);
 		outOfBoundsJobId = new JobId(Long.MAX_VALUE);
 
+		firstReview = Review.builder().id(1L).title("Title 1").description("Description 1").rating(5D).companyId(1L).build();
+		secondReview = Review.builder().id(2L).title("Title 2").description("Description 2").rating(3.5D).companyId(1L).build();
+		thirdReview = Review.builder().id(3L).title("Title 3").description("Description 3").rating(4D).companyId(2L).build();
+
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
 
 		company = Company.builder().id(1L).name("Company 1").description("Description 1").build();
+		secondCompany = Company.builder().id(2L).name("Company 2").description("Description 2").build();
+		// The batch endpoints answer the requested companies only, like the downstream services do.
+		List<Company> companyList = List.of(company, secondCompany);
+		List<Review> allReviews = List.of(firstReview, secondReview, thirdReview);
+		Mockito.when(companyClient.getCompanies(Mockito.anyCollection())).thenAnswer(invocation -> companiesOf(companyList, invocation.getArgument(0)));
+		Mockito.when(reviewClient.getReviewsByCompanyIds(Mockito.anyCollection())).thenAnswer(invocation -> reviewsOf(allReviews, invocation.getArgument(0)));
+		Mockito.when(companyClient.getCompaniesAsync(Mockito.anyCollection())).thenAnswer(invocation -> CompletableFuture.completedFuture(companiesOf(companyList, invocation.getArgument(0))));
+		Mockito.when(reviewClient.getReviewsByCompanyIdsAsync(Mockito.anyCollection())).thenAnswer(invocation -> CompletableFuture.completedFuture(reviewsOf(allReviews, invocation.getArgument(0))));
 		firstJobDTO = JobDTO.builder()
 				.name(firstJob.getName())
 				.id(firstJob.getId())
@@ -268,32 +313,253 @@ class JobmsApplicationTests {
 				.minSalary(secondJob.getMinSalary())
 				.maxSalary(secondJob.getMaxSalary())
 				.location(secondJob.getLocation())
+				.company(secondCompany)
+				.reviews(List.of(thirdReview))
+				.build();
+		sameCompanyJobDTO = JobDTO.builder()
+				.name(sameCompanyJob.getName())
+				.id(sameCompanyJob.getId())
+				.description(sameCompanyJob.getDescription())
+				.minSalary(sameCompanyJob.getMinSalary())
+				.maxSalary(sameCompanyJob.getMaxSalary())
+				.location(sameCompanyJob.getLocation())
 				.company(company)
 				.reviews(reviewList)
 				.build();
 	}
 
+	private static List<Company> companiesOf(List<Company> companies, Collection<Long> companyIds) {
+		return companies.stream().filter(company -> companyIds.contains(company.getId())).collect(Collectors.toList());
+	}
+
+	private static List<Review> reviewsOf(List<Review> reviews, Collection<Long> companyIds) {
+		return reviews.stream().filter(review -> companyIds.contains(review.getCompanyId())).collect(Collectors.toList());
+	}
+
+	private static Map<String, Object> malformedSalaryJob(String minSalary, String maxSalary) {
+		Map<String, Object> job = new LinkedHashMap<>();
+		job.put("id", 1L);
+		job.put("name", "Job 1");
+		job.put("description", "Description 1");
+		job.put("minSalary", minSalary);
+		job.put("maxSalary", maxSalary);
+		job.put("location", "Location 1");
+		job.put("companyId", 1L);
+		return job;
+	}
+
 	@AfterEach
 	public void deleteEntities() {
 		CircuitBreaker.ofDefaults("companyBreaker").reset();
 		CircuitBreaker.ofDefaults("reviewBreaker").reset();
 		jobRepository.deleteAll();
+		jobProperties.getReadModel().setEnabled(false);
+		reviewReadModelRepository.deleteAll();
+		companyReadModelRepository.deleteAll();
+		cacheManager.getCacheNames().forEach(cacheName -> Objects.requireNonNull(cacheManager.getCache(cacheName)).clear());
+	}
+
+	@Test
+	@DisplayName("It should delete the jobs of every company in the consumed batch of company deletion messages chunk by chunk.")
+	void consumeCompanyJobDeleteBatch() {
+		jobRepository.save(firstJob);
+		secondJob.setCompanyId(2L);
+		jobRepository.save(secondJob);
+		Job thirdJob = new Job();
+		thirdJob.copy(firstJob);
+		thirdJob.setCompanyId(3L);
+		jobRepository.save(thirdJob);
+		jobDeleteConsumer.consumeMessages(List.of(1L, 2L, -1L));
+		Map<?, ?> progress = REST_TEMPLATE.getForObject("http://localhost:" + port + "/actuator/deletions/{companyId}", Map.class, 1L);
+		Assertions.assertAll("Company Job Delete Batch",
+				() -> Assertions.assertTrue(jobProperties.getJobDelete().isChunked()),
+				() -> Assertions.assertFalse(jobRepository.existsById(firstJob.getId())),
+				() -> Assertions.assertFalse(jobRepository.existsById(secondJob.getId())),
+				() -> Assertions.assertTrue(jobRepository.existsById(thirdJob.getId())),
+				() -> Assertions.assertNotNull(progress),
+				() -> Assertions.assertEquals(progress.get("status"), "COMPLETED"),
+				() -> Assertions.assertEquals(((Number) progress.get("lastDeletedId")).longValue(), firstJob.getId()));
+	}
+
+	@Test
+	@DisplayName("It should expose the progress of the chunked company job deletion through the actuator endpoint.")
+	void companyDeletionProgress() {
+		jobRepository.save(firstJob);
+		jobRepository.save(secondJob);
+		chunkedJobDeleter.begin(firstJob.getCompanyId());
+		chunkedJobDeleter.deleteNextChunk(firstJob.getCompanyId(), 1);
+		Map<?, ?> progress = REST_TEMPLATE.getForObject("http://localhost:" + port + "/actuator/deletions/{companyId}", Map.class, firstJob.getCompanyId());
+		Assertions.assertAll("Company Deletion Progress",
+				() -> Assertions.assertNotNull(progress),
+				() -> Assertions.assertEquals(progress.get("status"), "IN_PROGRESS"),
+				() -> Assertions.assertEquals(((Number) progress.get("deletedRows")).longValue(), 1L),
+				() -> Assertions.assertEquals(((Number) progress.get("lastDeletedId")).longValue(), firstJob.getId()));
+	}
+
+	@Test
+	@DisplayName("It should evict the cached company when the company changed event is consumed.")
+	void evictCachedCompany() {
+		Cache companyCache = cacheManager.getCache(CacheConfig.COMPANY_CACHE);
+		assert companyCache != null;
+		companyCache.put(company.getId(), company);
+		companyChangedConsumer.consumeMessage(company.getId());
+		Assertions.assertNull(companyCache.get(company.getId()));
+	}
+
+	@Test
+	@DisplayName("It should evict only the cached reviews of the company whose review is changed.")
+	void evictCachedReviews() {
+		Cache reviewCache = cacheManager.getCache(CacheConfig.REVIEW_CACHE);
+		assert reviewCache != null;
+		reviewCache.put(1L, List.of(firstReview, secondReview));
+		reviewCache.put(2L, Collections.emptyList());
+		reviewChangedConsumer.consumeMessage(firstReview);
+		Assertions.assertAll("Review Cache Eviction",
+				() -> Assertions.assertNull(reviewCache.get(1L)),
+				() -> Assertions.assertNotNull(reviewCache.get(2L)));
+	}
+
+	@Test
+	@DisplayName("It should serve the job of a company which is not in the read model yet from the downstream services and fill the company in.")
+	void getJobByIdFromColdReadModel() {
+		jobProperties.getReadModel().setEnabled(true);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(List.of(firstReview, secondReview)));
+		Job job = jobRepository.save(firstJob);
+		ResponseEntity<JobDTO> response = REST_TEMPLATE.getForEntity(base_url + "/" + job.getId(), JobDTO.class);
+		Assertions.assertAll("Job From Cold Read Model",
+				() -> Assertions.assertEquals(response.getStatusCode(), HttpStatus.OK),
+				() -> Assertions.assertEquals(response.getBody().getCompany(), company),
+				() -> Assertions.assertEquals(response.getBody().getReviews(), List.of(firstReview, secondReview)),
+				() -> Mockito.verify(companyClient, Mockito.timeout(5000)).getCompanies(Set.of(company.getId())),
+				() -> Mockito.verify(reviewClient, Mockito.timeout(5000)).getReviewsByCompanyIds(Set.of(company.getId())));
+	}
+
+	@Test
+	@DisplayName("It should serve the jobs from the read model maintained by the change events without calling the downstream services.")
+	void getAllJobsFromReadModel() {
+		jobProperties.getReadModel().setEnabled(true);
+		Mockito.when(reviewClient.getReviewsByCompanyIds(Set.of(company.getId()))).thenReturn(List.of(firstReview), List.of(firstReview, secondReview));
+		jobRepository.save(firstJob);
+		jobRepository.save(secondJob);
+		companyReadModelConsumer.consumeCompanyChange(company.getId());
+		companyReadModelConsumer.consumeCompanyChange(secondCompany.getId());
+		companyReadModelConsumer.consumeReviewChange(secondReview);
+		Mockito.clearInvocations(companyClient, reviewClient);
+		ParameterizedTypeReference<List<JobDTO>> responseType =
+				new ParameterizedTypeReference<>() {};
+		RequestEntity<Void> request = RequestEntity.get(base_url).accept(MediaType.APPLICATION_JSON).build();
+		List<JobDTO> jobList = REST_TEMPLATE.exchange(request, responseType).getBody();
+		Mockito.verifyNoInteractions(companyClient, reviewClient);
+		Assertions.assertAll("Jobs From Read Model",
+				() -> Assertions.assertNotNull(jobList),
+				() -> Assertions.assertEquals(jobList.size(), 2),
+				() -> Assertions.assertEquals(jobList.get(0).getCompany().getName(), company.getName()),
+				() -> Assertions.assertEquals(jobList.get(0).getCompany().getAverageRating(), (firstReview.getRating() + secondReview.getRating()) / 2),
+				() -> Assertions.assertEquals(jobList.get(0).getReviews().size(), 2),
+				() -> Assertions.assertEquals(jobList.get(1).getCompany().getName(), secondCompany.getName()),
+				() -> Assertions.assertEquals(jobList.get(1).getReviews(), List.of(thirdReview)));
+	}
+
+	@Test
+	@DisplayName("It should send the Feign requests over the pooled asynchronous Apache HttpClient 5 transport and publish its pool metrics.")
+	void pooledFeignClient() {
+		Assertions.assertAll("Pooled Feign Client",
+				() -> Assertions.assertEquals(feignHttpClient.getStatus(), IOReactorStatus.ACTIVE),
+				() -> Assertions.assertEquals(meterRegistry.get("httpcomponents.httpclient.pool.total.max").tag("httpclient", "feign").gauge().value(), 200D),
+				() -> Assertions.assertEquals(meterRegistry.get("httpcomponents.httpclient.pool.route.max.default").tag("httpclient", "feign").gauge().value(), 50D),
+				() -> Assertions.assertNotNull(meterRegistry.get("httpcomponents.httpclient.pool.total.pending").tag("httpclient", "feign").gauge()),
+				() -> Assertions.assertNotNull(meterRegistry.get("httpcomponents.httpclient.pool.total.connections").tags("httpclient", "feign", "state", "leased").gauge()),
+				() -> Assertions.assertNotNull(meterRegistry.get("httpcomponents.httpclient.pool.total.connections").tags("httpclient", "feign", "state", "available").gauge()));
+	}
+
+	@Test
+	@DisplayName("It should expose the request latency histograms tagged by result through the prometheus endpoint.")
+	void prometheusRequestHistograms() {
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
+		Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.postForObject(base_url, blankJobName, String.class));
+		String scrape = REST_TEMPLATE.getForObject("http://localhost:" + port + "/actuator/prometheus", String.class);
+		Assertions.assertAll("Prometheus Request Histograms",
+				() -> Assertions.assertNotNull(scrape),
+				() -> Assertions.assertTrue(scrape.contains("http_server_requests_seconds_bucket{application=\"jobms\"")),
+				() -> Assertions.assertTrue(scrape.contains("result=\"CLIENT_ERROR\"")),
+				() -> Assertions.assertTrue(scrape.contains("le=\"0.05\"")));
+	}
+
+	@Test
+	@DisplayName("It should configure a separate bulkhead for every downstream service.")
+	void downstreamBulkheads() {
+		BulkheadConfig companyBulkhead = bulkheadRegistry.bulkhead(BulkheadCapability.COMPANY_BULKHEAD).getBulkheadConfig();
+		BulkheadConfig reviewBulkhead = bulkheadRegistry.bulkhead(BulkheadCapability.REVIEW_BULKHEAD).getBulkheadConfig();
+		Assertions.assertAll("Downstream Bulkheads",
+				() -> Assertions.assertEquals(companyBulkhead.getMaxConcurrentCalls(), 25),
+				() -> Assertions.assertEquals(companyBulkhead.getMaxWaitDuration(), Duration.ZERO),
+				() -> Assertions.assertEquals(reviewBulkhead.getMaxConcurrentCalls(), 25),
+				() -> Assertions.assertEquals(reviewBulkhead.getMaxWaitDuration(), Duration.ZERO));
+	}
+
+	@Test
+	@DisplayName("It should serve the last known good relations flagged as stale while the breaker is open and refresh them once it half-opens.")
+	void getJobByIdStaleWhileBreakerOpen() {
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(List.of(firstReview, secondReview)));
+		jobRepository.save(firstJob);
+		secondJob.setCompanyId(99L);
+		jobRepository.save(secondJob);
+		ResponseEntity<JobDTO> freshResponse = REST_TEMPLATE.getForEntity(base_url + "/" + firstJob.getId(), JobDTO.class);
+		CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(LastKnownGoodRefresher.BREAKER);
+		try {
+			circuitBreaker.transitionToOpenState();
+			ResponseEntity<JobDTO> staleResponse = REST_TEMPLATE.getForEntity(base_url + "/" + firstJob.getId(), JobDTO.class);
+			HttpStatusCodeException unknownResponse = Assertions.assertThrows(HttpStatusCodeException.class,
+					() -> REST_TEMPLATE.getForEntity(base_url + "/" + secondJob.getId(), JobDTO.class));
+			Mockito.when(companyClient.getCompaniesAsync(Mockito.anyCollection())).thenReturn(CompletableFuture.completedFuture(List.of(company)));
+			Mockito.when(reviewClient.getReviewsByCompanyIdsAsync(Mockito.anyCollection())).thenReturn(CompletableFuture.completedFuture(List.of(firstReview, secondReview)));
+			circuitBreaker.transitionToHalfOpenState();
+			Assertions.assertAll("Stale Job Retrieval",
+					() -> Assertions.assertNull(freshResponse.getHeaders().getFirst(JobController.DATA_STALE_HEADER)),
+					() -> Assertions.assertEquals(staleResponse.getStatusCode(), HttpStatus.OK),
+					() -> Assertions.assertEquals(staleResponse.getHeaders().getFirst(JobController.DATA_STALE_HEADER), "true"),
+					() -> Assertions.assertEquals(staleResponse.getHeaders().getFirst(HttpHeaders.WARNING), JobController.STALE_WARNING),
+					() -> Assertions.assertEquals(staleResponse.getBody(), freshResponse.getBody()),
+					() -> Assertions.assertEquals(unknownResponse.getStatusCode(), HttpStatus.SERVICE_UNAVAILABLE),
+					() -> Mockito.verify(companyClient, Mockito.timeout(5000)).getCompaniesAsync(Set.of(firstJob.getCompanyId())),
+					() -> Mockito.verify(reviewClient, Mockito.timeout(5000)).getReviewsByCompanyIdsAsync(Set.of(firstJob.getCompanyId())));
+		} finally {
+			circuitBreaker.reset();
+		}
 	}
 
 	@Test
 	@DisplayName("It should create the job with completely filled attributes successfully!")
 	void createJob() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		String response = REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		Assertions.assertAll("Successful Job Creation",
 				() -> Assertions.assertNotNull(response),
 				() -> Assertions.assertEquals(response, "The job is created successfully!"));
 	}
 
+	@Test
+	@DisplayName("It should create the valid jobs in bulk and report the jobs with missing companies by their index!")
+	void createJobs() {
+		Mockito.when(companyClient.getCompanies(Mockito.anyCollection())).thenReturn(List.of(company));
+		secondJob.setCompanyId(2L);
+		ResponseEntity<JobBulkResultDTO> response = REST_TEMPLATE.postForEntity(base_url + "/bulk", List.of(firstJob, secondJob), JobBulkResultDTO.class);
+		JobBulkResultDTO result = Objects.requireNonNull(response.getBody());
+		Mockito.verify(companyClient, Mockito.times(1)).getCompanies(Mockito.anyCollection());
+		Assertions.assertAll("Bulk Job Creation",
+				() -> Assertions.assertEquals(response.getStatusCode(), HttpStatus.MULTI_STATUS),
+				() -> Assertions.assertEquals(result.getCreated().size(), 1),
+				() -> Assertions.assertTrue(jobRepository.existsById(result.getCreated().get(0))),
+				() -> Assertions.assertEquals(result.getErrors().get(0).getIndex(), 1),
+				() -> Assertions.assertEquals(result.getErrors().get(0).getErrors(), List.of("The company is not found!")));
+	}
+
 	@Test
 	@DisplayName("It should not create the job with null job name!")
 	void createNullJobName() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		HttpClientErrorException exception = Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.postForObject(base_url, nullJobName, String.class));
 		Assertions.assertAll("Failed Job Creation",
 				() -> Assertions.assertTrue(exception.getLocalizedMessage().contains("Please provide a valid name, job name should not be blank.")),
@@ -303,7 +569,7 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not create the job with blank job name!")
 	void createBlankJobName() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		HttpClientErrorException exception = Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.postForObject(base_url, blankJobName, String.class));
 		Assertions.assertAll("Failed Job Creation",
 				() -> Assertions.assertTrue(exception.getLocalizedMessage().contains("Please provide a valid name, job name should not be blank.")));
@@ -312,7 +578,7 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should create the job with null job description successfully!")
 	void createNullJobDescription() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		String response = REST_TEMPLATE.postForObject(base_url, nullJobDescription, String.class);
 		Assertions.assertAll("Successful Job Creation",
 				() -> Assertions.assertNotNull(response),
@@ -322,7 +588,7 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should create the job with blank job description successfully!")
 	void createBlankJobDescription() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		String response = REST_TEMPLATE.postForObject(base_url, blankJobDescription, String.class);
 		Assertions.assertAll("Successful Job Creation",
 				() -> Assertions.assertNotNull(response),
@@ -332,7 +598,7 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should create the job with null job minimum salary successfully!")
 	void createNullJobMinimumSalary() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		String response = REST_TEMPLATE.postForObject(base_url, nullMinSalary, String.class);
 		Assertions.assertAll("Successful Job Creation",
 				() -> Assertions.assertNotNull(response),
@@ -342,7 +608,7 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not create the job with blank job minimum salary!")
 	void createBlankJobMinimumSalary() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		HttpClientErrorException exception = Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.postForObject(base_url, blankMinSalary, String.class));
 		Assertions.assertAll("Failed Job Creation",
 				() -> Assertions.assertTrue(exception.getLocalizedMessage().contains("Please provide a positive number for minimum salary.")));
@@ -351,7 +617,7 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not create the job with alphabetic job minimum salary!")
 	void createAlphaJobMinimumSalary() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		HttpClientErrorException exception = Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.postForObject(base_url, alphaMinSalary, String.class));
 		Assertions.assertAll("Failed Job Creation",
 				() -> Assertions.assertTrue(exception.getLocalizedMessage().contains("Please provide a positive number for minimum salary.")));
@@ -360,7 +626,7 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not create the job with alphanumeric job minimum salary!")
 	void createAlphanumJobMinimumSalary() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		HttpClientErrorException exception = Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.postForObject(base_url, alphanumMinSalary, String.class));
 		Assertions.assertAll("Failed Job Creation",
 				() -> Assertions.assertTrue(exception.getLocalizedMessage().contains("Please provide a positive number for minimum salary.")));
@@ -369,7 +635,7 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should create the job with null job maximum salary successfully!")
 	void createNullJobMaximumSalary() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		String response = REST_TEMPLATE.postForObject(base_url, nullMaxSalary, String.class);
 		Assertions.assertAll("Successful Job Creation",
 				() -> Assertions.assertNotNull(response),
@@ -379,7 +645,7 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not create the job with blank job maximum salary!")
 	void createBlankJobMaximumSalary() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		HttpClientErrorException exception = Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.postForObject(base_url, blankMaxSalary, String.class));
 		Assertions.assertAll("Failed Job Creation",
 				() -> Assertions.assertTrue(exception.getLocalizedMessage().contains("Please provide a positive number for maximum salary.")));
@@ -388,7 +654,7 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not create the job with alphabetic job maximum salary!")
 	void createAlphaJobMaximumSalary() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		HttpClientErrorException exception = Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.postForObject(base_url, alphaMaxSalary, String.class));
 		Assertions.assertAll("Failed Job Creation",
 				() -> Assertions.assertTrue(exception.getLocalizedMessage().contains("Please provide a positive number for maximum salary.")));
@@ -397,7 +663,7 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not create the job with alphanumeric job maximum salary!")
 	void createAlphanumJobMaximumSalary() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		HttpClientErrorException exception = Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.postForObject(base_url, alphanumMaxSalary, String.class));
 		Assertions.assertAll("Failed Job Creation",
 				() -> Assertions.assertTrue(exception.getLocalizedMessage().contains("Please provide a positive number for maximum salary.")));
@@ -406,7 +672,7 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not create the job given the minimum and maximum salary because given minimum salary should not be greater than given maximum salary!")
 	void createMinimumMaximumSalaryViolation() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		HttpClientErrorException exception = Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.postForObject(base_url, minMaxSalaryViolation, String.class));
 		Assertions.assertAll("Failed Job Creation",
 				() -> Assertions.assertTrue(exception.getLocalizedMessage().contains("The minimum salary should not be greater than the maximum salary.")));
@@ -415,7 +681,7 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not create the job with null job location!")
 	void createNullJobLocation() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		HttpClientErrorException exception = Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.postForObject(base_url, nullJobLocation, String.class));
 		Assertions.assertAll("Failed Job Creation",
 				() -> Assertions.assertTrue(exception.getLocalizedMessage().contains("Please provide a valid location, the location should not be blank.")),
@@ -425,7 +691,7 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not create the job with blank job location!")
 	void createBlankJobLocation() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		HttpClientErrorException exception = Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.postForObject(base_url, blankJobLocation, String.class));
 		Assertions.assertAll("Failed Job Creation",
 				() -> Assertions.assertTrue(exception.getLocalizedMessage().contains("Please provide a valid location, the location should not be blank.")));
@@ -434,7 +700,7 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not create the job with null job company id!")
 	void createNullJobCompanyId() {
-		Mockito.when(companyClient.getCompany(Mockito.any())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.any())).thenReturn(CompletableFuture.completedFuture(company));
 		HttpClientErrorException exception = Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.postForObject(base_url, nullCompanyId, String.class));
 		Assertions.assertAll("Failed Job Creation",
 				() -> Assertions.assertTrue(exception.getLocalizedMessage().contains("Please provide a valid id, company id should not be null.")));
@@ -443,11 +709,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should fetch all of the jobs in the database.")
 	void getAllJobs() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -463,14 +729,163 @@ class JobmsApplicationTests {
 				() -> Assertions.assertEquals(jobList.get(1), secondJobDTO));
 	}
 
+	@Test
+	@DisplayName("It should fetch the jobs of the same company with a single batch call per relation.")
+	void getAllJobsSameCompany() {
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
+		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
+		REST_TEMPLATE.postForObject(base_url, sameCompanyJob, String.class);
+		ParameterizedTypeReference<List<JobDTO>> responseType =
+				new ParameterizedTypeReference<>() {};
+		RequestEntity<Void> request = RequestEntity.get(base_url).accept(MediaType.APPLICATION_JSON).build();
+		List<JobDTO> jobList = REST_TEMPLATE.exchange(request, responseType).getBody();
+		Assertions.assertEquals(jobList, List.of(firstJobDTO, sameCompanyJobDTO));
+		Mockito.verify(companyClient, Mockito.times(1)).getCompaniesAsync(Set.of(company.getId()));
+		Mockito.verify(reviewClient, Mockito.times(1)).getReviewsByCompanyIdsAsync(Set.of(company.getId()));
+	}
+
+	@Test
+	@DisplayName("It should fetch the jobs page by page using the next cursor.")
+	void getAllJobsPaginated() {
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
+		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
+		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
+		ParameterizedTypeReference<List<JobDTO>> responseType =
+				new ParameterizedTypeReference<>() {};
+		RequestEntity<Void> firstRequest = RequestEntity.get(base_url + "?limit=1").accept(MediaType.APPLICATION_JSON).build();
+		ResponseEntity<List<JobDTO>> firstPage = REST_TEMPLATE.exchange(firstRequest, responseType);
+		String nextCursor = firstPage.getHeaders().getFirst(JobController.NEXT_CURSOR_HEADER);
+		RequestEntity<Void> secondRequest = RequestEntity.get(base_url + "?limit=1&after=" + nextCursor).accept(MediaType.APPLICATION_JSON).build();
+		ResponseEntity<List<JobDTO>> secondPage = REST_TEMPLATE.exchange(secondRequest, responseType);
+		Assertions.assertAll("Successful Paginated Jobs Retrieval",
+				() -> Assertions.assertNotNull(nextCursor),
+				() -> Assertions.assertEquals(firstPage.getBody(), List.of(firstJobDTO)),
+				() -> Assertions.assertEquals(secondPage.getBody(), List.of(secondJobDTO)),
+				() -> Assertions.assertFalse(secondPage.getHeaders().containsKey(HttpHeaders.LINK)));
+	}
+
+	@Test
+	@DisplayName("It should fetch the jobs filtered by salary range and location.")
+	void getAllJobsFiltered() {
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
+		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
+		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
+		ParameterizedTypeReference<List<JobDTO>> responseType =
+				new ParameterizedTypeReference<>() {};
+		RequestEntity<Void> salaryRequest = RequestEntity.get(base_url + "?minSalary=45000").accept(MediaType.APPLICATION_JSON).build();
+		List<JobDTO> salaryJobList = REST_TEMPLATE.exchange(salaryRequest, responseType).getBody();
+		RequestEntity<Void> locationRequest = RequestEntity.get(base_url + "?maxSalary=40000&location=" + firstJob.getLocation()).accept(MediaType.APPLICATION_JSON).build();
+		List<JobDTO> locationJobList = REST_TEMPLATE.exchange(locationRequest, responseType).getBody();
+		Assertions.assertAll("Successful Filtered Jobs Retrieval",
+				() -> Assertions.assertEquals(salaryJobList, List.of(secondJobDTO)),
+				() -> Assertions.assertEquals(locationJobList, List.of(firstJobDTO)));
+	}
+
+	@Test
+	@DisplayName("It should fetch only the requested fields and relations of the jobs without calling the excluded downstream services.")
+	void getAllJobsSparse() {
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
+		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
+		ParameterizedTypeReference<List<Map<String, Object>>> responseType =
+				new ParameterizedTypeReference<>() {};
+		RequestEntity<Void> request = RequestEntity.get(base_url + "?fields=name,location&include=company").accept(MediaType.APPLICATION_JSON).build();
+		List<Map<String, Object>> jobList = REST_TEMPLATE.exchange(request, responseType).getBody();
+		Mockito.verify(reviewClient, Mockito.never()).getReviewsByCompanyIdsAsync(Mockito.anyCollection());
+		Assertions.assertAll("Successful Sparse Jobs Retrieval",
+				() -> Assertions.assertEquals(jobList.size(), 1),
+				() -> Assertions.assertEquals(jobList.get(0).keySet(), Set.of("name", "location", "company")),
+				() -> Assertions.assertEquals(jobList.get(0).get("name"), firstJob.getName()));
+	}
+
+	@Test
+	@DisplayName("It should not fetch the jobs with unknown fields!")
+	void getAllJobsSparseUnknownField() {
+		RequestEntity<Void> request = RequestEntity.get(base_url + "?fields=name,salary").accept(MediaType.APPLICATION_JSON).build();
+		HttpClientErrorException exception = Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.exchange(request, String.class));
+		Assertions.assertEquals(exception.getStatusCode(), HttpStatus.UNPROCESSABLE_ENTITY);
+	}
+
+	@Test
+	@DisplayName("It should not fetch the jobs when the minimum salary filter is greater than the maximum salary filter!")
+	void getAllJobsFilteredSalaryRangeViolation() {
+		RequestEntity<Void> request = RequestEntity.get(base_url + "?minSalary=50000&maxSalary=40000").accept(MediaType.APPLICATION_JSON).build();
+		HttpClientErrorException exception = Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.exchange(request, String.class));
+		Assertions.assertAll("Failed Filtered Jobs Retrieval",
+				() -> Assertions.assertEquals(exception.getStatusCode(), HttpStatus.UNPROCESSABLE_ENTITY),
+				() -> Assertions.assertTrue(exception.getLocalizedMessage().contains("The minimum salary filter should not be greater than the maximum salary filter.")));
+	}
+
+	@Test
+	@DisplayName("It should search the jobs by the keywords in their names and descriptions.")
+	void searchJobs() {
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
+		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
+		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
+		ParameterizedTypeReference<List<JobDTO>> responseType =
+				new ParameterizedTypeReference<>() {};
+		RequestEntity<Void> request = RequestEntity.get(base_url + "/search?q={q}", "job").accept(MediaType.APPLICATION_JSON).build();
+		ResponseEntity<List<JobDTO>> response = REST_TEMPLATE.exchange(request, responseType);
+		RequestEntity<Void> nameRequest = RequestEntity.get(base_url + "/search?q={q}", secondJob.getName()).accept(MediaType.APPLICATION_JSON).build();
+		List<JobDTO> nameJobList = REST_TEMPLATE.exchange(nameRequest, responseType).getBody();
+		RequestEntity<Void> missingRequest = RequestEntity.get(base_url + "/search?q=missing").accept(MediaType.APPLICATION_JSON).build();
+		List<JobDTO> missingJobList = REST_TEMPLATE.exchange(missingRequest, responseType).getBody();
+		Assertions.assertAll("Successful Jobs Search",
+				() -> Assertions.assertEquals(response.getBody(), List.of(firstJobDTO, secondJobDTO)),
+				() -> Assertions.assertEquals(nameJobList, List.of(secondJobDTO)),
+				() -> Assertions.assertFalse(response.getHeaders().containsKey(HttpHeaders.LINK)),
+				() -> Assertions.assertEquals(missingJobList, List.of()));
+	}
+
+	@Test
+	@DisplayName("It should stream all of the jobs in the database as newline delimited JSON.")
+	void exportAllJobs() throws Exception {
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
+		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
+		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
+		RequestEntity<Void> request = RequestEntity.get(base_url).accept(MediaType.APPLICATION_NDJSON).build();
+		String response = REST_TEMPLATE.exchange(request, String.class).getBody();
+		assert response != null;
+		List<JobDTO> jobList = new ArrayList<>();
+		for(String line : response.split("\n")) {
+			jobList.add(OBJECT_MAPPER.readValue(line, JobDTO.class));
+		}
+		Assertions.assertAll("Successful Jobs Export",
+				() -> Assertions.assertEquals(jobList.size(), 2),
+				() -> Assertions.assertEquals(jobList.get(0), firstJobDTO),
+				() -> Assertions.assertEquals(jobList.get(1), secondJobDTO));
+	}
+
+	@Test
+	@DisplayName("It should answer the conditional fetch of the unchanged job with 304 status code without calling the downstream services.")
+	void getJobByIdConditional() {
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+		Job job = jobRepository.save(firstJob);
+		ResponseEntity<JobDTO> response = REST_TEMPLATE.getForEntity(base_url + "/" + job.getId(), JobDTO.class);
+		String eTag = response.getHeaders().getETag();
+		Mockito.clearInvocations(companyClient, reviewClient);
+		RequestEntity<Void> conditionalRequest = RequestEntity.get(base_url + "/" + job.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag).build();
+		ResponseEntity<JobDTO> notModifiedResponse = REST_TEMPLATE.exchange(conditionalRequest, JobDTO.class);
+		Mockito.verifyNoInteractions(companyClient, reviewClient);
+		REST_TEMPLATE.put(base_url + "/" + job.getId(), secondJob);
+		ResponseEntity<JobDTO> modifiedResponse = REST_TEMPLATE.exchange(conditionalRequest, JobDTO.class);
+		Assertions.assertAll("Conditional Job Retrieval",
+				() -> Assertions.assertEquals(eTag, "\"0\""),
+				() -> Assertions.assertEquals(notModifiedResponse.getStatusCode(), HttpStatus.NOT_MODIFIED),
+				() -> Assertions.assertNull(notModifiedResponse.getBody()),
+				() -> Assertions.assertEquals(modifiedResponse.getStatusCode(), HttpStatus.OK),
+				() -> Assertions.assertEquals(modifiedResponse.getHeaders().getETag(), "\"1\""),
+				() -> Assertions.assertEquals(modifiedResponse.getBody().getName(), secondJob.getName()));
+	}
+
 	@Test
 	@DisplayName("It should fetch the specific job given its id in the database.")
 	void getJobById() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -488,11 +903,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not fetch the specific job given its id in the database because of the null id constraint violation.")
 	void getJobByIdNullJobId() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		HttpClientErrorException exception = Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.getForObject(base_url + "/" + nullJobId.getId(), Job.class));
 		Assertions.assertAll("Failed Job Retrieval",
 				() -> Assertions.assertTrue(exception.getLocalizedMessage().contains("The job id should not be null.")));
@@ -501,11 +916,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not fetch the specific job given its id in the database because of the negative id constraint violation.")
 	void getJobByIdNegativeJobId() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		HttpClientErrorException exception = Assertions.assertThrows(HttpClientErrorException.class, () -> REST_TEMPLATE.getForObject(base_url + "/" + negativeJobId.getId(), Job.class));
 		Assertions.assertAll("Failed Job Retrieval",
 				() -> Assertions.assertTrue(exception.getLocalizedMessage().contains("The job id should be positive.")));
@@ -514,11 +929,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not fetch the specific job given its id in the database because of the out of bounds id.")
 	void getJobByIdOutOfBounds() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -535,11 +950,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should update the specific job with completely filled attributes successfully!")
 	void updateJob() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -562,11 +977,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not update the job with null job name!")
 	void updateNullJobName() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -584,11 +999,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not update the job with blank job name!")
 	void updateBlankJobName() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -605,11 +1020,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should update the job with null job description successfully!")
 	void updateNullJobDescription() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -635,11 +1050,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should update the job with blank job description successfully!")
 	void updateBlankJobDescription() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -665,11 +1080,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should update the job with null job minimum salary successfully!")
 	void updateNullJobMinimumSalary() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -695,11 +1110,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not update the job with blank job minimum salary!")
 	void updateBlankJobMinimumSalary() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -716,11 +1131,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not update the job with alphabetic job minimum salary!")
 	void updateAlphaJobMinimumSalary() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -737,11 +1152,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not update the job with alphanumeric job minimum salary!")
 	void updateAlphanumJobMinimumSalary() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -758,11 +1173,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should update the job with null job maximum salary successfully!")
 	void updateNullJobMaximumSalary() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -788,11 +1203,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not update the job with blank job maximum salary!")
 	void updateBlankJobMaximumSalary() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -809,11 +1224,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not update the job with alphabetic job maximum salary!")
 	void updateAlphaJobMaximumSalary() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -830,11 +1245,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not update the job with alphanumeric job maximum salary!")
 	void updateAlphanumJobMaximumSalary() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -851,11 +1266,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not update the job given the minimum and maximum salary because given minimum salary should not be greater than given maximum salary!")
 	void updateMinimumMaximumSalaryViolation() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -872,11 +1287,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not update the job with null job location!")
 	void updateNullJobLocation() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -894,11 +1309,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not update the job with blank job location!")
 	void updateBlankJobLocation() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -915,11 +1330,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not update the job with null job company id!")
 	void updateNullJobCompanyId() {
-		Mockito.when(companyClient.getCompany(Mockito.any())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.any())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -936,11 +1351,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not update the specific job given its id in the database because of the negative id constraint violation.")
 	void updateJobByIdNegativeJobId() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -957,11 +1372,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not update the specific job given its id in the database because of the out of bounds id.")
 	void updateJobByIdOutOfBounds() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<Job>> responseType =
@@ -978,11 +1393,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not delete the specific job given its id in the database because of the negative id constraint violation.")
 	void deleteJobByIdNegativeJobId() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -999,11 +1414,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should not delete the specific job given its id in the database because of the out of bounds id.")
 	void deleteJobByIdOutOfBounds() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -1021,11 +1436,11 @@ class JobmsApplicationTests {
 	@Test
 	@DisplayName("It should delete the specific job given its id in the database.")
 	void deleteJobById() {
-		Mockito.when(companyClient.getCompany(Mockito.anyLong())).thenReturn(company);
+		Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(company));
 		List<Review> reviewList = new ArrayList<>();
 		reviewList.add(firstReview);
 		reviewList.add(secondReview);
-		Mockito.when(reviewClient.getReviews(Mockito.anyLong())).thenReturn(reviewList);
+		Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(reviewList));
 		REST_TEMPLATE.postForObject(base_url, firstJob, String.class);
 		REST_TEMPLATE.postForObject(base_url, secondJob, String.class);
 		ParameterizedTypeReference<List<JobDTO>> responseType =
@@ -0,0 +1,120 @@
+package com.savci.jobms.job.client;
+
+import com.savci.jobms.job.config.JobProperties;
+import com.savci.jobms.job.exception.ConcurrencyLimitExceededException;
+import feign.AsyncClient;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("It should adapt the concurrency limit of the downstream services successfully.")
+public class AdaptiveLimitCapabilityTest {
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private JobProperties jobProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncClient<Object> client;
+    private CompletableFuture<Void> release;
+
+    @BeforeEach
+    @DisplayName("Setting up the data for test cases.")
+    void init() {
+        jobProperties = new JobProperties();
+        jobProperties.getConcurrencyLimit().setInitialLimit(1);
+        jobProperties.getConcurrencyLimit().setMinLimit(1);
+        meterRegistry = new SimpleMeterRegistry();
+        release = new CompletableFuture<>();
+        AsyncClient<Object> slowClient = (request, options, requestContext) ->
+                release.thenApply(released -> Response.builder().status(200).request(request).headers(Collections.emptyMap()).build());
+        client = new AdaptiveLimitCapability(jobProperties, meterRegistry).enrich(slowClient);
+    }
+
+    @Test
+    @DisplayName("It should shed the calls over the limit at once and export the limit as a gauge.")
+    void shedOverLimit() throws Exception {
+        CompletableFuture<Response> first = execute();
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> execute().get(5, TimeUnit.SECONDS));
+        release.complete(null);
+        Assertions.assertAll("Shed Calls",
+                () -> Assertions.assertInstanceOf(ConcurrencyLimitExceededException.class, exception.getCause()),
+                () -> Assertions.assertEquals(first.get(5, TimeUnit.SECONDS).status(), 200),
+                () -> Assertions.assertEquals(meterRegistry.get("jobms.downstream.concurrency.rejected").tag("client", RequestHedger.COMPANY_CLIENT).counter().count(), 1D),
+                () -> Assertions.assertTrue(meterRegistry.get("jobms.downstream.concurrency.limit").tag("client", RequestHedger.COMPANY_CLIENT).gauge().value() >= 1D));
+    }
+
+    @Test
+    @DisplayName("It should not limit the calls when the concurrency limit is disabled.")
+    void limitDisabled() throws Exception {
+        jobProperties.getConcurrencyLimit().setEnabled(false);
+        CompletableFuture<Response> first = execute();
+        CompletableFuture<Response> second = execute();
+        release.complete(null);
+        Assertions.assertAll("Disabled Limit",
+                () -> Assertions.assertEquals(first.get(5, TimeUnit.SECONDS).status(), 200),
+                () -> Assertions.assertEquals(second.get(5, TimeUnit.SECONDS).status(), 200));
+    }
+
+    @Test
+    @DisplayName("It should grow the limit while the round trip time of the saturated downstream service stays stable.")
+    void growWhileRttStable() {
+        AdaptiveLimitCapability.Limit limit = saturate(new AdaptiveLimitCapability.Limit(null, 10), RTT, 50);
+        Assertions.assertTrue(limit.getLimit() > 10);
+    }
+
+    @Test
+    @DisplayName("It should shrink the limit when the round trip time rises above its long-term average.")
+    void shrinkWhenRttRises() {
+        AdaptiveLimitCapability.Limit limit = saturate(new AdaptiveLimitCapability.Limit(null, 20), RTT, 20);
+        double stableLimit = limit.getLimit();
+        saturate(limit, RTT * 4, 1);
+        Assertions.assertTrue(limit.getLimit() < stableLimit);
+    }
+
+    @Test
+    @DisplayName("It should back the limit off multiplicatively when a call fails.")
+    void backOffOnFailure() {
+        AdaptiveLimitCapability.Limit limit = new AdaptiveLimitCapability.Limit(null, 20);
+        limit.tryAcquire();
+        limit.release(jobProperties.getConcurrencyLimit(), RTT, 1, true);
+        Assertions.assertAll("Failed Call",
+                () -> Assertions.assertEquals(limit.getLimit(), 18D, 0.001),
+                () -> Assertions.assertEquals(limit.getInflight(), 0));
+    }
+
+    // Every round fills the limit and completes all of the calls with the given round trip time.
+    private AdaptiveLimitCapability.Limit saturate(AdaptiveLimitCapability.Limit limit, long rtt, int rounds) {
+        for(int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while(limit.tryAcquire() > 0) {
+                acquired++;
+            }
+            for(int i = 0; i < acquired; i++) {
+                limit.release(jobProperties.getConcurrencyLimit(), rtt, acquired, false);
+            }
+        }
+        return limit;
+    }
+
+    private CompletableFuture<Response> execute() {
+        return client.execute(request(), new Request.Options(), Optional.empty());
+    }
+
+    private Request request() {
+        RequestTemplate requestTemplate = new RequestTemplate();
+        requestTemplate.feignTarget(new Target.HardCodedTarget<>(CompanyClient.class, "COMPANYMS", "http://localhost"));
+        return Request.create(Request.HttpMethod.GET, "http://localhost/companies/1", Collections.emptyMap(), null, StandardCharsets.UTF_8, requestTemplate);
+    }
+}
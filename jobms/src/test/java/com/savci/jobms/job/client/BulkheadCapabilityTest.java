@@ -0,0 +1,76 @@
+package com.savci.jobms.job.client;
+
+import feign.AsyncClient;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("It should isolate the downstream services with bulkheads successfully.")
+public class BulkheadCapabilityTest {
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncClient<Object> client;
+    private CompletableFuture<Void> release;
+
+    @BeforeEach
+    @DisplayName("Setting up the data for test cases.")
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        release = new CompletableFuture<>();
+        AsyncClient<Object> slowClient = (request, options, requestContext) ->
+                release.thenApply(released -> Response.builder().status(200).request(request).headers(Collections.emptyMap()).build());
+        client = new BulkheadCapability(bulkheadRegistry, meterRegistry).enrich(slowClient);
+    }
+
+    @Test
+    @DisplayName("It should reject the call to a downstream service whose bulkhead is full and count the rejection.")
+    void rejectWhenFull() throws Exception {
+        CompletableFuture<Response> first = execute("COMPANYMS");
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> execute("COMPANYMS").get(5, TimeUnit.SECONDS));
+        release.complete(null);
+        Assertions.assertAll("Full Bulkhead",
+                () -> Assertions.assertInstanceOf(BulkheadFullException.class, exception.getCause()),
+                () -> Assertions.assertEquals(first.get(5, TimeUnit.SECONDS).status(), 200),
+                () -> Assertions.assertEquals(meterRegistry.get("jobms.downstream.bulkhead.rejected").tag("client", RequestHedger.COMPANY_CLIENT).counter().count(), 1D),
+                () -> Assertions.assertEquals(execute("COMPANYMS").get(5, TimeUnit.SECONDS).status(), 200));
+    }
+
+    @Test
+    @DisplayName("It should not let a slow downstream service take the permits of the other one.")
+    void isolateDownstreams() throws Exception {
+        execute("REVIEWMS");
+        CompletableFuture<Response> company = execute("COMPANYMS");
+        release.complete(null);
+        Assertions.assertEquals(company.get(5, TimeUnit.SECONDS).status(), 200);
+    }
+
+    private CompletableFuture<Response> execute(String name) {
+        return client.execute(request(name), new Request.Options(), Optional.empty());
+    }
+
+    private Request request(String name) {
+        RequestTemplate requestTemplate = new RequestTemplate();
+        requestTemplate.feignTarget(new Target.HardCodedTarget<>(CompanyClient.class, name, "http://localhost"));
+        return Request.create(Request.HttpMethod.GET, "http://localhost/companies/1", Collections.emptyMap(), null, StandardCharsets.UTF_8, requestTemplate);
+    }
+}
@@ -0,0 +1,107 @@
+package com.savci.jobms.job.client;
+
+import com.savci.jobms.job.config.JobProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("It should collapse the concurrent identical downstream lookups successfully.")
+public class RequestCoalescerTest {
+    private JobProperties jobProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer requestCoalescer;
+    private AtomicInteger calls;
+    private CompletableFuture<String> downstream;
+
+    @BeforeEach
+    @DisplayName("Setting up the data for test cases.")
+    void init() {
+        jobProperties = new JobProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        requestCoalescer = new RequestCoalescer(jobProperties, meterRegistry);
+        calls = new AtomicInteger();
+        downstream = new CompletableFuture<>();
+    }
+
+    @Test
+    @DisplayName("It should send one downstream request for the concurrent lookups of the same key and fan the result out.")
+    void coalesceSameKey() {
+        CompletableFuture<String> first = requestCoalescer.coalesce(RequestHedger.COMPANY_CLIENT, 1L, this::call);
+        CompletableFuture<String> second = requestCoalescer.coalesce(RequestHedger.COMPANY_CLIENT, 1L, this::call);
+        downstream.complete("Company 1");
+        Assertions.assertAll("Coalesced Lookups",
+                () -> Assertions.assertEquals(first.join(), "Company 1"),
+                () -> Assertions.assertEquals(second.join(), "Company 1"),
+                () -> Assertions.assertEquals(calls.get(), 1),
+                () -> Assertions.assertEquals(count("jobms.downstream.coalescing.requests"), 2D),
+                () -> Assertions.assertEquals(count("jobms.downstream.coalescing.collapsed"), 1D));
+    }
+
+    @Test
+    @DisplayName("It should send separate downstream requests for different keys and different clients.")
+    void separateKeys() {
+        requestCoalescer.coalesce(RequestHedger.COMPANY_CLIENT, 1L, this::call);
+        requestCoalescer.coalesce(RequestHedger.COMPANY_CLIENT, 2L, this::call);
+        requestCoalescer.coalesce(RequestHedger.REVIEW_CLIENT, 1L, this::call);
+        Assertions.assertEquals(calls.get(), 3);
+    }
+
+    @Test
+    @DisplayName("It should start a new downstream request once the previous flight of the same key is completed.")
+    void completedFlightIsNotReused() {
+        requestCoalescer.coalesce(RequestHedger.COMPANY_CLIENT, 1L, this::call);
+        downstream.complete("Company 1");
+        downstream = new CompletableFuture<>();
+        CompletableFuture<String> next = requestCoalescer.coalesce(RequestHedger.COMPANY_CLIENT, 1L, this::call);
+        downstream.complete("Company 1 Updated");
+        Assertions.assertAll("Completed Flight",
+                () -> Assertions.assertEquals(calls.get(), 2),
+                () -> Assertions.assertEquals(next.join(), "Company 1 Updated"));
+    }
+
+    @Test
+    @DisplayName("It should fan the downstream failure out to every waiter of the flight.")
+    void failureFansOut() {
+        CompletableFuture<String> first = requestCoalescer.coalesce(RequestHedger.COMPANY_CLIENT, 1L, this::call);
+        CompletableFuture<String> second = requestCoalescer.coalesce(RequestHedger.COMPANY_CLIENT, 1L, this::call);
+        downstream.completeExceptionally(new IllegalStateException("The company service is failed!"));
+        Assertions.assertAll("Failed Flight",
+                () -> Assertions.assertInstanceOf(IllegalStateException.class, Assertions.assertThrows(CompletionException.class, first::join).getCause()),
+                () -> Assertions.assertInstanceOf(IllegalStateException.class, Assertions.assertThrows(CompletionException.class, second::join).getCause()));
+    }
+
+    @Test
+    @DisplayName("It should not fail the other waiters when the deadline of one waiter passes.")
+    void waiterDeadlineIsIsolated() {
+        CompletableFuture<String> impatient = requestCoalescer.coalesce(RequestHedger.COMPANY_CLIENT, 1L, this::call).orTimeout(1, TimeUnit.MILLISECONDS);
+        CompletableFuture<String> patient = requestCoalescer.coalesce(RequestHedger.COMPANY_CLIENT, 1L, this::call);
+        Assertions.assertThrows(CompletionException.class, impatient::join);
+        downstream.complete("Company 1");
+        Assertions.assertEquals(patient.join(), "Company 1");
+    }
+
+    @Test
+    @DisplayName("It should send every lookup downstream when the coalescing is disabled.")
+    void coalescingDisabled() {
+        jobProperties.getCoalescing().setEnabled(false);
+        requestCoalescer.coalesce(RequestHedger.COMPANY_CLIENT, 1L, this::call);
+        requestCoalescer.coalesce(RequestHedger.COMPANY_CLIENT, 1L, this::call);
+        Assertions.assertEquals(calls.get(), 2);
+    }
+
+    private CompletableFuture<String> call() {
+        calls.incrementAndGet();
+        return downstream;
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
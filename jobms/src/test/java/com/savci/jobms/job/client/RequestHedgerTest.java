@@ -0,0 +1,156 @@
+package com.savci.jobms.job.client;
+
+import com.savci.jobms.job.config.JobProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@DisplayName("It should hedge the slow downstream reads within the budget successfully.")
+public class RequestHedgerTest {
+    private JobProperties jobProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private RequestHedger requestHedger;
+    private ExecutorService executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    @DisplayName("Setting up the data for test cases.")
+    void init() {
+        jobProperties = new JobProperties();
+        jobProperties.getHedging().setMinDelay(Duration.ofMillis(10));
+        jobProperties.getHedging().setBudgetRatio(1);
+        jobProperties.getHedging().setBudgetBurst(1);
+        meterRegistry = new SimpleMeterRegistry();
+        requestHedger = new RequestHedger(jobProperties, meterRegistry);
+        executor = Executors.newCachedThreadPool();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("It should answer with the hedged request when the first one is stuck on a slow instance.")
+    void hedgeWins() {
+        AtomicInteger calls = new AtomicInteger();
+        String result = requestHedger.supply(RequestHedger.COMPANY_CLIENT, async(() -> calls.incrementAndGet() == 1 ? awaitRelease("primary") : "hedged")).join();
+        awaitAttempts();
+        Assertions.assertAll("Hedged Request",
+                () -> Assertions.assertEquals(result, "hedged"),
+                () -> Assertions.assertEquals(calls.get(), 2),
+                () -> Assertions.assertEquals(count("jobms.downstream.hedges.issued"), 1D),
+                () -> Assertions.assertEquals(count("jobms.downstream.hedges.won"), 1D));
+    }
+
+    @Test
+    @DisplayName("It should not hedge the request when the budget is exhausted.")
+    void budgetExhausted() {
+        jobProperties.getHedging().setBudgetRatio(0.1);
+        AtomicInteger calls = new AtomicInteger();
+        String result = requestHedger.supply(RequestHedger.COMPANY_CLIENT, async(() -> {
+            calls.incrementAndGet();
+            return sleep("primary", 50);
+        })).join();
+        Assertions.assertAll("Exhausted Budget",
+                () -> Assertions.assertEquals(result, "primary"),
+                () -> Assertions.assertEquals(calls.get(), 1),
+                () -> Assertions.assertEquals(count("jobms.downstream.hedges.issued"), 0D));
+    }
+
+    @Test
+    @DisplayName("It should not hedge the request when the hedging is disabled.")
+    void hedgingDisabled() {
+        jobProperties.getHedging().setEnabled(false);
+        AtomicInteger calls = new AtomicInteger();
+        String result = requestHedger.supply(RequestHedger.REVIEW_CLIENT, async(() -> {
+            calls.incrementAndGet();
+            return sleep("primary", 50);
+        })).join();
+        Assertions.assertAll("Disabled Hedging",
+                () -> Assertions.assertEquals(result, "primary"),
+                () -> Assertions.assertEquals(calls.get(), 1));
+    }
+
+    @Test
+    @DisplayName("It should wait for the hedged request when the first one fails while both are in flight.")
+    void primaryFailsHedgeSucceeds() {
+        AtomicInteger calls = new AtomicInteger();
+        String result = requestHedger.supply(RequestHedger.COMPANY_CLIENT, async(() -> {
+            if(calls.incrementAndGet() == 1) {
+                sleep(null, 50);
+                throw new IllegalStateException("The instance is failed!");
+            }
+            return "hedged";
+        })).join();
+        Assertions.assertEquals(result, "hedged");
+    }
+
+    @Test
+    @DisplayName("It should fail with the downstream exception when every attempt fails.")
+    void allAttemptsFail() {
+        Supplier<String> failingCall = () -> {
+            sleep(null, 30);
+            throw new IllegalStateException("The instance is failed!");
+        };
+        CompletionException exception = Assertions.assertThrows(CompletionException.class,
+                () -> requestHedger.supply(RequestHedger.COMPANY_CLIENT, async(failingCall)).join());
+        awaitAttempts();
+        Assertions.assertAll("Failed Attempts",
+                () -> Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause()),
+                () -> Assertions.assertEquals(count("jobms.downstream.hedges.issued"), 1D));
+    }
+
+    // Every attempt answers on the executor, as the HTTP client answers on its own I/O threads.
+    private Supplier<CompletableFuture<String>> async(Supplier<String> call) {
+        return () -> CompletableFuture.supplyAsync(call, executor);
+    }
+
+    // The winner is counted right after it completes the result, so every attempt is drained before the counters are read.
+    private void awaitAttempts() {
+        release.countDown();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch(InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private String awaitRelease(String value) {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch(InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    private String sleep(String value, long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch(InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
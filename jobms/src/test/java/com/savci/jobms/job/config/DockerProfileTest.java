@@ -0,0 +1,28 @@
+package com.savci.jobms.job.config;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultBootstrapContext;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.DefaultResourceLoader;
+
+@DisplayName("It should resolve the properties of the docker profile successfully.")
+public class DockerProfileTest {
+    @Test
+    @DisplayName("It should rewrite the batched inserts and inherit the bulk creation settings in the docker profile.")
+    void batchedInserts() {
+        // Only the property files are resolved, so that the system properties of the test run do not override them.
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().remove(StandardEnvironment.SYSTEM_PROPERTIES_PROPERTY_SOURCE_NAME);
+        environment.getPropertySources().remove(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME);
+        ConfigDataEnvironmentPostProcessor.applyTo(environment, new DefaultResourceLoader(), new DefaultBootstrapContext(), "docker");
+        Assertions.assertAll("Docker Profile",
+                () -> Assertions.assertEquals(environment.getProperty("spring.datasource.url"), "jdbc:postgresql://postgres:5432/job?reWriteBatchedInserts=true"),
+                () -> Assertions.assertEquals(environment.getProperty("jobms.bulk.batch-size"), "50"),
+                () -> Assertions.assertEquals(environment.getProperty("jobms.bulk.max-size"), "1000"),
+                () -> Assertions.assertEquals(environment.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size"), "50"),
+                () -> Assertions.assertEquals(environment.getProperty("spring.jpa.properties.hibernate.order_inserts"), "true"));
+    }
+}
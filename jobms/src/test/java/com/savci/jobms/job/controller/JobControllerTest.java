@@ -1,12 +1,25 @@
 package com.savci.jobms.job.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.savci.jobms.job.config.MetricsConfig;
 import com.savci.jobms.job.external.Company;
+import com.savci.jobms.job.dto.JobBulkErrorDTO;
+import com.savci.jobms.job.dto.JobBulkResultDTO;
 import com.savci.jobms.job.dto.JobDTO;
+import com.savci.jobms.job.dto.JobPageDTO;
+import com.savci.jobms.job.dto.JobPageRequest;
+import com.savci.jobms.job.dto.JobView;
+import com.savci.jobms.job.dto.JobSearchRequest;
 import com.savci.jobms.job.entity.Job;
 import com.savci.jobms.job.entity.JobId;
+import com.savci.jobms.job.exception.ConcurrencyLimitExceededException;
+import com.savci.jobms.job.exception.DownstreamTimeoutException;
 import com.savci.jobms.job.external.Review;
 import com.savci.jobms.job.service.JobService;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Path;
@@ -19,15 +32,25 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest
@@ -61,8 +84,8 @@ public class JobControllerTest {
         firstJob.setId(1L);
         firstJob.setName("Job 1");
         firstJob.setDescription("Description 1");
-        firstJob.setMinSalary("30000");
-        firstJob.setMaxSalary("40000");
+        firstJob.setMinSalary(30000L);
+        firstJob.setMaxSalary(40000L);
         firstJob.setLocation("Location 1");
         firstJob.setCompanyId(1L);
 
@@ -70,8 +93,8 @@ public class JobControllerTest {
         secondJob.setId(2L);
         secondJob.setName("Job 2");
         secondJob.setDescription("Description 2");
-        secondJob.setMinSalary("40000");
-        secondJob.setMaxSalary("50000");
+        secondJob.setMinSalary(40000L);
+        secondJob.setMaxSalary(50000L);
         secondJob.setLocation("Location 2");
         secondJob.setCompanyId(2L);
 
@@ -169,41 +192,170 @@ public class JobControllerTest {
     @Test
     @DisplayName("It should create a new job using the appropriate controller method.")
     void save() throws Exception {
-        Mockito.when(jobService.createJob(Mockito.any(Job.class))).thenReturn(Collections.singletonMap("The job is created successfully!", HttpStatus.CREATED));
-        Assertions.assertEquals(mockMvc.perform(post("/jobs").contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(firstJob)))
+        Mockito.when(jobService.createJob(Mockito.any(Job.class))).thenReturn(CompletableFuture.completedFuture(Collections.singletonMap("The job is created successfully!", HttpStatus.CREATED)));
+        Assertions.assertEquals(performAsync(post("/jobs").contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(firstJob)))
                 .andExpect(status().isCreated())
                 .andReturn()
                 .getResponse()
                 .getContentAsString(), "The job is created successfully!");
     }
 
+    @Test
+    @DisplayName("It should not create a new job with a non-numeric salary. It should return 422 status code with the salary message.")
+    void saveNonNumericSalary() throws Exception {
+        String body = objectMapper.writeValueAsString(firstJob).replace("\"minSalary\":30000", "\"minSalary\":\"abcde\"");
+        mockMvc.perform(post("/jobs").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0]").value(Job.MIN_SALARY_MESSAGE));
+        Mockito.verifyNoInteractions(jobService);
+    }
+
     @Test
     @DisplayName("It should not create a new job using the appropriate controller method. It should return 404 status code.")
     void saveFailedFirstCase() throws Exception {
-        Mockito.when(jobService.createJob(Mockito.any(Job.class))).thenReturn(Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND));
-        Assertions.assertEquals(mockMvc.perform(post("/jobs").contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(firstJob)))
+        Mockito.when(jobService.createJob(Mockito.any(Job.class))).thenReturn(CompletableFuture.completedFuture(Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND)));
+        Assertions.assertEquals(performAsync(post("/jobs").contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(firstJob)))
                 .andExpect(status().isNotFound())
                 .andReturn()
                 .getResponse()
                 .getContentAsString(), "The job is not found!");
     }
 
+    @Test
+    @DisplayName("It should create the jobs in bulk using the appropriate controller method and report the failed items. It should return 207 status code.")
+    void saveAll() throws Exception {
+        JobBulkResultDTO result = new JobBulkResultDTO(List.of(1L), List.of(new JobBulkErrorDTO(1, List.of("The company is not found!"))));
+        Mockito.when(jobService.createJobs(Mockito.anyList())).thenReturn(Collections.singletonMap(result, HttpStatus.MULTI_STATUS));
+        mockMvc.perform(post("/jobs/bulk").contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(List.of(firstJob, secondJob))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created[0]").value(1L))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[0].errors[0]").value("The company is not found!"));
+    }
+
     @Test
     @DisplayName("It should use the controller to fetch all the jobs in the database.")
     void getAllJobs() throws Exception {
         List<JobDTO> jobDTOList = new ArrayList<>();
         jobDTOList.add(firstJobDTO);
         jobDTOList.add(secondJobDTO);
-        Mockito.when(jobService.getAllJobs()).thenReturn(jobDTOList);
-        mockMvc.perform(get("/jobs"))
+        Mockito.when(jobService.getAllJobs(Mockito.any(JobPageRequest.class), Mockito.any(JobView.class))).thenReturn(CompletableFuture.completedFuture(new JobPageDTO(jobDTOList, 20, null)));
+        performAsync(get("/jobs"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LINK))
+                .andExpect(header().doesNotExist(JobController.DATA_STALE_HEADER))
                 .andExpect(jsonPath("$.size()").value(jobDTOList.size()));
     }
 
+    @Test
+    @DisplayName("It should use the controller to flag the page of jobs served with the last known good relations as stale.")
+    void getAllJobsStale() throws Exception {
+        firstJobDTO.setStale(true);
+        Mockito.when(jobService.getAllJobs(Mockito.any(JobPageRequest.class), Mockito.any(JobView.class))).thenReturn(CompletableFuture.completedFuture(new JobPageDTO(List.of(firstJobDTO, secondJobDTO), 20, null)));
+        performAsync(get("/jobs"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.WARNING, JobController.STALE_WARNING))
+                .andExpect(header().string(JobController.DATA_STALE_HEADER, "true"))
+                .andExpect(request().attribute(MetricsConfig.RESULT_ATTRIBUTE, MetricsConfig.STALE))
+                .andExpect(jsonPath("$[0].stale").doesNotExist())
+                .andExpect(jsonPath("$.size()").value(2));
+    }
+
+    @Test
+    @DisplayName("It should use the controller to stream all the jobs in the database as newline delimited JSON.")
+    void exportAllJobs() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            Consumer<JobDTO> consumer = invocation.getArgument(0);
+            consumer.accept(firstJobDTO);
+            consumer.accept(secondJobDTO);
+            return null;
+        }).when(jobService).exportAllJobs(Mockito.any());
+        MvcResult mvcResult = mockMvc.perform(get("/jobs").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(objectMapper.writeValueAsString(firstJobDTO) + "\n" + objectMapper.writeValueAsString(secondJobDTO) + "\n"));
+        Mockito.verify(jobService, Mockito.never()).getAllJobs(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("It should use the controller to fetch a page of jobs and link the next page.")
+    void getAllJobsNextPage() throws Exception {
+        Mockito.when(jobService.getAllJobs(new JobPageRequest(1, 0L), new JobView())).thenReturn(CompletableFuture.completedFuture(new JobPageDTO(List.of(firstJobDTO), 1, 1L)));
+        performAsync(get("/jobs?limit={limit}&after={after}", 1, 0))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.LINK, "<http://localhost/jobs?after=1&limit=1>; rel=\"next\""))
+                .andExpect(header().string(JobController.NEXT_CURSOR_HEADER, "1"))
+                .andExpect(jsonPath("$.size()").value(1));
+    }
+
+    @Test
+    @DisplayName("It should use the controller to fetch a page of jobs filtered by salary range and location and keep the filters in the next page link.")
+    void getAllJobsFilteredNextPage() throws Exception {
+        JobPageRequest pageRequest = new JobPageRequest(1, null, 30000L, 50000L, "Location 1");
+        Mockito.when(jobService.getAllJobs(pageRequest, new JobView())).thenReturn(CompletableFuture.completedFuture(new JobPageDTO(List.of(firstJobDTO), 1, 1L)));
+        performAsync(get("/jobs?minSalary={minSalary}&maxSalary={maxSalary}&location={location}&limit={limit}", 30000, 50000, "Location 1", 1))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.LINK, "<http://localhost/jobs?minSalary=30000&maxSalary=50000&location=Location%201&after=1&limit=1>; rel=\"next\""))
+                .andExpect(jsonPath("$.size()").value(1));
+    }
+
+    @Test
+    @DisplayName("It should use the controller to fetch a page of jobs with only the requested fields and relations.")
+    void getAllJobsSparse() throws Exception {
+        Mockito.when(jobService.getAllJobs(new JobPageRequest(), new JobView("name,location", "company"))).thenReturn(CompletableFuture.completedFuture(new JobPageDTO(List.of(firstJobDTO), 20, null)));
+        performAsync(get("/jobs?fields={fields}&include={include}", "name,location", "company"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Job 1"))
+                .andExpect(jsonPath("$[0].location").value("Location 1"))
+                .andExpect(jsonPath("$[0].company.name").value(firstJobDTO.getCompany().getName()))
+                .andExpect(jsonPath("$[0].id").doesNotExist())
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].reviews").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("It should use the controller to fail to fetch the jobs with unknown fields and throw the ConstraintViolationException.")
+    void getAllJobsSparseConstraintViolation() throws Exception {
+        Mockito.when(jobService.getAllJobs(Mockito.any(JobPageRequest.class), Mockito.any(JobView.class))).thenThrow(new ConstraintViolationException(new HashSet<>()));
+        mockMvc.perform(get("/jobs?fields={fields}", "salary"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @DisplayName("It should use the controller to search a page of ranked jobs and link the next page by offset.")
+    void searchJobs() throws Exception {
+        Mockito.when(jobService.searchJobs(new JobSearchRequest("engineer", 1, null))).thenReturn(CompletableFuture.completedFuture(new JobPageDTO(List.of(firstJobDTO), 1, 1L)));
+        performAsync(get("/jobs/search?q={q}&limit={limit}", "engineer", 1))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.LINK, "<http://localhost/jobs/search?q=engineer&offset=1&limit=1>; rel=\"next\""))
+                .andExpect(header().string(JobController.NEXT_CURSOR_HEADER, "1"))
+                .andExpect(jsonPath("$.size()").value(1));
+    }
+
+    @Test
+    @DisplayName("It should use the controller to fail to search the jobs and throw the ConstraintViolationException.")
+    void searchJobsConstraintViolation() throws Exception {
+        Mockito.when(jobService.searchJobs(Mockito.any(JobSearchRequest.class))).thenThrow(new ConstraintViolationException(new HashSet<>()));
+        mockMvc.perform(get("/jobs/search"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @DisplayName("It should use the controller to fail to fetch a page of jobs and throw the ConstraintViolationException.")
+    void getAllJobsConstraintViolation() throws Exception {
+        Mockito.when(jobService.getAllJobs(Mockito.any(JobPageRequest.class), Mockito.any(JobView.class))).thenThrow(new ConstraintViolationException(new HashSet<>()));
+        mockMvc.perform(get("/jobs?limit={limit}", -1))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
     @Test
     @DisplayName("It should use the controller to fail to fetch the specific job by id in the database and throw the ConstraintViolationException.")
     void getJobByIdConstraintViolationException() throws Exception {
-        Mockito.when(jobService.getJobById(Mockito.any(JobId.class))).thenThrow(new ConstraintViolationException(jobIdConstraintViolations));
+        Mockito.when(jobService.getJobById(Mockito.any(JobId.class), Mockito.any(JobView.class))).thenThrow(new ConstraintViolationException(jobIdConstraintViolations));
         mockMvc.perform(get("/jobs/{id}", jobId))
                 .andExpect(status().isUnprocessableEntity())
                 .andExpect(result -> assertInstanceOf(ConstraintViolationException.class, result.getResolvedException()));
@@ -212,8 +364,8 @@ public class JobControllerTest {
     @Test
     @DisplayName("It should use the controller to fail to fetch the specific job by id in the database because of the invalid id.")
     void getJobByIdInvalidId() throws Exception {
-        Mockito.when(jobService.getJobById(Mockito.any(JobId.class))).thenReturn(Collections.singletonMap("The job is not found!", HttpStatus.BAD_REQUEST));
-        Assertions.assertEquals(mockMvc.perform(get("/jobs/{id}", jobId))
+        Mockito.when(jobService.getJobById(Mockito.any(JobId.class), Mockito.any(JobView.class))).thenReturn(CompletableFuture.completedFuture(Collections.singletonMap("The job is not found!", HttpStatus.BAD_REQUEST)));
+        Assertions.assertEquals(performAsync(get("/jobs/{id}", jobId))
                 .andExpect(status().isBadRequest())
                 .andReturn()
                 .getResponse()
@@ -223,29 +375,134 @@ public class JobControllerTest {
     @Test
     @DisplayName("It should use the controller to fail to fetch the specific job by id in the database because of the invalid job.")
     void getJobByIdInvalidJob() throws Exception {
-        Mockito.when(jobService.getJobById(Mockito.any(JobId.class))).thenReturn(Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND));
-        Assertions.assertEquals(mockMvc.perform(get("/jobs/{id}", jobId))
+        Mockito.when(jobService.getJobById(Mockito.any(JobId.class), Mockito.any(JobView.class))).thenReturn(CompletableFuture.completedFuture(Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND)));
+        Assertions.assertEquals(performAsync(get("/jobs/{id}", jobId))
                 .andExpect(status().isNotFound())
                 .andReturn()
                 .getResponse()
                 .getContentAsString(), "The job is not found!");
     }
 
+    @Test
+    @DisplayName("It should use the controller to fail to fetch the specific job by id when the downstream services miss the deadline.")
+    void getJobByIdDownstreamTimeout() throws Exception {
+        Mockito.when(jobService.getJobById(Mockito.any(JobId.class), Mockito.any(JobView.class))).thenReturn(CompletableFuture.failedFuture(new DownstreamTimeoutException("The downstream services did not respond in time!")));
+        Assertions.assertEquals(performAsync(get("/jobs/{id}", jobId))
+                .andExpect(status().isGatewayTimeout())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), "The downstream services did not respond in time!");
+    }
+
+    @Test
+    @DisplayName("It should use the controller to answer with service unavailable while the circuit breaker is open.")
+    void getJobByIdCircuitOpen() throws Exception {
+        Mockito.when(jobService.getJobById(Mockito.any(JobId.class), Mockito.any(JobView.class))).thenReturn(CompletableFuture.failedFuture(CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("reviewBreaker"))));
+        performAsync(get("/jobs/{id}", jobId))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(request().attribute(MetricsConfig.RESULT_ATTRIBUTE, MetricsConfig.CIRCUIT_OPEN));
+    }
+
+    @Test
+    @DisplayName("It should use the controller to answer with too many requests while the concurrency limit of the downstream service is exceeded.")
+    void getJobByIdRateLimited() throws Exception {
+        Mockito.when(jobService.getJobById(Mockito.any(JobId.class), Mockito.any(JobView.class))).thenReturn(CompletableFuture.failedFuture(new ConcurrencyLimitExceededException("The concurrency limit of the company service is exceeded!")));
+        performAsync(get("/jobs/{id}", jobId))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(request().attribute(MetricsConfig.RESULT_ATTRIBUTE, MetricsConfig.RATE_LIMITED));
+    }
+
+    @Test
+    @DisplayName("It should use the controller to answer with service unavailable while the bulkhead of the downstream service is full.")
+    void getJobByIdBulkheadFull() throws Exception {
+        Mockito.when(jobService.getJobById(Mockito.any(JobId.class), Mockito.any(JobView.class))).thenReturn(CompletableFuture.failedFuture(BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults("reviewBulkhead"))));
+        performAsync(get("/jobs/{id}", jobId))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(request().attribute(MetricsConfig.RESULT_ATTRIBUTE, MetricsConfig.BULKHEAD_FULL));
+    }
+
+    @Test
+    @DisplayName("It should use the controller to answer with service unavailable while the task executor is saturated.")
+    void getJobByIdOverloaded() throws Exception {
+        Mockito.when(jobService.getJobById(Mockito.any(JobId.class), Mockito.any(JobView.class))).thenReturn(CompletableFuture.failedFuture(new TaskRejectedException("The task executor is saturated!")));
+        performAsync(get("/jobs/{id}", jobId))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(request().attribute(MetricsConfig.RESULT_ATTRIBUTE, MetricsConfig.OVERLOADED));
+    }
+
     @Test
     @DisplayName("It should use the controller to succeed to fetch the specific job by id in the database.")
     void getJobById() throws Exception {
-        Mockito.when(jobService.getJobById(Mockito.any(JobId.class))).thenReturn(Collections.singletonMap(firstJob, HttpStatus.OK));
-        mockMvc.perform(get("/jobs/{id}", jobId))
+        Mockito.when(jobService.getJobById(Mockito.any(JobId.class), Mockito.any(JobView.class))).thenReturn(CompletableFuture.completedFuture(Collections.singletonMap(firstJob, HttpStatus.OK)));
+        performAsync(get("/jobs/{id}", jobId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.name").value( "Job 1"))
                 .andExpect(jsonPath("$.description").value( "Description 1"))
-                .andExpect(jsonPath("$.minSalary").value("30000"))
-                .andExpect(jsonPath("$.maxSalary").value("40000"))
+                .andExpect(jsonPath("$.minSalary").value(30000L))
+                .andExpect(jsonPath("$.maxSalary").value(40000L))
                 .andExpect(jsonPath("$.location").value("Location 1"))
                 .andExpect(jsonPath("$.companyId").value(1L));
     }
 
+    @Test
+    @DisplayName("It should use the controller to flag the specific job served with the last known good relations as stale without an entity tag.")
+    void getJobByIdStale() throws Exception {
+        firstJobDTO.setVersion(2L);
+        firstJobDTO.setStale(true);
+        Mockito.when(jobService.getJobById(Mockito.any(JobId.class), Mockito.any(JobView.class))).thenReturn(CompletableFuture.completedFuture(Collections.singletonMap(firstJobDTO, HttpStatus.OK)));
+        performAsync(get("/jobs/{id}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.WARNING, JobController.STALE_WARNING))
+                .andExpect(header().string(JobController.DATA_STALE_HEADER, "true"))
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(request().attribute(MetricsConfig.RESULT_ATTRIBUTE, MetricsConfig.STALE))
+                .andExpect(jsonPath("$.stale").doesNotExist())
+                .andExpect(jsonPath("$.company.name").value(firstJobDTO.getCompany().getName()));
+    }
+
+    @Test
+    @DisplayName("It should use the controller to fetch the specific job together with the entity tag derived from its version.")
+    void getJobByIdETag() throws Exception {
+        firstJobDTO.setVersion(2L);
+        Mockito.when(jobService.getJobById(Mockito.any(JobId.class), Mockito.any(JobView.class))).thenReturn(CompletableFuture.completedFuture(Collections.singletonMap(firstJobDTO, HttpStatus.OK)));
+        performAsync(get("/jobs/{id}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(jsonPath("$.version").doesNotExist())
+                .andExpect(jsonPath("$.name").value("Job 1"));
+        Mockito.verify(jobService, Mockito.never()).getJobVersionById(Mockito.any(JobId.class));
+    }
+
+    @Test
+    @DisplayName("It should use the controller to answer the conditional fetch of an unchanged job with 304 status code without fetching the job.")
+    void getJobByIdNotModified() throws Exception {
+        Mockito.when(jobService.getJobVersionById(Mockito.any(JobId.class))).thenReturn(Collections.singletonMap(2L, HttpStatus.OK));
+        mockMvc.perform(get("/jobs/{id}", jobId).header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(content().string(""));
+        Mockito.verify(jobService, Mockito.never()).getJobById(Mockito.any(JobId.class), Mockito.any(JobView.class));
+    }
+
+    @Test
+    @DisplayName("It should use the controller to fetch the job when the conditional fetch of a sparse view carries the entity tag of the full view.")
+    void getJobByIdSparseModified() throws Exception {
+        firstJobDTO.setVersion(2L);
+        Mockito.when(jobService.getJobVersionById(Mockito.any(JobId.class))).thenReturn(Collections.singletonMap(2L, HttpStatus.OK));
+        Mockito.when(jobService.getJobById(Mockito.any(JobId.class), Mockito.any(JobView.class))).thenReturn(CompletableFuture.completedFuture(Collections.singletonMap(firstJobDTO, HttpStatus.OK)));
+        String eTag = performAsync(get("/jobs/{id}?fields={fields}", jobId, "name").header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Job 1"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        Assertions.assertAll("Sparse Job Entity Tag",
+                () -> Assertions.assertNotNull(eTag),
+                () -> Assertions.assertNotEquals(eTag, "\"2\""),
+                () -> Assertions.assertTrue(eTag.startsWith("\"2-")));
+    }
+
     @Test
     @DisplayName("It should use the controller to fail to delete the specific job by id in the database and throw the ConstraintViolationException.")
     void deleteJobByIdConstraintViolationException() throws Exception {
@@ -289,8 +546,8 @@ public class JobControllerTest {
     @Test
     @DisplayName("It should use the controller to fail to update the specific job by id in the database because of the invalid id.")
     void updateJobByIdInvalidId() throws Exception {
-        Mockito.when(jobService.updateJobById(Mockito.any(Job.class), Mockito.any(JobId.class))).thenReturn(Collections.singletonMap("The job is not found!", HttpStatus.BAD_REQUEST));
-        Assertions.assertEquals(mockMvc.perform(put("/jobs/{id}", jobId).contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(firstJob)))
+        Mockito.when(jobService.updateJobById(Mockito.any(Job.class), Mockito.any(JobId.class))).thenReturn(CompletableFuture.completedFuture(Collections.singletonMap("The job is not found!", HttpStatus.BAD_REQUEST)));
+        Assertions.assertEquals(performAsync(put("/jobs/{id}", jobId).contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(firstJob)))
                 .andExpect(status().isBadRequest())
                 .andReturn()
                 .getResponse()
@@ -300,8 +557,8 @@ public class JobControllerTest {
     @Test
     @DisplayName("It should use the controller to fail to update the specific job by id in the database because of the invalid job.")
     void updatedJobByIdInvalidJob() throws Exception {
-        Mockito.when(jobService.updateJobById(Mockito.any(Job.class), Mockito.any(JobId.class))).thenReturn(Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND));
-        Assertions.assertEquals(mockMvc.perform(put("/jobs/{id}", jobId).contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(firstJob)))
+        Mockito.when(jobService.updateJobById(Mockito.any(Job.class), Mockito.any(JobId.class))).thenReturn(CompletableFuture.completedFuture(Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND)));
+        Assertions.assertEquals(performAsync(put("/jobs/{id}", jobId).contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(firstJob)))
                 .andExpect(status().isNotFound())
                 .andReturn()
                 .getResponse()
@@ -311,8 +568,8 @@ public class JobControllerTest {
     @Test
     @DisplayName("It should use the controller to fail to update the specific job by id in the database because of the invalid job.")
     void updatedJobByIdInvalidUpdatedJob() throws Exception {
-        Mockito.when(jobService.updateJobById(Mockito.any(Job.class), Mockito.any(JobId.class))).thenReturn(Collections.singletonMap("The updated job is not found!", HttpStatus.NOT_FOUND));
-        Assertions.assertEquals(mockMvc.perform(put("/jobs/{id}", jobId.getId()).contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(firstJob)))
+        Mockito.when(jobService.updateJobById(Mockito.any(Job.class), Mockito.any(JobId.class))).thenReturn(CompletableFuture.completedFuture(Collections.singletonMap("The updated job is not found!", HttpStatus.NOT_FOUND)));
+        Assertions.assertEquals(performAsync(put("/jobs/{id}", jobId.getId()).contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(firstJob)))
                 .andExpect(status().isNotFound())
                 .andReturn()
                 .getResponse()
@@ -322,15 +579,22 @@ public class JobControllerTest {
     @Test
     @DisplayName("It should use the controller to succeed to update the specific job by id in the database.")
     void updateJobById() throws Exception {
-        Mockito.when(jobService.updateJobById(Mockito.any(Job.class), Mockito.any(JobId.class))).thenReturn(Collections.singletonMap(firstJob, HttpStatus.OK));
-        mockMvc.perform(put("/jobs/{id}", jobId).contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(firstJob)))
+        Mockito.when(jobService.updateJobById(Mockito.any(Job.class), Mockito.any(JobId.class))).thenReturn(CompletableFuture.completedFuture(Collections.singletonMap(firstJob, HttpStatus.OK)));
+        performAsync(put("/jobs/{id}", jobId).contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(firstJob)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.name").value( "Job 1"))
                 .andExpect(jsonPath("$.description").value( "Description 1"))
-                .andExpect(jsonPath("$.minSalary").value("30000"))
-                .andExpect(jsonPath("$.maxSalary").value("40000"))
+                .andExpect(jsonPath("$.minSalary").value(30000L))
+                .andExpect(jsonPath("$.maxSalary").value(40000L))
                 .andExpect(jsonPath("$.location").value("Location 1"))
                 .andExpect(jsonPath("$.companyId").value(1L));
     }
+
+    private ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(mvcResult));
+    }
 }
@@ -0,0 +1,92 @@
+package com.savci.jobms.job.deletion;
+
+import com.savci.jobms.job.entity.Job;
+import com.savci.jobms.job.repository.JobRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+@DataJpaTest
+@Import(ChunkedJobDeleter.class)
+@DisplayName("It should delete the jobs of a company in bounded chunks and track the progress successfully.")
+public class ChunkedJobDeleterTest {
+    @Autowired
+    private ChunkedJobDeleter chunkedJobDeleter;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private CompanyDeletionRepository companyDeletionRepository;
+    private Job otherCompanyJob;
+
+    @BeforeEach
+    @DisplayName("Setting up the data for test cases.")
+    void init() {
+        for(int index = 0; index < 5; index++) {
+            saveJob(1L);
+        }
+        otherCompanyJob = saveJob(2L);
+    }
+
+    @Test
+    @DisplayName("It should delete the jobs chunk by chunk and complete the deletion when no job is left.")
+    void deleteInChunks() {
+        chunkedJobDeleter.begin(1L);
+        int chunks = 0;
+        while(chunkedJobDeleter.deleteNextChunk(1L, 2)) {
+            chunks++;
+        }
+        CompanyDeletion deletion = companyDeletionRepository.findById(1L).orElseThrow();
+        int deletedChunks = chunks;
+        Assertions.assertAll("Chunked Deletion",
+                () -> Assertions.assertEquals(deletedChunks, 3),
+                () -> Assertions.assertEquals(deletion.getStatus(), CompanyDeletion.Status.COMPLETED),
+                () -> Assertions.assertEquals(deletion.getDeletedRows(), 5L),
+                () -> Assertions.assertEquals(jobRepository.findAll(), List.of(otherCompanyJob)));
+    }
+
+    @Test
+    @DisplayName("It should resume an interrupted deletion after the last deleted id.")
+    void resumeInProgressDeletion() {
+        chunkedJobDeleter.begin(1L);
+        chunkedJobDeleter.deleteNextChunk(1L, 2);
+        Long lastDeletedId = companyDeletionRepository.findById(1L).orElseThrow().getLastDeletedId();
+        CompanyDeletion resumed = chunkedJobDeleter.begin(1L);
+        Assertions.assertAll("Resumed Deletion",
+                () -> Assertions.assertEquals(resumed.getStatus(), CompanyDeletion.Status.IN_PROGRESS),
+                () -> Assertions.assertEquals(resumed.getLastDeletedId(), lastDeletedId),
+                () -> Assertions.assertEquals(resumed.getDeletedRows(), 2L),
+                () -> Assertions.assertEquals(jobRepository.findIdsByCompanyIdAfter(1L, 0L, Limit.of(10)).size(), 3));
+    }
+
+    @Test
+    @DisplayName("It should restart the progress of a company whose previous deletion is completed.")
+    void restartCompletedDeletion() {
+        chunkedJobDeleter.begin(1L);
+        while(chunkedJobDeleter.deleteNextChunk(1L, 10)) {
+            // drain the company
+        }
+        CompanyDeletion restarted = chunkedJobDeleter.begin(1L);
+        Assertions.assertAll("Restarted Deletion",
+                () -> Assertions.assertEquals(restarted.getStatus(), CompanyDeletion.Status.IN_PROGRESS),
+                () -> Assertions.assertEquals(restarted.getLastDeletedId(), 0L),
+                () -> Assertions.assertEquals(restarted.getDeletedRows(), 0L));
+    }
+
+    private Job saveJob(Long companyId) {
+        Job job = new Job();
+        job.setName("Job");
+        job.setDescription("Description");
+        job.setMinSalary(30000L);
+        job.setMaxSalary(40000L);
+        job.setLocation("Location");
+        job.setCompanyId(companyId);
+        return jobRepository.save(job);
+    }
+}
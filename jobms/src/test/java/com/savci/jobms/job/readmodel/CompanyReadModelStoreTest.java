@@ -0,0 +1,170 @@
+package com.savci.jobms.job.readmodel;
+
+import com.savci.jobms.job.client.CompanyClient;
+import com.savci.jobms.job.client.ReviewClient;
+import com.savci.jobms.job.external.Company;
+import com.savci.jobms.job.external.Review;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import({CompanyReadModelStore.class, CompanyReadModelWriter.class, CompanyReadModelStoreTest.ExecutorConfig.class})
+@DisplayName("It should maintain and serve the local company read model successfully.")
+public class CompanyReadModelStoreTest {
+    @Autowired
+    private CompanyReadModelStore companyReadModelStore;
+    @Autowired
+    private CompanyReadModelRepository companyReadModelRepository;
+    @Autowired
+    private ReviewReadModelRepository reviewReadModelRepository;
+    @MockBean
+    private CompanyClient companyClient;
+    @MockBean
+    private ReviewClient reviewClient;
+    private Company company;
+    private Review firstReview;
+    private Review secondReview;
+
+    @TestConfiguration
+    static class ExecutorConfig {
+        @Bean
+        public Executor taskExecutor() {
+            return new SyncTaskExecutor();
+        }
+    }
+
+    @BeforeEach
+    @DisplayName("Setting up the data for test cases.")
+    void init() {
+        company = Company.builder().id(1L).name("Company 1").description("Description 1").build();
+        firstReview = Review.builder().id(1L).title("Title 1").description("Description 1").rating(5D).companyId(1L).build();
+        secondReview = Review.builder().id(2L).title("Title 2").description("Description 2").rating(3.5D).companyId(1L).build();
+    }
+
+    @Test
+    @DisplayName("It should store the refreshed company with the average rating of its reviews.")
+    void refresh() {
+        Mockito.when(companyClient.getCompanies(Set.of(1L))).thenReturn(List.of(company));
+        Mockito.when(reviewClient.getReviewsByCompanyIds(Set.of(1L))).thenReturn(List.of(firstReview, secondReview));
+        companyReadModelStore.refresh(Set.of(1L));
+        CompanyReadModel companyReadModel = companyReadModelRepository.findById(1L).orElseThrow();
+        Assertions.assertAll("Refreshed Read Model",
+                () -> Assertions.assertEquals(companyReadModel.getName(), "Company 1"),
+                () -> Assertions.assertEquals(companyReadModel.getAverageRating(), 4.25D),
+                () -> Assertions.assertNotNull(companyReadModel.getUpdatedAt()),
+                () -> Assertions.assertEquals(reviewReadModelRepository.findByCompanyIdIn(Set.of(1L)).size(), 2));
+    }
+
+    @Test
+    @DisplayName("It should replace the reviews of the company and drop the deleted ones.")
+    void refreshDeletedReview() {
+        Mockito.when(companyClient.getCompanies(Set.of(1L))).thenReturn(List.of(company));
+        Mockito.when(reviewClient.getReviewsByCompanyIds(Set.of(1L))).thenReturn(List.of(firstReview, secondReview), List.of(secondReview));
+        companyReadModelStore.refresh(Set.of(1L));
+        companyReadModelStore.refresh(Set.of(1L));
+        Assertions.assertAll("Replaced Reviews",
+                () -> Assertions.assertEquals(companyReadModelStore.getReviews(Set.of(1L)), List.of(secondReview)),
+                () -> Assertions.assertEquals(companyReadModelRepository.findById(1L).orElseThrow().getAverageRating(), 3.5D));
+    }
+
+    @Test
+    @DisplayName("It should keep the company which no longer exists as deleted and not fill it in again.")
+    void refreshDeletedCompany() {
+        Mockito.when(companyClient.getCompanies(Set.of(1L))).thenReturn(List.of(company), Collections.emptyList());
+        Mockito.when(reviewClient.getReviewsByCompanyIds(Set.of(1L))).thenReturn(List.of(firstReview));
+        companyReadModelStore.refresh(Set.of(1L));
+        companyReadModelStore.refresh(Set.of(1L));
+        Assertions.assertAll("Deleted Company",
+                () -> Assertions.assertTrue(companyReadModelRepository.findById(1L).orElseThrow().isDeleted()),
+                () -> Assertions.assertEquals(companyReadModelStore.getCompanies(Set.of(1L)), Collections.emptyList()),
+                () -> Assertions.assertEquals(companyReadModelStore.getReviews(Set.of(1L)), Collections.emptyList()));
+        Mockito.verify(companyClient, Mockito.times(2)).getCompanies(Mockito.anyCollection());
+        Mockito.verify(reviewClient, Mockito.times(1)).getReviewsByCompanyIds(Mockito.anyCollection());
+    }
+
+    @Test
+    @DisplayName("It should report the missing companies and fill them in in the background.")
+    void getCompaniesBackfill() {
+        Company secondCompany = Company.builder().id(2L).name("Company 2").description("Description 2").build();
+        Mockito.when(companyClient.getCompanies(Set.of(1L))).thenReturn(List.of(company));
+        Mockito.when(companyClient.getCompanies(Set.of(2L))).thenReturn(List.of(secondCompany));
+        Mockito.when(reviewClient.getReviewsByCompanyIds(Set.of(1L))).thenReturn(List.of(firstReview));
+        companyReadModelStore.refresh(Set.of(1L));
+        List<Company> companies = companyReadModelStore.getCompanies(Set.of(1L, 2L));
+        Assertions.assertAll("Backfilled Companies",
+                () -> Assertions.assertNull(companies),
+                () -> Assertions.assertEquals(companyReadModelStore.getCompanies(Set.of(2L)), List.of(secondCompany)),
+                () -> Assertions.assertEquals(companyReadModelStore.getCompanies(Set.of(1L)), List.of(Company.builder().id(1L).name("Company 1").description("Description 1").averageRating(5D).build())));
+        Mockito.verify(companyClient, Mockito.times(1)).getCompanies(Set.of(2L));
+        Mockito.verify(reviewClient, Mockito.never()).getReviewsByCompanyIds(Set.of(1L, 2L));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("It should write the concurrent refreshes of the same company without losing or duplicating its rows.")
+    void concurrentRefresh() throws Exception {
+        Mockito.when(companyClient.getCompanies(Set.of(1L))).thenReturn(List.of(company));
+        Mockito.when(reviewClient.getReviewsByCompanyIds(Set.of(1L))).thenReturn(List.of(firstReview, secondReview));
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            for(int round = 0; round < 10; round++) {
+                CountDownLatch start = new CountDownLatch(1);
+                List<CompletableFuture<Void>> refreshes = new ArrayList<>();
+                for(int refresh = 0; refresh < 4; refresh++) {
+                    refreshes.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            start.await();
+                        } catch(InterruptedException exception) {
+                            Thread.currentThread().interrupt();
+                        }
+                        companyReadModelStore.refresh(Set.of(1L));
+                    }, executorService));
+                }
+                start.countDown();
+                CompletableFuture.allOf(refreshes.toArray(CompletableFuture[]::new)).get();
+            }
+            Assertions.assertAll("Concurrent Refreshes",
+                    () -> Assertions.assertEquals(companyReadModelRepository.count(), 1L),
+                    () -> Assertions.assertEquals(companyReadModelRepository.findById(1L).orElseThrow().getAverageRating(), 4.25D),
+                    () -> Assertions.assertEquals(reviewReadModelRepository.findByCompanyIdIn(Set.of(1L)).size(), 2));
+        } finally {
+            executorService.shutdownNow();
+            reviewReadModelRepository.deleteAll();
+            companyReadModelRepository.deleteAll();
+        }
+    }
+
+    @Test
+    @DisplayName("It should drop the stored rows of the evicted company.")
+    void evict() {
+        Mockito.when(companyClient.getCompanies(Set.of(1L))).thenReturn(List.of(company));
+        Mockito.when(reviewClient.getReviewsByCompanyIds(Set.of(1L))).thenReturn(List.of(firstReview));
+        companyReadModelStore.refresh(Set.of(1L));
+        companyReadModelStore.evict(Set.of(1L));
+        Assertions.assertAll("Evicted Company",
+                () -> Assertions.assertFalse(companyReadModelRepository.existsById(1L)),
+                () -> Assertions.assertTrue(reviewReadModelRepository.findByCompanyIdIn(Set.of(1L)).isEmpty()));
+    }
+}
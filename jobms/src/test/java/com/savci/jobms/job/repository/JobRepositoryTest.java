@@ -7,14 +7,20 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @DataJpaTest
 @DisplayName("It should handle the repository operations successfully.")
 public class JobRepositoryTest {
     @Autowired
     private JobRepository jobRepositoryTest;
+    @Autowired
+    private TestEntityManager testEntityManager;
     private Job firstJob;
     private Job secondJob;
 
@@ -24,16 +30,16 @@ public class JobRepositoryTest {
         firstJob = new Job();
         firstJob.setName("Job 1");
         firstJob.setDescription("Description 1");
-        firstJob.setMinSalary("30000");
-        firstJob.setMaxSalary("40000");
+        firstJob.setMinSalary(30000L);
+        firstJob.setMaxSalary(40000L);
         firstJob.setLocation("Location 1");
         firstJob.setCompanyId(1L);
 
         secondJob = new Job();
         secondJob.setName("Job 2");
         secondJob.setDescription("Description 2");
-        secondJob.setMinSalary("40000");
-        secondJob.setMaxSalary("50000");
+        secondJob.setMinSalary(40000L);
+        secondJob.setMaxSalary(50000L);
         secondJob.setLocation("Location 2");
         secondJob.setCompanyId(2L);
     }
@@ -63,6 +69,59 @@ public class JobRepositoryTest {
                 () -> Assertions.assertEquals(jobList.get(1), secondJob));
     }
 
+    @Test
+    @DisplayName("It should seek the jobs after the given id in ascending id order limited by the page size.")
+    void getJobsAfterId() {
+        jobRepositoryTest.save(firstJob);
+        jobRepositoryTest.save(secondJob);
+
+        List<Job> firstPage = jobRepositoryTest.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1));
+        List<Job> secondPage = jobRepositoryTest.findByIdGreaterThanOrderByIdAsc(firstJob.getId(), Limit.of(1));
+        List<Job> lastPage = jobRepositoryTest.findByIdGreaterThanOrderByIdAsc(secondJob.getId(), Limit.of(1));
+        Assertions.assertAll("Job Pages In Database",
+                () -> Assertions.assertEquals(firstPage, List.of(firstJob)),
+                () -> Assertions.assertEquals(secondPage, List.of(secondJob)),
+                () -> Assertions.assertTrue(lastPage.isEmpty()));
+    }
+
+    @Test
+    @DisplayName("It should filter the jobs by salary range and location after the given id in ascending id order limited by the page size.")
+    void findFilteredJobs() {
+        jobRepositoryTest.save(firstJob);
+        jobRepositoryTest.save(secondJob);
+
+        List<Job> salaryJobList = jobRepositoryTest.findBy(
+                Specification.where(JobSpecifications.idGreaterThan(0L))
+                        .and(JobSpecifications.minSalaryAtLeast(35000L))
+                        .and(JobSpecifications.maxSalaryAtMost(50000L)),
+                query -> query.sortBy(JobSpecifications.BY_ID).limit(10).all());
+        List<Job> locationJobList = jobRepositoryTest.findBy(
+                Specification.where(JobSpecifications.idGreaterThan(0L))
+                        .and(JobSpecifications.locatedIn("Location 1")),
+                query -> query.sortBy(JobSpecifications.BY_ID).limit(10).all());
+        List<Job> limitedJobList = jobRepositoryTest.findBy(
+                Specification.where(JobSpecifications.idGreaterThan(0L))
+                        .and(JobSpecifications.maxSalaryAtMost(50000L)),
+                query -> query.sortBy(JobSpecifications.BY_ID).limit(1).all());
+        Assertions.assertAll("Filtered Jobs In Database",
+                () -> Assertions.assertEquals(salaryJobList, List.of(secondJob)),
+                () -> Assertions.assertEquals(locationJobList, List.of(firstJob)),
+                () -> Assertions.assertEquals(limitedJobList, List.of(firstJob)));
+    }
+
+    @Test
+    @DisplayName("It should stream all the jobs stored in the database in ascending id order.")
+    void streamAllJobs() {
+        jobRepositoryTest.save(secondJob);
+        jobRepositoryTest.save(firstJob);
+
+        List<Job> jobList;
+        try(Stream<Job> jobs = jobRepositoryTest.streamAll()) {
+            jobList = jobs.toList();
+        }
+        Assertions.assertEquals(jobList, List.of(secondJob, firstJob));
+    }
+
     @Test
     @DisplayName("It should obtain the specific job via its id in the database.")
     void getJobById() {
@@ -88,12 +147,42 @@ public class JobRepositoryTest {
                 () -> Assertions.assertNotNull(updatedJob),
                 () -> Assertions.assertEquals(updatedJob.getName(), "Job 2"),
                 () -> Assertions.assertEquals(updatedJob.getDescription(), "Description 2"),
-                () -> Assertions.assertEquals(updatedJob.getMinSalary(), "40000"),
-                () -> Assertions.assertEquals(updatedJob.getMaxSalary(), "50000"),
+                () -> Assertions.assertEquals(updatedJob.getMinSalary(), 40000L),
+                () -> Assertions.assertEquals(updatedJob.getMaxSalary(), 50000L),
                 () -> Assertions.assertEquals(updatedJob.getLocation(), "Location 2"),
                 () -> Assertions.assertEquals(updatedJob.getCompanyId(), 2L));
     }
 
+    @Test
+    @DisplayName("It should update the specific job with a single conditional statement and report the affected rows.")
+    void updateJobByIdStatement() {
+        jobRepositoryTest.save(firstJob);
+        int updatedRows = jobRepositoryTest.updateJobById(firstJob.getId(), secondJob);
+        int missingRows = jobRepositoryTest.updateJobById(firstJob.getId() + 1, secondJob);
+        testEntityManager.clear();
+        Job updatedJob = jobRepositoryTest.findById(firstJob.getId()).orElse(null);
+
+        Assertions.assertAll("Conditionally Updated Job in the Database",
+                () -> Assertions.assertEquals(updatedRows, 1),
+                () -> Assertions.assertEquals(missingRows, 0),
+                () -> Assertions.assertEquals(updatedJob, secondJob),
+                () -> Assertions.assertEquals(updatedJob.getVersion(), 1L));
+    }
+
+    @Test
+    @DisplayName("It should obtain only the version of the specific job in the database.")
+    void findVersionById() {
+        jobRepositoryTest.saveAndFlush(firstJob);
+        Long createdVersion = jobRepositoryTest.findVersionById(firstJob.getId()).orElse(null);
+        jobRepositoryTest.updateJobById(firstJob.getId(), secondJob);
+        Long updatedVersion = jobRepositoryTest.findVersionById(firstJob.getId()).orElse(null);
+
+        Assertions.assertAll("Job Version in the Database",
+                () -> Assertions.assertEquals(createdVersion, 0L),
+                () -> Assertions.assertEquals(updatedVersion, 1L),
+                () -> Assertions.assertTrue(jobRepositoryTest.findVersionById(firstJob.getId() + 1).isEmpty()));
+    }
+
     @Test
     @DisplayName("It should partially update the specific job in the database.")
     void partiallyUpdateJobById() {
@@ -101,7 +190,7 @@ public class JobRepositoryTest {
         Job existingJob = jobRepositoryTest.findById(firstJob.getId()).orElse(null);
         Assertions.assertNotNull(existingJob);
         existingJob.setDescription("Description 2");
-        existingJob.setMaxSalary("60000");
+        existingJob.setMaxSalary(60000L);
         existingJob.setLocation("Location 2");
         Job updatedJob = jobRepositoryTest.save(existingJob);
 
@@ -109,8 +198,8 @@ public class JobRepositoryTest {
                 () -> Assertions.assertNotNull(updatedJob),
                 () -> Assertions.assertEquals(updatedJob.getName(), "Job 1"),
                 () -> Assertions.assertEquals(updatedJob.getDescription(), "Description 2"),
-                () -> Assertions.assertEquals(updatedJob.getMinSalary(), "30000"),
-                () -> Assertions.assertEquals(updatedJob.getMaxSalary(), "60000"),
+                () -> Assertions.assertEquals(updatedJob.getMinSalary(), 30000L),
+                () -> Assertions.assertEquals(updatedJob.getMaxSalary(), 60000L),
                 () -> Assertions.assertEquals(updatedJob.getLocation(), "Location 2"),
                 () -> Assertions.assertEquals(updatedJob.getCompanyId(), 1L));
     }
@@ -131,6 +220,38 @@ public class JobRepositoryTest {
                 () -> Assertions.assertNotSame(job, firstJob));
     }
 
+    @Test
+    @DisplayName("It should delete the specific job with a single conditional statement and report the affected rows.")
+    void deleteJobByIdStatement() {
+        jobRepositoryTest.save(firstJob);
+        jobRepositoryTest.save(secondJob);
+        int deletedRows = jobRepositoryTest.deleteJobById(firstJob.getId());
+        int missingRows = jobRepositoryTest.deleteJobById(firstJob.getId());
+        testEntityManager.clear();
+
+        Assertions.assertAll("Conditionally Deleted Job in the Database",
+                () -> Assertions.assertEquals(deletedRows, 1),
+                () -> Assertions.assertEquals(missingRows, 0),
+                () -> Assertions.assertEquals(jobRepositoryTest.findAll(), List.of(secondJob)));
+    }
+
+    @Test
+    @DisplayName("It should delete the jobs of the given companies with a single statement and report the affected rows.")
+    void deleteByCompanyIdIn() {
+        Job thirdJob = new Job();
+        thirdJob.copy(secondJob);
+        thirdJob.setCompanyId(3L);
+        jobRepositoryTest.save(firstJob);
+        jobRepositoryTest.save(secondJob);
+        jobRepositoryTest.save(thirdJob);
+        int deletedRows = jobRepositoryTest.deleteByCompanyIdIn(List.of(1L, 3L, 4L));
+        testEntityManager.clear();
+
+        Assertions.assertAll("Deleted Jobs of the Companies in the Database",
+                () -> Assertions.assertEquals(deletedRows, 2),
+                () -> Assertions.assertEquals(jobRepositoryTest.findAll(), List.of(secondJob)));
+    }
+
     @Test
     @DisplayName("It should delete the existing job object from the database.")
     void deleteJob() {
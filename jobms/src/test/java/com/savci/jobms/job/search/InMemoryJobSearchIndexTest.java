@@ -0,0 +1,90 @@
+package com.savci.jobms.job.search;
+
+import com.savci.jobms.job.entity.Job;
+import com.savci.jobms.job.repository.JobRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+@DataJpaTest(properties = "jobms.search.engine=in-memory")
+@Import(InMemoryJobSearchIndex.class)
+@DisplayName("It should rank the jobs through the in-memory inverted index successfully.")
+public class InMemoryJobSearchIndexTest {
+    @Autowired
+    private InMemoryJobSearchIndex jobSearchIndex;
+    @Autowired
+    private JobRepository jobRepository;
+    private Job firstJob;
+    private Job secondJob;
+    private Job thirdJob;
+
+    @BeforeEach
+    @DisplayName("Setting up the data for test cases.")
+    void init() {
+        firstJob = saveAndIndex("Backend Engineer", "Build Java services for the payments team.");
+        secondJob = saveAndIndex("Data Analyst", "Work with the backend engineer on reporting.");
+        thirdJob = saveAndIndex("Frontend Engineer", "Build user interfaces.");
+    }
+
+    @Test
+    @DisplayName("It should rank the jobs matching in the name above the jobs matching in the description.")
+    void searchRanksNameMatchesFirst() {
+        List<Job> jobs = jobSearchIndex.search("Backend engineer", 0, 10);
+        Assertions.assertEquals(jobs, List.of(firstJob, secondJob));
+    }
+
+    @Test
+    @DisplayName("It should only return the jobs containing all of the query terms.")
+    void searchMatchesAllTerms() {
+        Assertions.assertAll("Jobs Containing All Terms",
+                () -> Assertions.assertEquals(jobSearchIndex.search("build interfaces", 0, 10), List.of(thirdJob)),
+                () -> Assertions.assertTrue(jobSearchIndex.search("build analyst", 0, 10).isEmpty()),
+                () -> Assertions.assertTrue(jobSearchIndex.search(" ,. ", 0, 10).isEmpty()));
+    }
+
+    @Test
+    @DisplayName("It should page through the ranked jobs with the given offset and limit.")
+    void searchPaginates() {
+        Assertions.assertAll("Ranked Job Pages",
+                () -> Assertions.assertEquals(jobSearchIndex.search("engineer", 0, 2).size(), 2),
+                () -> Assertions.assertEquals(jobSearchIndex.search("engineer", 2, 2), List.of(secondJob)),
+                () -> Assertions.assertTrue(jobSearchIndex.search("engineer", 3, 2).isEmpty()));
+    }
+
+    @Test
+    @DisplayName("It should reflect the updated and removed jobs in the index.")
+    void searchAfterUpdateAndRemove() {
+        firstJob.setName("Platform Developer");
+        jobSearchIndex.index(firstJob);
+        jobSearchIndex.remove(thirdJob.getId());
+        Assertions.assertAll("Updated Index",
+                () -> Assertions.assertEquals(jobSearchIndex.search("engineer", 0, 10), List.of(secondJob)),
+                () -> Assertions.assertEquals(jobSearchIndex.search("platform", 0, 10), List.of(firstJob)));
+    }
+
+    @Test
+    @DisplayName("It should drop the jobs which are deleted from the database without passing through the index.")
+    void searchSkipsDeletedJobs() {
+        jobRepository.deleteByCompanyIdIn(List.of(firstJob.getCompanyId()));
+        Assertions.assertAll("Deleted Jobs Dropped",
+                () -> Assertions.assertEquals(jobSearchIndex.search("engineer", 0, 1), List.of(thirdJob)),
+                () -> Assertions.assertTrue(jobSearchIndex.search("backend", 0, 10).isEmpty()));
+    }
+
+    private Job saveAndIndex(String name, String description) {
+        Job job = new Job();
+        job.setName(name);
+        job.setDescription(description);
+        job.setLocation("Location 1");
+        job.setCompanyId(name.startsWith("Frontend") ? 2L : 1L);
+        jobRepository.save(job);
+        jobSearchIndex.index(job);
+        return job;
+    }
+}
@@ -0,0 +1,240 @@
+package com.savci.jobms.job.service;
+
+import com.savci.jobms.job.client.CompanyClient;
+import com.savci.jobms.job.client.RequestCoalescer;
+import com.savci.jobms.job.client.RequestHedger;
+import com.savci.jobms.job.client.ReviewClient;
+import com.savci.jobms.job.config.JobProperties;
+import com.savci.jobms.job.deletion.ChunkedJobDeleter;
+import com.savci.jobms.job.dto.JobPageDTO;
+import com.savci.jobms.job.dto.JobPageRequest;
+import com.savci.jobms.job.dto.JobView;
+import com.savci.jobms.job.entity.Job;
+import com.savci.jobms.job.entity.JobId;
+import com.savci.jobms.job.external.Company;
+import com.savci.jobms.job.readmodel.CompanyReadModelStore;
+import com.savci.jobms.job.repository.JobRepository;
+import com.savci.jobms.job.search.JobSearchIndex;
+import com.savci.jobms.job.service.impl.JobServiceImpl;
+import com.savci.jobms.job.stale.LastKnownGoodStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({JobServiceImpl.class, JobProperties.class, RequestHedger.class, RequestCoalescer.class, LastKnownGoodStore.class, JobServiceStatementCountTest.ExecutorConfig.class})
+@DisplayName("It should reach the database with the minimum number of statements per service operation.")
+public class JobServiceStatementCountTest {
+    @Autowired
+    private JobService jobService;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JobProperties jobProperties;
+    @MockBean
+    private CompanyClient companyClient;
+    @MockBean
+    private ReviewClient reviewClient;
+    @MockBean
+    private JobSearchIndex jobSearchIndex;
+    @MockBean
+    private ChunkedJobDeleter chunkedJobDeleter;
+    @MockBean
+    private CompanyReadModelStore companyReadModelStore;
+
+    private Statistics statistics;
+    private Job job;
+
+    @TestConfiguration
+    static class ExecutorConfig {
+        @Bean
+        public Executor taskExecutor() {
+            return new SyncTaskExecutor();
+        }
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @BeforeEach
+    @DisplayName("Setting up the data for test cases.")
+    void init() {
+        job = new Job();
+        job.setName("Job 1");
+        job.setDescription("Description 1");
+        job.setMinSalary(30000L);
+        job.setMaxSalary(40000L);
+        job.setLocation("Location 1");
+        job.setCompanyId(1L);
+        jobRepository.save(job);
+
+        Mockito.when(companyClient.getCompanyAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(Company.builder().id(1L).name("Company 1").build()));
+        // The asynchronous reads of the client mocks answer empty unless a test stubs them, like their blocking reads.
+        Mockito.when(companyClient.getCompaniesAsync(Mockito.anyCollection())).thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+        Mockito.when(reviewClient.getReviewsByCompanyIdsAsync(Mockito.anyCollection())).thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+        Mockito.when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jobRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Fetching a job should issue a single select.")
+    void getJobById() {
+        Map<Object, HttpStatus> statusMap = jobService.getJobById(new JobId(job.getId()), new JobView()).join();
+        Assertions.assertAll("Get Job Statements",
+                () -> Assertions.assertEquals(statusMap.values().iterator().next(), HttpStatus.OK),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+
+    @Test
+    @DisplayName("Fetching a missing job should issue a single select.")
+    void getMissingJobById() {
+        Map<Object, HttpStatus> statusMap = jobService.getJobById(new JobId(job.getId() + 1), new JobView()).join();
+        Assertions.assertAll("Get Missing Job Statements",
+                () -> Assertions.assertEquals(statusMap, Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND)),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+
+    @Test
+    @DisplayName("Fetching a page of jobs should issue a single select.")
+    void getAllJobs() {
+        jobService.getAllJobs(new JobPageRequest(), new JobView()).join();
+        Assertions.assertEquals(statistics.getPrepareStatementCount(), 1);
+    }
+
+    @Test
+    @DisplayName("Fetching a sparse page of jobs should issue a single select through the summary projection.")
+    void getAllJobsSparse() {
+        JobPageDTO page = jobService.getAllJobs(new JobPageRequest(), new JobView("name,location", "company")).join();
+        Assertions.assertAll("Get Sparse Jobs Statements",
+                () -> Assertions.assertEquals(page.getJobs().get(0).getName(), job.getName()),
+                () -> Assertions.assertNull(page.getJobs().get(0).getDescription()),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+
+    @Test
+    @DisplayName("Fetching a sparse filtered page of jobs should issue a single select through the summary projection.")
+    void getAllJobsSparseFiltered() {
+        JobPageDTO page = jobService.getAllJobs(new JobPageRequest(null, null, null, null, job.getLocation()), new JobView("id,name", null)).join();
+        Assertions.assertAll("Get Sparse Filtered Jobs Statements",
+                () -> Assertions.assertEquals(page.getJobs().get(0).getId(), job.getId()),
+                () -> Assertions.assertNull(page.getJobs().get(0).getDescription()),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+
+    @Test
+    @DisplayName("Creating a job should issue a single insert.")
+    void createJob() {
+        Job newJob = new Job();
+        newJob.copy(job);
+        Map<String, HttpStatus> statusMap = jobService.createJob(newJob).join();
+        Assertions.assertAll("Create Job Statements",
+                () -> Assertions.assertEquals(statusMap.values().iterator().next(), HttpStatus.CREATED),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+
+    @Test
+    @DisplayName("Creating jobs in bulk should issue a single batched insert and at most one sequence call.")
+    void createJobs() {
+        List<Job> jobs = new ArrayList<>();
+        for(int index = 0; index < 10; index++) {
+            Job newJob = new Job();
+            newJob.copy(job);
+            jobs.add(newJob);
+        }
+        Mockito.when(companyClient.getCompanies(Mockito.anyCollection())).thenReturn(List.of(Company.builder().id(1L).name("Company 1").build()));
+        Map<Object, HttpStatus> statusMap = jobService.createJobs(jobs);
+        Assertions.assertAll("Create Jobs Statements",
+                () -> Assertions.assertEquals(statusMap.values().iterator().next(), HttpStatus.CREATED),
+                () -> Assertions.assertEquals(statistics.getEntityInsertCount(), 10L),
+                () -> Assertions.assertTrue(statistics.getPrepareStatementCount() <= 2));
+    }
+
+    @Test
+    @DisplayName("Updating a job should issue a single conditional update.")
+    void updateJobById() {
+        Job updatedJob = new Job();
+        updatedJob.copy(job);
+        updatedJob.setName("Job 2");
+        Map<Object, HttpStatus> statusMap = jobService.updateJobById(updatedJob, new JobId(job.getId())).join();
+        Assertions.assertAll("Update Job Statements",
+                () -> Assertions.assertEquals(statusMap.values().iterator().next(), HttpStatus.OK),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+
+    @Test
+    @DisplayName("Updating a missing job should issue a single conditional update.")
+    void updateMissingJobById() {
+        Map<Object, HttpStatus> statusMap = jobService.updateJobById(job, new JobId(job.getId() + 1)).join();
+        Assertions.assertAll("Update Missing Job Statements",
+                () -> Assertions.assertEquals(statusMap, Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND)),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+
+    @Test
+    @DisplayName("Deleting a job should issue a single conditional delete.")
+    void deleteJobById() {
+        Map<String, HttpStatus> statusMap = jobService.deleteJobById(new JobId(job.getId()));
+        Assertions.assertAll("Delete Job Statements",
+                () -> Assertions.assertEquals(statusMap, Collections.singletonMap("The job is deleted successfully!", HttpStatus.OK)),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+
+    @Test
+    @DisplayName("Deleting the jobs of a batch of companies should issue a single delete when the chunked deletion is disabled.")
+    void deleteJobsByCompanyIds() {
+        jobProperties.getJobDelete().setChunked(false);
+        jobService.deleteJobsByCompanyIds(List.of(1L, 2L, 3L));
+        long statementCount = statistics.getPrepareStatementCount();
+        Assertions.assertAll("Delete Jobs By Company Ids Statements",
+                () -> Assertions.assertEquals(statementCount, 1L),
+                () -> Assertions.assertEquals(jobRepository.count(), 0L));
+    }
+
+    @Test
+    @DisplayName("Deleting a missing job should issue a single conditional delete.")
+    void deleteMissingJobById() {
+        Map<String, HttpStatus> statusMap = jobService.deleteJobById(new JobId(job.getId() + 1));
+        Assertions.assertAll("Delete Missing Job Statements",
+                () -> Assertions.assertEquals(statusMap, Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND)),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+}
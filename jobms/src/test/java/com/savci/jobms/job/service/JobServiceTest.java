@@ -1,14 +1,39 @@
 package com.savci.jobms.job.service;
 
 import com.savci.jobms.job.client.CompanyClient;
+import com.savci.jobms.job.client.RequestCoalescer;
+import com.savci.jobms.job.client.RequestHedger;
 import com.savci.jobms.job.client.ReviewClient;
+import com.savci.jobms.job.config.JobProperties;
+import com.savci.jobms.job.deletion.ChunkedJobDeleter;
+import com.savci.jobms.job.dto.JobBulkErrorDTO;
+import com.savci.jobms.job.dto.JobBulkResultDTO;
 import com.savci.jobms.job.dto.JobDTO;
+import com.savci.jobms.job.dto.JobPageDTO;
+import com.savci.jobms.job.dto.JobPageRequest;
+import com.savci.jobms.job.dto.JobView;
+import com.savci.jobms.job.dto.JobSearchRequest;
+import com.savci.jobms.job.entity.CompanyId;
 import com.savci.jobms.job.entity.Job;
 import com.savci.jobms.job.entity.JobId;
+import com.savci.jobms.job.entity.JobSummary;
+import com.savci.jobms.job.exception.ConcurrencyLimitExceededException;
+import com.savci.jobms.job.exception.DownstreamTimeoutException;
 import com.savci.jobms.job.external.Company;
 import com.savci.jobms.job.external.Review;
+import com.savci.jobms.job.readmodel.CompanyReadModelStore;
 import com.savci.jobms.job.repository.JobRepository;
+import com.savci.jobms.job.search.JobSearchIndex;
 import com.savci.jobms.job.service.impl.JobServiceImpl;
+import com.savci.jobms.job.stale.LastKnownGoodStore;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.common.CompositeCustomizer;
+import io.github.resilience4j.springboot3.circuitbreaker.autoconfigure.CircuitBreakerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import jakarta.validation.*;
 import jakarta.validation.metadata.ConstraintDescriptor;
 import org.junit.jupiter.api.Assertions;
@@ -19,10 +44,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultBootstrapContext;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.http.HttpStatus;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("It should handle the service layer operations successfully.")
@@ -38,6 +78,24 @@ public class JobServiceTest {
     private CompanyClient companyClient;
     @Mock
     private ReviewClient reviewClient;
+    @Spy
+    private JobProperties jobProperties = new JobProperties();
+    @Mock
+    private EntityManager entityManager;
+    @Spy
+    private Executor taskExecutor = new SyncTaskExecutor();
+    @Mock
+    private JobSearchIndex jobSearchIndex;
+    @Mock
+    private ChunkedJobDeleter chunkedJobDeleter;
+    @Mock
+    private CompanyReadModelStore companyReadModelStore;
+    @Spy
+    private RequestHedger requestHedger = new RequestHedger(jobProperties, new SimpleMeterRegistry());
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(jobProperties, new SimpleMeterRegistry());
+    @Spy
+    private LastKnownGoodStore lastKnownGoodStore = new LastKnownGoodStore(jobProperties, new SimpleMeterRegistry());
 
 
     private Job firstJob;
@@ -58,8 +116,8 @@ public class JobServiceTest {
         firstJob.setId(1L);
         firstJob.setName("Job 1");
         firstJob.setDescription("Description 1");
-        firstJob.setMinSalary("30000");
-        firstJob.setMaxSalary("40000");
+        firstJob.setMinSalary(30000L);
+        firstJob.setMaxSalary(40000L);
         firstJob.setLocation("Location 1");
         firstJob.setCompanyId(1L);
 
@@ -67,8 +125,8 @@ public class JobServiceTest {
         secondJob.setId(2L);
         secondJob.setName("Job 2");
         secondJob.setDescription("Description 2");
-        secondJob.setMinSalary("40000");
-        secondJob.setMaxSalary("50000");
+        secondJob.setMinSalary(40000L);
+        secondJob.setMaxSalary(50000L);
         secondJob.setLocation("Location 2");
         secondJob.setCompanyId(2L);
 
@@ -82,6 +140,11 @@ public class JobServiceTest {
         jobId = new JobId();
         jobId.setId(1L);
 
+        // The asynchronous reads of the client mocks answer empty unless a test stubs them, like their blocking reads.
+        Mockito.lenient().when(companyClient.getCompaniesAsync(Mockito.anyCollection())).thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+        Mockito.lenient().when(reviewClient.getReviewsByCompanyIdsAsync(Mockito.anyCollection())).thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+        Mockito.lenient().when(reviewClient.getReviewsAsync(Mockito.anyLong())).thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+
         company = Company.builder().id(1L).name("Company 1").description("Description 1").build();
         firstJobDTO = JobDTO.builder()
                 .name(firstJob.getName())
@@ -166,48 +229,288 @@ public class JobServiceTest {
     @Test
     @DisplayName("The job service should save the job to the database and return success message with 201 status code.")
     void save() {
-        Mockito.when(companyClient.getCompany(firstJob.getCompanyId())).thenReturn(company);
-        Map<String, HttpStatus> statusMap = jobService.createJob(firstJob);
+        Mockito.when(companyClient.getCompanyAsync(firstJob.getCompanyId())).thenReturn(CompletableFuture.completedFuture(company));
+        Map<String, HttpStatus> statusMap = jobService.createJob(firstJob).join();
+        Mockito.verify(jobSearchIndex, Mockito.times(1)).index(firstJob);
         Assertions.assertEquals(statusMap, Collections.singletonMap("The job is created successfully!", HttpStatus.CREATED));
     }
 
     @Test
     @DisplayName("The job service should not save the job to the database and return job is not found message with 404 status code.")
     void tryToSaveNullJob() {
-        Map<String, HttpStatus> statusMap = jobService.createJob(null);
+        Map<String, HttpStatus> statusMap = jobService.createJob(null).join();
         Assertions.assertEquals(statusMap, Collections.singletonMap("The job is not valid!", HttpStatus.BAD_REQUEST));
     }
 
+    @Test
+    @DisplayName("The job service should save the valid jobs in bulk with one company lookup and report the invalid jobs by their index.")
+    void saveAll() {
+        Job invalidJob = new Job();
+        invalidJob.copy(firstJob);
+        invalidJob.setName(" ");
+        Set<ConstraintViolation<Job>> jobConstraintViolations = new HashSet<>();
+        ConstraintViolation<Job> nameConstraintViolation = Mockito.mock();
+        Mockito.when(nameConstraintViolation.getMessage()).thenReturn("Please provide a valid name, job name should not be blank.");
+        jobConstraintViolations.add(nameConstraintViolation);
+        Mockito.when(validator.validate(Mockito.any(Job.class))).thenAnswer(invocationOnMock -> invocationOnMock.getArgument(0) == invalidJob ? jobConstraintViolations : Collections.emptySet());
+        Mockito.when(companyClient.getCompanies(Set.of(1L, 2L))).thenReturn(List.of(company));
+        Map<Object, HttpStatus> statusMap = jobService.createJobs(Arrays.asList(firstJob, invalidJob, secondJob, null));
+        Map.Entry<Object, HttpStatus> statusEntry = statusMap.entrySet().iterator().next();
+        JobBulkResultDTO result = (JobBulkResultDTO) statusEntry.getKey();
+        Mockito.verify(companyClient, Mockito.times(1)).getCompanies(Mockito.anyCollection());
+        Mockito.verify(companyClient, Mockito.never()).getCompanyAsync(Mockito.anyLong());
+        Mockito.verify(entityManager, Mockito.times(1)).persist(firstJob);
+        Mockito.verify(entityManager, Mockito.never()).persist(secondJob);
+        Mockito.verify(jobSearchIndex, Mockito.times(1)).index(firstJob);
+        Assertions.assertAll("Bulk Job Creation",
+                () -> Assertions.assertEquals(statusEntry.getValue(), HttpStatus.MULTI_STATUS),
+                () -> Assertions.assertEquals(result.getCreated().size(), 1),
+                () -> Assertions.assertEquals(result.getErrors(), List.of(
+                        new JobBulkErrorDTO(1, List.of("Please provide a valid name, job name should not be blank.")),
+                        new JobBulkErrorDTO(2, List.of("The company is not found!")),
+                        new JobBulkErrorDTO(3, List.of("The job is not valid!")))));
+    }
+
+    @Test
+    @DisplayName("The job service should flush and clear the persistence context after every batch of the bulk creation.")
+    void saveAllBatches() {
+        jobProperties.getBulk().setBatchSize(2);
+        Job thirdJob = new Job();
+        thirdJob.copy(firstJob);
+        Mockito.when(companyClient.getCompanies(Mockito.anyCollection())).thenReturn(List.of(company, Company.builder().id(2L).build()));
+        Map<Object, HttpStatus> statusMap = jobService.createJobs(List.of(firstJob, secondJob, thirdJob));
+        Mockito.verify(entityManager, Mockito.times(3)).persist(Mockito.any(Job.class));
+        Mockito.verify(entityManager, Mockito.times(2)).flush();
+        Mockito.verify(entityManager, Mockito.times(1)).clear();
+        Assertions.assertEquals(statusMap.values().iterator().next(), HttpStatus.CREATED);
+    }
+
+    @Test
+    @DisplayName("The job service should not save the jobs in bulk when the number of jobs exceeds the bulk limit.")
+    void saveAllExceedsMaxSize() {
+        jobProperties.getBulk().setMaxSize(1);
+        Map<Object, HttpStatus> statusMap = jobService.createJobs(List.of(firstJob, secondJob));
+        Mockito.verifyNoInteractions(companyClient, entityManager);
+        Assertions.assertEquals(statusMap, Collections.singletonMap("The number of jobs should not exceed 1!", HttpStatus.PAYLOAD_TOO_LARGE));
+    }
+
+    @Test
+    @DisplayName("The job service should not save an empty list of jobs in bulk and return the jobs are not valid message with 400 status code.")
+    void saveAllEmpty() {
+        Map<Object, HttpStatus> statusMap = jobService.createJobs(Collections.emptyList());
+        Mockito.verifyNoInteractions(companyClient, entityManager);
+        Assertions.assertEquals(statusMap, Collections.singletonMap("The jobs are not valid!", HttpStatus.BAD_REQUEST));
+    }
+
     @Test
     @DisplayName("The job service should get all the jobs in the database.")
     void getAllJobs() {
         List<Job> jobs = new ArrayList<>();
         jobs.add(firstJob);
         jobs.add(secondJob);
-        Mockito.when(jobRepository.findAll()).thenReturn(jobs);
-        List<JobDTO> jobList = jobService.getAllJobs();
+        Mockito.when(jobRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(21))).thenReturn(jobs);
+        JobPageDTO page = jobService.getAllJobs(new JobPageRequest(), new JobView()).join();
+        List<JobDTO> jobList = page.getJobs();
         Assertions.assertAll("Jobs In Database",
+                () -> Assertions.assertNull(page.getNext()),
                 () -> Assertions.assertNotNull(jobList),
                 () -> Assertions.assertEquals(jobList.size() , 2),
                 () -> Assertions.assertNotNull(jobList.get(0).getId()),
                 () -> Assertions.assertNotNull(jobList.get(1).getId()));
     }
 
+    @Test
+    @DisplayName("The job service should return a page of jobs after the given cursor together with the next cursor.")
+    void getAllJobsNextPage() {
+        Mockito.when(jobRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2))).thenReturn(List.of(firstJob, secondJob));
+        JobPageDTO page = jobService.getAllJobs(new JobPageRequest(1, 0L), new JobView()).join();
+        Assertions.assertAll("Job Page",
+                () -> Assertions.assertEquals(page.getJobs().size(), 1),
+                () -> Assertions.assertEquals(page.getJobs().get(0).getId(), firstJob.getId()),
+                () -> Assertions.assertEquals(page.getLimit(), 1),
+                () -> Assertions.assertEquals(page.getNext(), firstJob.getId()));
+    }
+
+    @Test
+    @DisplayName("The job service should cap the requested page size with the configured maximum page size.")
+    void getAllJobsMaxPageSize() {
+        jobProperties.getPagination().setMaxPageSize(5);
+        Mockito.when(jobRepository.findByIdGreaterThanOrderByIdAsc(2L, Limit.of(6))).thenReturn(Collections.emptyList());
+        JobPageDTO page = jobService.getAllJobs(new JobPageRequest(1000, 2L), new JobView()).join();
+        Mockito.verify(jobRepository, Mockito.times(1)).findByIdGreaterThanOrderByIdAsc(2L, Limit.of(6));
+        Assertions.assertAll("Empty Job Page",
+                () -> Assertions.assertTrue(page.getJobs().isEmpty()),
+                () -> Assertions.assertEquals(page.getLimit(), 5),
+                () -> Assertions.assertNull(page.getNext()));
+    }
+
+    @Test
+    @DisplayName("The job service should filter the page of jobs by salary range and location in the database.")
+    void getAllJobsFiltered() {
+        Mockito.when(jobRepository.findBy(Mockito.<Specification<Job>>any(), Mockito.any())).thenReturn(List.of(secondJob));
+        JobPageDTO page = jobService.getAllJobs(new JobPageRequest(null, null, 35000L, 50000L, "Location 2"), new JobView()).join();
+        Mockito.verify(jobRepository, Mockito.never()).findByIdGreaterThanOrderByIdAsc(Mockito.anyLong(), Mockito.any());
+        Assertions.assertAll("Filtered Job Page",
+                () -> Assertions.assertEquals(page.getJobs().size(), 1),
+                () -> Assertions.assertEquals(page.getJobs().get(0).getMinSalary(), secondJob.getMinSalary()),
+                () -> Assertions.assertNull(page.getNext()));
+    }
+
+    @Test
+    @DisplayName("The job service should fetch the page of jobs through the summary projection and skip the relations which are not included.")
+    void getAllJobsSparse() {
+        SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+        List<JobSummary> jobSummaries = List.of(projectionFactory.createProjection(JobSummary.class, firstJob), projectionFactory.createProjection(JobSummary.class, secondJob));
+        Mockito.when(jobRepository.findSummaryByIdGreaterThanOrderByIdAsc(0L, Limit.of(21))).thenReturn(jobSummaries);
+        Mockito.when(companyClient.getCompaniesAsync(Set.of(1L, 2L))).thenReturn(CompletableFuture.completedFuture(List.of(company)));
+        JobPageDTO page = jobService.getAllJobs(new JobPageRequest(), new JobView("name,location", "company")).join();
+        Mockito.verify(jobRepository, Mockito.never()).findByIdGreaterThanOrderByIdAsc(Mockito.anyLong(), Mockito.any());
+        Mockito.verifyNoInteractions(reviewClient);
+        Assertions.assertAll("Sparse Job Page",
+                () -> Assertions.assertEquals(page.getJobs().size(), 2),
+                () -> Assertions.assertEquals(page.getJobs().get(0).getName(), firstJob.getName()),
+                () -> Assertions.assertNull(page.getJobs().get(0).getDescription()),
+                () -> Assertions.assertEquals(page.getJobs().get(0).getCompany(), company),
+                () -> Assertions.assertNull(page.getJobs().get(0).getReviews()));
+    }
+
+    @Test
+    @DisplayName("The job service should enrich the page of jobs from the read model without calling the downstream services.")
+    void getAllJobsFromReadModel() {
+        jobProperties.getReadModel().setEnabled(true);
+        Mockito.when(jobRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(21))).thenReturn(List.of(firstJob, secondJob));
+        Mockito.when(companyReadModelStore.getCompanies(Set.of(1L, 2L))).thenReturn(List.of(company));
+        Mockito.when(companyReadModelStore.getReviews(Set.of(1L, 2L))).thenReturn(reviewList);
+        JobPageDTO page = jobService.getAllJobs(new JobPageRequest(), new JobView()).join();
+        Mockito.verifyNoInteractions(companyClient, reviewClient, taskExecutor);
+        Assertions.assertAll("Job Page From Read Model",
+                () -> Assertions.assertEquals(page.getJobs().get(0), firstJobDTO),
+                () -> Assertions.assertNull(page.getJobs().get(1).getCompany()),
+                () -> Assertions.assertEquals(page.getJobs().get(1).getReviews(), Collections.emptyList()));
+    }
+
+    @Test
+    @DisplayName("The job service should enrich the page of jobs from the downstream services when its companies are not in the read model yet.")
+    void getAllJobsFromColdReadModel() {
+        jobProperties.getReadModel().setEnabled(true);
+        Mockito.when(jobRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(21))).thenReturn(List.of(firstJob, secondJob));
+        Mockito.when(companyReadModelStore.getCompanies(Set.of(1L, 2L))).thenReturn(null);
+        Mockito.when(companyReadModelStore.getReviews(Set.of(1L, 2L))).thenReturn(reviewList);
+        Mockito.when(companyClient.getCompaniesAsync(Set.of(1L, 2L))).thenReturn(CompletableFuture.completedFuture(List.of(company)));
+        JobPageDTO page = jobService.getAllJobs(new JobPageRequest(), new JobView()).join();
+        Mockito.verify(reviewClient, Mockito.never()).getReviewsByCompanyIdsAsync(Mockito.anyCollection());
+        Assertions.assertAll("Job Page From Cold Read Model",
+                () -> Assertions.assertEquals(page.getJobs().get(0), firstJobDTO),
+                () -> Assertions.assertNull(page.getJobs().get(1).getCompany()));
+    }
+
+    @Test
+    @DisplayName("The job service should not fetch the page of jobs with unknown fields and it should throw ConstraintViolationException.")
+    void getAllJobsSparseConstraintViolation() {
+        ConstraintViolation<JobView> viewConstraintViolation = Mockito.mock();
+        Mockito.when(validator.validate(Mockito.any(JobPageRequest.class))).thenReturn(Collections.emptySet());
+        Mockito.when(validator.validate(Mockito.any(JobView.class))).thenReturn(Set.of(viewConstraintViolation));
+        Assertions.assertThrows(ConstraintViolationException.class,
+                () -> jobService.getAllJobs(new JobPageRequest(), new JobView("salary", null)));
+        Mockito.verifyNoInteractions(jobRepository, companyClient, reviewClient);
+    }
+
+    @Test
+    @DisplayName("The job service should search a page of ranked jobs and enrich only the returned page.")
+    void searchJobs() {
+        Mockito.when(jobSearchIndex.search("engineer", 0, 2)).thenReturn(List.of(secondJob, firstJob));
+        Mockito.when(companyClient.getCompaniesAsync(Mockito.anyCollection())).thenReturn(CompletableFuture.completedFuture(List.of(company)));
+        JobPageDTO page = jobService.searchJobs(new JobSearchRequest("engineer", 1, null)).join();
+        Mockito.verify(companyClient, Mockito.times(1)).getCompaniesAsync(Set.of(secondJob.getCompanyId()));
+        Assertions.assertAll("Searched Job Page",
+                () -> Assertions.assertEquals(page.getJobs().size(), 1),
+                () -> Assertions.assertEquals(page.getJobs().get(0).getName(), secondJob.getName()),
+                () -> Assertions.assertEquals(page.getLimit(), 1),
+                () -> Assertions.assertEquals(page.getNext(), 1L));
+    }
+
+    @Test
+    @DisplayName("The job service should not search the jobs with an invalid search request and it should throw ConstraintViolationException.")
+    void searchJobsConstraintViolation() {
+        Set<ConstraintViolation<JobSearchRequest>> searchConstraintViolations = new HashSet<>();
+        searchConstraintViolations.add(Mockito.mock());
+        Mockito.when(validator.validate(Mockito.any(JobSearchRequest.class))).thenReturn(searchConstraintViolations);
+        Assertions.assertThrows(ConstraintViolationException.class,
+                () -> jobService.searchJobs(new JobSearchRequest(" ", null, null)));
+        Mockito.verifyNoInteractions(jobSearchIndex);
+    }
+
+    @Test
+    @DisplayName("The job service should not fetch the page of jobs with an invalid page request and it should throw ConstraintViolationException.")
+    void getAllJobsConstraintViolation() {
+        Set<ConstraintViolation<JobPageRequest>> pageConstraintViolations = new HashSet<>();
+        pageConstraintViolations.add(Mockito.mock());
+        Mockito.when(validator.validate(Mockito.any(JobPageRequest.class))).thenReturn(pageConstraintViolations);
+        Assertions.assertThrows(ConstraintViolationException.class,
+                () -> jobService.getAllJobs(new JobPageRequest(-1, 0L), new JobView()));
+        Mockito.verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    @DisplayName("The job service should export all the jobs chunk by chunk and clear the persistence context after each chunk.")
+    void exportAllJobs() {
+        jobProperties.getExport().setChunkSize(1);
+        Mockito.when(jobRepository.streamAll()).thenReturn(Stream.of(firstJob, secondJob));
+        Mockito.when(companyClient.getCompanies(Mockito.anyCollection())).thenReturn(List.of(company));
+        Mockito.when(reviewClient.getReviewsByCompanyIds(Mockito.anyCollection())).thenReturn(reviewList);
+        List<JobDTO> exportedJobs = new ArrayList<>();
+        jobService.exportAllJobs(exportedJobs::add);
+        Mockito.verify(companyClient, Mockito.times(2)).getCompanies(Mockito.anyCollection());
+        Mockito.verify(entityManager, Mockito.times(2)).clear();
+        Assertions.assertAll("Exported Jobs",
+                () -> Assertions.assertEquals(exportedJobs.size(), 2),
+                () -> Assertions.assertEquals(exportedJobs.get(0), firstJobDTO),
+                () -> Assertions.assertEquals(exportedJobs.get(1).getId(), secondJob.getId()));
+    }
+
+    @Test
+    @DisplayName("The job service should enrich all the jobs with one company and one review call for the distinct company ids.")
+    void getAllJobsBatchEnrichment() {
+        Job thirdJob = new Job();
+        thirdJob.setId(3L);
+        thirdJob.setName("Job 3");
+        thirdJob.setLocation("Location 3");
+        thirdJob.setCompanyId(1L);
+        Company secondCompany = Company.builder().id(2L).name("Company 2").description("Description 2").build();
+        Mockito.when(jobRepository.findByIdGreaterThanOrderByIdAsc(Mockito.anyLong(), Mockito.any(Limit.class))).thenReturn(List.of(firstJob, secondJob, thirdJob));
+        Mockito.when(companyClient.getCompaniesAsync(Set.of(1L, 2L))).thenReturn(CompletableFuture.completedFuture(List.of(company, secondCompany)));
+        Mockito.when(reviewClient.getReviewsByCompanyIdsAsync(Set.of(1L, 2L))).thenReturn(CompletableFuture.completedFuture(reviewList));
+        List<JobDTO> jobList = jobService.getAllJobs(new JobPageRequest(), new JobView()).join().getJobs();
+        Mockito.verify(taskExecutor, Mockito.times(2)).execute(Mockito.any(Runnable.class));
+        Mockito.verify(companyClient, Mockito.times(1)).getCompaniesAsync(Mockito.anyCollection());
+        Mockito.verify(reviewClient, Mockito.times(1)).getReviewsByCompanyIdsAsync(Mockito.anyCollection());
+        Mockito.verify(companyClient, Mockito.never()).getCompanyAsync(Mockito.anyLong());
+        Mockito.verify(reviewClient, Mockito.never()).getReviewsAsync(Mockito.anyLong());
+        Assertions.assertAll("Enriched Jobs",
+                () -> Assertions.assertEquals(jobList.size(), 3),
+                () -> Assertions.assertEquals(jobList.get(0), firstJobDTO),
+                () -> Assertions.assertEquals(jobList.get(1).getCompany(), secondCompany),
+                () -> Assertions.assertTrue(jobList.get(1).getReviews().isEmpty()),
+                () -> Assertions.assertEquals(jobList.get(2).getCompany(), company),
+                () -> Assertions.assertEquals(jobList.get(2).getReviews(), reviewList));
+    }
+
     @Test
     @DisplayName("The job service should not get the specific job by id in the database and it should throw ConstraintViolationException.")
     void getJobByIdConstraintViolation() {
         Mockito.when(validator.validate(Mockito.any(JobId.class))).thenReturn(jobIdConstraintViolations);
         Assertions.assertThrows(ConstraintViolationException.class,
-                () -> jobService.getJobById(jobId));
+                () -> jobService.getJobById(jobId, new JobView()));
     }
 
     @Test
     @DisplayName("The job service should not get the specific job by id in the database because of the invalid id and it should return failed message with 400 status code.")
     void getJobByIdIdDoesntExist() {
         Mockito.when(validator.validate(Mockito.any(JobId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(jobRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.FALSE);
+        Mockito.when(jobRepository.findById(Mockito.anyLong())).thenReturn(Optional.empty());
         jobId.setId(3L);
-        Map<?, HttpStatus> statusMap = jobService.getJobById(jobId);
+        Map<?, HttpStatus> statusMap = jobService.getJobById(jobId, new JobView()).join();
+        Mockito.verifyNoInteractions(companyClient, reviewClient);
         Assertions.assertEquals(statusMap, Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND));
     }
 
@@ -215,11 +518,130 @@ public class JobServiceTest {
     @DisplayName("The job service should get the specific job by id in the database and it should return success message with 200 status code.")
     void getJobById() {
         Mockito.when(validator.validate(Mockito.any(JobId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(jobRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.TRUE);
         Mockito.when(jobRepository.findById(Mockito.anyLong())).thenAnswer(invocationOnMock -> (Long) invocationOnMock.getArgument(0) == 1L ? Optional.of(firstJob) : Optional.empty());
-        Mockito.when(companyClient.getCompany(firstJob.getCompanyId())).thenReturn(company);
-        Mockito.when(reviewClient.getReviews(firstJob.getCompanyId())).thenReturn(reviewList);
-        Map<?, HttpStatus> statusMap = jobService.getJobById(jobId);
+        Mockito.when(companyClient.getCompanyAsync(firstJob.getCompanyId())).thenReturn(CompletableFuture.completedFuture(company));
+        Mockito.when(reviewClient.getReviewsAsync(firstJob.getCompanyId())).thenReturn(CompletableFuture.completedFuture(reviewList));
+        Map<?, HttpStatus> statusMap = jobService.getJobById(jobId, new JobView()).join();
+        Assertions.assertEquals(statusMap, Collections.singletonMap(firstJobDTO, HttpStatus.OK));
+    }
+
+    @Test
+    @DisplayName("The job service should get the specific job by id from the read model without calling the downstream services.")
+    void getJobByIdFromReadModel() {
+        jobProperties.getReadModel().setEnabled(true);
+        Mockito.when(validator.validate(Mockito.any(JobId.class))).thenReturn(Collections.emptySet());
+        Mockito.when(jobRepository.findById(jobId.getId())).thenReturn(Optional.of(firstJob));
+        Mockito.when(companyReadModelStore.getCompanies(Set.of(firstJob.getCompanyId()))).thenReturn(List.of(company));
+        Mockito.when(companyReadModelStore.getReviews(Set.of(firstJob.getCompanyId()))).thenReturn(reviewList);
+        Map<?, HttpStatus> statusMap = jobService.getJobById(jobId, new JobView()).join();
+        Mockito.verifyNoInteractions(companyClient, reviewClient, taskExecutor);
+        Assertions.assertEquals(statusMap, Collections.singletonMap(firstJobDTO, HttpStatus.OK));
+    }
+
+    @Test
+    @DisplayName("The job service should leave the review breaker closed when its downstream calls are shed by the bulkhead or the concurrency limit.")
+    void shedCallsLeaveBreakerClosed() {
+        StandardEnvironment environment = new StandardEnvironment();
+        ConfigDataEnvironmentPostProcessor.applyTo(environment, new DefaultResourceLoader(), new DefaultBootstrapContext());
+        CircuitBreakerProperties circuitBreakerProperties = Binder.get(environment).bind("resilience4j.circuitbreaker", CircuitBreakerProperties.class).get();
+        CircuitBreakerConfig reviewBreakerConfig = circuitBreakerProperties.createCircuitBreakerConfig("reviewBreaker",
+                circuitBreakerProperties.getInstances().get("reviewBreaker"), new CompositeCustomizer<>(Collections.emptyList()));
+        // The window is shrunk, so that the shed calls would open the breaker at once if they were counted.
+        CircuitBreaker circuitBreaker = CircuitBreaker.of("reviewBreaker", CircuitBreakerConfig.from(reviewBreakerConfig)
+                .slidingWindow(4, 4, CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .build());
+        Mockito.when(validator.validate(Mockito.any(JobId.class))).thenReturn(Collections.emptySet());
+        Mockito.when(jobRepository.findById(jobId.getId())).thenReturn(Optional.of(firstJob));
+        Mockito.when(companyClient.getCompanyAsync(firstJob.getCompanyId()))
+                .thenReturn(CompletableFuture.failedFuture(new ConcurrencyLimitExceededException("The concurrency limit of the company client is reached!")));
+        Mockito.when(reviewClient.getReviewsAsync(firstJob.getCompanyId()))
+                .thenReturn(CompletableFuture.failedFuture(BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults("reviewBulkhead"))));
+        for(int call = 0; call < 8; call++) {
+            CompletableFuture<Map<Object, HttpStatus>> statusMap = circuitBreaker.executeCompletionStage(() -> jobService.getJobById(jobId, new JobView())).toCompletableFuture();
+            Assertions.assertThrows(CompletionException.class, statusMap::join);
+        }
+        Assertions.assertAll("Shed Calls",
+                () -> Assertions.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED),
+                () -> Assertions.assertEquals(circuitBreaker.getMetrics().getNumberOfFailedCalls(), 0));
+    }
+
+    @Test
+    @DisplayName("The job service should get the specific job by id from the downstream services when its company is not in the read model yet.")
+    void getJobByIdFromColdReadModel() {
+        jobProperties.getReadModel().setEnabled(true);
+        Mockito.when(validator.validate(Mockito.any(JobId.class))).thenReturn(Collections.emptySet());
+        Mockito.when(jobRepository.findById(jobId.getId())).thenReturn(Optional.of(firstJob));
+        Mockito.when(companyReadModelStore.getCompanies(Set.of(firstJob.getCompanyId()))).thenReturn(null);
+        Mockito.when(companyReadModelStore.getReviews(Set.of(firstJob.getCompanyId()))).thenReturn(null);
+        Mockito.when(companyClient.getCompanyAsync(firstJob.getCompanyId())).thenReturn(CompletableFuture.completedFuture(company));
+        Mockito.when(reviewClient.getReviewsAsync(firstJob.getCompanyId())).thenReturn(CompletableFuture.completedFuture(reviewList));
+        Map<?, HttpStatus> statusMap = jobService.getJobById(jobId, new JobView()).join();
+        Mockito.verify(companyReadModelStore, Mockito.times(1)).getCompanies(Set.of(firstJob.getCompanyId()));
+        Assertions.assertEquals(statusMap, Collections.singletonMap(firstJobDTO, HttpStatus.OK));
+    }
+
+    @Test
+    @DisplayName("The job service should get the specific job by id through the summary projection without calling the downstream services.")
+    void getJobByIdSparse() {
+        Mockito.when(validator.validate(Mockito.any(JobId.class))).thenReturn(Collections.emptySet());
+        Mockito.when(jobRepository.findSummaryById(jobId.getId())).thenReturn(Optional.of(new SpelAwareProxyProjectionFactory().createProjection(JobSummary.class, firstJob)));
+        Map<?, HttpStatus> statusMap = jobService.getJobById(jobId, new JobView("id,name", "")).join();
+        JobDTO jobDTO = (JobDTO) statusMap.keySet().iterator().next();
+        Mockito.verify(jobRepository, Mockito.never()).findById(Mockito.anyLong());
+        Mockito.verifyNoInteractions(companyClient, reviewClient, taskExecutor);
+        Assertions.assertAll("Sparse Job",
+                () -> Assertions.assertEquals(statusMap.get(jobDTO), HttpStatus.OK),
+                () -> Assertions.assertEquals(jobDTO.getName(), firstJob.getName()),
+                () -> Assertions.assertNull(jobDTO.getDescription()),
+                () -> Assertions.assertNull(jobDTO.getCompany()));
+    }
+
+    @Test
+    @DisplayName("The job service should get the version of the specific job by id without loading the job or calling the downstream services.")
+    void getJobVersionById() {
+        Mockito.when(validator.validate(Mockito.any(JobId.class))).thenReturn(Collections.emptySet());
+        Mockito.when(jobRepository.findVersionById(jobId.getId())).thenReturn(Optional.of(2L));
+        Map<?, HttpStatus> statusMap = jobService.getJobVersionById(jobId);
+        Mockito.verify(jobRepository, Mockito.never()).findById(Mockito.anyLong());
+        Mockito.verifyNoInteractions(companyClient, reviewClient, taskExecutor);
+        Assertions.assertEquals(statusMap, Collections.singletonMap(2L, HttpStatus.OK));
+    }
+
+    @Test
+    @DisplayName("The job service should not get the version of the specific job by id because of the invalid id and it should return failed message with 404 status code.")
+    void getJobVersionByIdIdDoesntExist() {
+        Mockito.when(validator.validate(Mockito.any(JobId.class))).thenReturn(Collections.emptySet());
+        Mockito.when(jobRepository.findVersionById(Mockito.anyLong())).thenReturn(Optional.empty());
+        Map<?, HttpStatus> statusMap = jobService.getJobVersionById(jobId);
+        Assertions.assertEquals(statusMap, Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("The job service should not get the specific job by id when the downstream calls miss the deadline and it should throw DownstreamTimeoutException.")
+    void getJobByIdDownstreamTimeout() {
+        jobProperties.getDownstream().setTimeout(Duration.ofMillis(10));
+        Mockito.when(validator.validate(Mockito.any(JobId.class))).thenReturn(Collections.emptySet());
+        Mockito.when(jobRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(firstJob));
+        Mockito.when(companyClient.getCompanyAsync(firstJob.getCompanyId())).thenReturn(new CompletableFuture<>());
+        Mockito.when(reviewClient.getReviewsAsync(firstJob.getCompanyId())).thenReturn(new CompletableFuture<>());
+        CompletableFuture<Map<Object, HttpStatus>> statusFuture = jobService.getJobById(jobId, new JobView());
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, statusFuture::join);
+        Mockito.verify(taskExecutor, Mockito.times(2)).execute(Mockito.any(Runnable.class));
+        Assertions.assertInstanceOf(DownstreamTimeoutException.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("The job service should update the specific job by id continuing on the task executor once the company and the reviews arrive.")
+    void updateJobById() {
+        Mockito.when(validator.validate(Mockito.any(JobId.class))).thenReturn(Collections.emptySet());
+        Mockito.when(validator.validate(Mockito.any(Job.class))).thenReturn(Collections.emptySet());
+        Mockito.when(jobRepository.updateJobById(jobId.getId(), firstJob)).thenReturn(1);
+        Mockito.when(companyClient.getCompanyAsync(firstJob.getCompanyId())).thenReturn(CompletableFuture.completedFuture(company));
+        Mockito.when(reviewClient.getReviewsAsync(firstJob.getCompanyId())).thenReturn(CompletableFuture.completedFuture(reviewList));
+        Map<?, HttpStatus> statusMap = jobService.updateJobById(firstJob, jobId).join();
+        Mockito.verify(taskExecutor, Mockito.times(2)).execute(Mockito.any(Runnable.class));
+        Mockito.verify(companyClient, Mockito.times(1)).getCompanyAsync(firstJob.getCompanyId());
+        Mockito.verify(jobRepository, Mockito.never()).findById(Mockito.anyLong());
         Assertions.assertEquals(statusMap, Collections.singletonMap(firstJobDTO, HttpStatus.OK));
     }
 
@@ -235,14 +657,59 @@ public class JobServiceTest {
     @DisplayName("The job service should not update the specific job by id in the database because of the invalid id and it should return failed message with 400 status code.")
     void updateJobByIdIdDoesntExist() {
         Mockito.when(validator.validate(Mockito.any(JobId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(jobRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.FALSE);
-        Mockito.when(companyClient.getCompany(firstJob.getCompanyId())).thenReturn(company);
+        Mockito.when(jobRepository.updateJobById(Mockito.anyLong(), Mockito.any(Job.class))).thenReturn(0);
+        Mockito.when(companyClient.getCompanyAsync(firstJob.getCompanyId())).thenReturn(CompletableFuture.completedFuture(company));
         jobId.setId(3L);
-        Map<?, HttpStatus> statusMap = jobService.updateJobById(firstJob, jobId);
+        Map<?, HttpStatus> statusMap = jobService.updateJobById(firstJob, jobId).join();
         Assertions.assertEquals(statusMap, Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND));
     }
 
 
+    @Test
+    @DisplayName("The job service should not update the specific job with an invalid job and it should throw ConstraintViolationException.")
+    void updateJobByIdJobConstraintViolation() {
+        Set<ConstraintViolation<Job>> jobConstraintViolations = new HashSet<>();
+        jobConstraintViolations.add(Mockito.mock());
+        Mockito.when(validator.validate(Mockito.any(JobId.class))).thenReturn(Collections.emptySet());
+        Mockito.when(validator.validate(Mockito.any(Job.class))).thenReturn(jobConstraintViolations);
+        Assertions.assertThrows(ConstraintViolationException.class,
+                () -> jobService.updateJobById(firstJob, jobId));
+        Mockito.verifyNoInteractions(jobRepository, companyClient, reviewClient);
+    }
+
+    @Test
+    @DisplayName("The job service should delete the jobs of the valid company ids with a single repository call and skip the invalid ones when the chunked deletion is disabled.")
+    void deleteJobsByCompanyIds() {
+        jobProperties.getJobDelete().setChunked(false);
+        Set<ConstraintViolation<CompanyId>> companyIdConstraintViolations = new HashSet<>();
+        companyIdConstraintViolations.add(Mockito.mock());
+        Mockito.when(validator.validate(Mockito.any(CompanyId.class))).thenAnswer(invocationOnMock -> ((CompanyId) invocationOnMock.getArgument(0)).getId() < 0 ? companyIdConstraintViolations : Collections.emptySet());
+        jobService.deleteJobsByCompanyIds(List.of(1L, -1L, 2L, 1L));
+        Mockito.verify(jobRepository, Mockito.times(1)).deleteByCompanyIdIn(Set.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("The job service should delete the jobs of every company chunk by chunk in the chunked deletion mode.")
+    void deleteJobsByCompanyIdsChunked() {
+        jobProperties.getJobDelete().setChunked(true);
+        jobProperties.getJobDelete().setChunkSize(2);
+        Mockito.when(chunkedJobDeleter.deleteNextChunk(1L, 2)).thenReturn(true, true, false);
+        jobService.deleteJobsByCompanyIds(List.of(1L));
+        Mockito.verify(chunkedJobDeleter, Mockito.times(1)).begin(1L);
+        Mockito.verify(chunkedJobDeleter, Mockito.times(3)).deleteNextChunk(1L, 2);
+        Mockito.verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    @DisplayName("The job service should not reach the database when all the company ids of the batch are invalid.")
+    void deleteJobsByInvalidCompanyIds() {
+        Set<ConstraintViolation<CompanyId>> companyIdConstraintViolations = new HashSet<>();
+        companyIdConstraintViolations.add(Mockito.mock());
+        Mockito.when(validator.validate(Mockito.any(CompanyId.class))).thenReturn(companyIdConstraintViolations);
+        jobService.deleteJobsByCompanyIds(List.of(-1L, 0L));
+        Mockito.verifyNoInteractions(jobRepository);
+    }
+
     @Test
     @DisplayName("The job service should not delete the specific job by id in the database and it should throw ConstraintViolationException.")
     void deleteJobByIdConstraintViolation() {
@@ -255,7 +722,7 @@ public class JobServiceTest {
     @DisplayName("The job service should not delete the specific job by id in the database because of the invalid id and it should return failed message with 400 status code.")
     void deleteJobByIdIdDoesntExist() {
         Mockito.when(validator.validate(Mockito.any(JobId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(jobRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.FALSE);
+        Mockito.when(jobRepository.deleteJobById(Mockito.anyLong())).thenReturn(0);
         jobId.setId(3L);
         Map<?, HttpStatus> statusMap = jobService.deleteJobById(jobId);
         Assertions.assertEquals(statusMap, Collections.singletonMap("The job is not found!", HttpStatus.NOT_FOUND));
@@ -265,10 +732,11 @@ public class JobServiceTest {
     @DisplayName("The job service should delete the specific job by id in the database and it should return success message with 200 status code.")
     void deleteJobById() {
         Mockito.when(validator.validate(Mockito.any(JobId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(jobRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.TRUE);
-        Mockito.doNothing().when(jobRepository).deleteById(jobId.getId());
+        Mockito.when(jobRepository.deleteJobById(jobId.getId())).thenReturn(1);
         Map<?, HttpStatus> statusMap = jobService.deleteJobById(jobId);
-        Mockito.verify(jobRepository, Mockito.times(1)).deleteById(jobId.getId());
+        Mockito.verify(jobRepository, Mockito.times(1)).deleteJobById(jobId.getId());
+        Mockito.verify(jobSearchIndex, Mockito.times(1)).remove(jobId.getId());
+        Mockito.verify(jobRepository, Mockito.never()).existsById(Mockito.anyLong());
         Assertions.assertEquals(statusMap, Collections.singletonMap("The job is deleted successfully!", HttpStatus.OK));
     }
 }
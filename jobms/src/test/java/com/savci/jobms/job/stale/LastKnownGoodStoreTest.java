@@ -0,0 +1,104 @@
+package com.savci.jobms.job.stale;
+
+import com.savci.jobms.job.client.RequestHedger;
+import com.savci.jobms.job.config.JobProperties;
+import com.savci.jobms.job.external.Company;
+import com.savci.jobms.job.external.Review;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+@DisplayName("It should keep the last known good downstream responses successfully.")
+public class LastKnownGoodStoreTest {
+    private JobProperties jobProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private LastKnownGoodStore lastKnownGoodStore;
+    private Company firstCompany;
+    private Company secondCompany;
+    private Review review;
+
+    @BeforeEach
+    @DisplayName("Setting up the data for test cases.")
+    void init() {
+        jobProperties = new JobProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        lastKnownGoodStore = new LastKnownGoodStore(jobProperties, meterRegistry);
+        firstCompany = Company.builder().id(1L).name("Company 1").description("Description 1").build();
+        secondCompany = Company.builder().id(2L).name("Company 2").description("Description 2").build();
+        review = Review.builder().id(1L).title("Review 1").description("Description 1").rating(4.5).companyId(1L).build();
+    }
+
+    @Test
+    @DisplayName("It should serve the remembered companies and mark them for the revalidation.")
+    void serveRememberedCompanies() {
+        lastKnownGoodStore.rememberCompanies(Set.of(1L, 2L), List.of(firstCompany, secondCompany));
+        List<Company> companies = lastKnownGoodStore.getCompanies(Set.of(1L, 2L));
+        Assertions.assertAll("Remembered Companies",
+                () -> Assertions.assertEquals(Set.copyOf(companies), Set.of(firstCompany, secondCompany)),
+                () -> Assertions.assertEquals(lastKnownGoodStore.takeStaleCompanyIds(), Set.of(1L, 2L)),
+                () -> Assertions.assertEquals(lastKnownGoodStore.takeStaleCompanyIds(), Collections.emptySet()),
+                () -> Assertions.assertEquals(meterRegistry.get("jobms.downstream.stale.served").tag("client", RequestHedger.COMPANY_CLIENT).counter().count(), 1D));
+    }
+
+    @Test
+    @DisplayName("It should not serve the companies unless every one of them is known.")
+    void partiallyKnownCompanies() {
+        lastKnownGoodStore.rememberCompany(1L, firstCompany);
+        Assertions.assertAll("Partially Known Companies",
+                () -> Assertions.assertNull(lastKnownGoodStore.getCompanies(Set.of(1L, 2L))),
+                () -> Assertions.assertEquals(lastKnownGoodStore.takeStaleCompanyIds(), Collections.emptySet()));
+    }
+
+    @Test
+    @DisplayName("It should forget the companies which are not found any more.")
+    void forgetMissingCompanies() {
+        lastKnownGoodStore.rememberCompanies(Set.of(1L, 2L), List.of(firstCompany, secondCompany));
+        lastKnownGoodStore.rememberCompany(1L, null);
+        lastKnownGoodStore.rememberCompanies(Set.of(2L), Collections.emptyList());
+        Assertions.assertAll("Missing Companies",
+                () -> Assertions.assertNull(lastKnownGoodStore.getCompanies(Set.of(1L))),
+                () -> Assertions.assertNull(lastKnownGoodStore.getCompanies(Set.of(2L))));
+    }
+
+    @Test
+    @DisplayName("It should remember the companies without reviews in a batch of reviews.")
+    void rememberCompaniesWithoutReviews() {
+        lastKnownGoodStore.rememberReviews(Set.of(1L, 2L), List.of(review));
+        Assertions.assertAll("Batch Of Reviews",
+                () -> Assertions.assertEquals(lastKnownGoodStore.getReviews(Set.of(1L, 2L)), List.of(review)),
+                () -> Assertions.assertEquals(lastKnownGoodStore.getReviews(Set.of(2L)), Collections.emptyList()),
+                () -> Assertions.assertNull(lastKnownGoodStore.getReviews(Set.of(3L))));
+    }
+
+    @Test
+    @DisplayName("It should clear the revalidation of the companies once their fresh responses are remembered.")
+    void revalidateServedCompanies() {
+        lastKnownGoodStore.rememberCompany(1L, firstCompany);
+        lastKnownGoodStore.rememberReviews(1L, List.of(review));
+        lastKnownGoodStore.getCompanies(Set.of(1L));
+        lastKnownGoodStore.getReviews(Set.of(1L));
+        lastKnownGoodStore.rememberCompany(1L, firstCompany);
+        lastKnownGoodStore.rememberReviews(1L, List.of(review));
+        Assertions.assertAll("Revalidated Companies",
+                () -> Assertions.assertEquals(lastKnownGoodStore.takeStaleCompanyIds(), Collections.emptySet()),
+                () -> Assertions.assertEquals(lastKnownGoodStore.takeStaleReviewCompanyIds(), Collections.emptySet()));
+    }
+
+    @Test
+    @DisplayName("It should neither remember nor serve the responses when the stale fallback is disabled.")
+    void staleFallbackDisabled() {
+        jobProperties.getStaleFallback().setEnabled(false);
+        lastKnownGoodStore.rememberCompany(1L, firstCompany);
+        lastKnownGoodStore.rememberReviews(1L, List.of(review));
+        jobProperties.getStaleFallback().setEnabled(true);
+        Assertions.assertAll("Disabled Stale Fallback",
+                () -> Assertions.assertNull(lastKnownGoodStore.getCompanies(Set.of(1L))),
+                () -> Assertions.assertNull(lastKnownGoodStore.getReviews(Set.of(1L))));
+    }
+}
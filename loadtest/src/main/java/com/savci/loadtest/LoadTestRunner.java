@@ -0,0 +1,59 @@
+package com.savci.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.savci.loadtest.broker.EmbeddedBroker;
+import com.savci.loadtest.config.LoadTestProperties;
+import com.savci.loadtest.driver.OpenLoopDriver;
+import com.savci.loadtest.report.LoadReport;
+import com.savci.loadtest.seed.DataSeeder;
+import com.savci.loadtest.seed.SeedData;
+import com.savci.loadtest.service.ServiceProcesses;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
+// Boots the broker and the services on this machine, seeds them, drives the gateway and prints the report.
+@Component
+@AllArgsConstructor
+@Slf4j
+public class LoadTestRunner implements CommandLineRunner {
+    private LoadTestProperties loadTestProperties;
+    private ObjectMapper objectMapper;
+
+    @Override
+    public void run(String... args) throws Exception {
+        LoadTestProperties.Ports ports = loadTestProperties.getPorts();
+        Duration startupTimeout = loadTestProperties.getStartupTimeout();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+        List<String> arguments = List.of(
+                "--spring.rabbitmq.host=localhost",
+                "--spring.rabbitmq.port=" + ports.getBroker(),
+                "--companyms.url=http://localhost:" + ports.getCompanyms(),
+                "--jobms.url=http://localhost:" + ports.getJobms(),
+                "--reviewms.url=http://localhost:" + ports.getReviewms());
+        try(EmbeddedBroker ignored = new EmbeddedBroker(ports.getBroker(), loadTestProperties.getLogDir().resolve("qpid"));
+            ServiceProcesses services = new ServiceProcesses(loadTestProperties.getProjectDir(), loadTestProperties.getLogDir(), httpClient)) {
+            Process companyms = services.start("companyms", ports.getCompanyms(), arguments);
+            Process reviewms = services.start("reviewms", ports.getReviewms(), arguments);
+            Process jobms = services.start("jobms", ports.getJobms(), arguments);
+            services.awaitHealthy("companyms", companyms, ports.getCompanyms(), startupTimeout);
+            services.awaitHealthy("reviewms", reviewms, ports.getReviewms(), startupTimeout);
+            services.awaitHealthy("jobms", jobms, ports.getJobms(), startupTimeout);
+            Process apigateway = services.start("apigateway", ports.getApigateway(), arguments);
+            services.awaitHealthy("apigateway", apigateway, ports.getApigateway(), startupTimeout);
+            URI gatewayUri = URI.create("http://localhost:" + ports.getApigateway());
+            SeedData seedData = new DataSeeder(httpClient, objectMapper, gatewayUri).seed(loadTestProperties.getSeed());
+            LoadReport report = new OpenLoopDriver(httpClient, gatewayUri, loadTestProperties.getLoad()).run(seedData);
+            log.info(System.lineSeparator() + report.format());
+        }
+    }
+}
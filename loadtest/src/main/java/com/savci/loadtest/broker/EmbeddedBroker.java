@@ -0,0 +1,44 @@
+package com.savci.loadtest.broker;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.qpid.server.SystemLauncher;
+import org.apache.qpid.server.model.ConfiguredObject;
+import org.apache.qpid.server.model.SystemConfig;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+// In-process AMQP 0-9-1 broker standing in for RabbitMQ. Everything is kept in memory, so the services exchange their
+// events over a real AMQP connection without a broker being installed.
+@Slf4j
+public class EmbeddedBroker implements AutoCloseable {
+    private final SystemLauncher systemLauncher = new SystemLauncher();
+
+    public EmbeddedBroker(int port, Path workDir) throws Exception {
+        Files.createDirectories(workDir);
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(SystemConfig.TYPE, "Memory");
+        // The broker falls back to classpath: urls otherwise, which cannot be resolved inside the executable jar.
+        attributes.put(SystemConfig.INITIAL_CONFIGURATION_LOCATION, resource("qpid-config.json"));
+        attributes.put(SystemConfig.INITIAL_SYSTEM_PROPERTIES_LOCATION, resource("qpid-system.properties"));
+        attributes.put(SystemConfig.STARTUP_LOGGED_TO_SYSTEM_OUT, false);
+        attributes.put(ConfiguredObject.CONTEXT, Map.of(
+                "qpid.amqp_port", String.valueOf(port),
+                "qpid.work_dir", workDir.toAbsolutePath().toString(),
+                "broker.name", "loadtest"));
+        systemLauncher.startup(attributes);
+        log.info(String.format("The embedded AMQP broker is listening on the port %d.", port));
+    }
+
+    private String resource(String name) {
+        return Objects.requireNonNull(getClass().getClassLoader().getResource(name)).toExternalForm();
+    }
+
+    @Override
+    public void close() {
+        systemLauncher.shutdown();
+    }
+}
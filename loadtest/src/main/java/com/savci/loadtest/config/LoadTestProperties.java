@@ -0,0 +1,54 @@
+package com.savci.loadtest.config;
+
+import com.savci.loadtest.driver.Route;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "loadtest")
+@Data
+public class LoadTestProperties {
+    private Path projectDir = Path.of("..");
+    private Path logDir = Path.of("target", "loadtest-logs");
+    private Duration startupTimeout = Duration.ofMinutes(3);
+    private Ports ports = new Ports();
+    private Seed seed = new Seed();
+    private Load load = new Load();
+
+    @Data
+    public static class Ports {
+        private int broker = 5673;
+        private int companyms = 8081;
+        private int jobms = 8082;
+        private int reviewms = 8083;
+        private int apigateway = 8084;
+    }
+
+    @Data
+    public static class Seed {
+        private int companies = 20;
+        private int reviewsPerCompany = 5;
+        private int jobsPerCompany = 50;
+    }
+
+    @Data
+    public static class Load {
+        private int rate = 200;
+        private Duration warmup = Duration.ofSeconds(10);
+        private Duration duration = Duration.ofSeconds(60);
+        private Duration requestTimeout = Duration.ofSeconds(5);
+        private long randomSeed = 42L;
+        private Map<Route, Integer> routes = new EnumMap<>(Map.of(
+                Route.JOB_PAGE, 4,
+                Route.JOB_BY_ID, 4,
+                Route.JOB_SEARCH, 1,
+                Route.COMPANY_BY_ID, 2,
+                Route.COMPANY_REVIEWS, 2));
+    }
+}
@@ -0,0 +1,83 @@
+package com.savci.loadtest.driver;
+
+import com.savci.loadtest.config.LoadTestProperties;
+import com.savci.loadtest.report.LoadReport;
+import com.savci.loadtest.report.RouteStats;
+import com.savci.loadtest.seed.SeedData;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Sends the requests on a fixed schedule whatever the response times are, as independent users would. A slow service
+// therefore builds up a queue of requests instead of slowing the load generator down and hiding its own latency.
+@Slf4j
+public class OpenLoopDriver {
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final LoadTestProperties.Load load;
+
+    public OpenLoopDriver(HttpClient httpClient, URI baseUri, LoadTestProperties.Load load) {
+        this.httpClient = httpClient;
+        this.baseUri = baseUri;
+        this.load = load;
+    }
+
+    public LoadReport run(SeedData seedData) throws InterruptedException {
+        Map<Route, RouteStats> stats = new EnumMap<>(Route.class);
+        List<Route> schedule = new ArrayList<>();
+        load.getRoutes().forEach((route, weight) -> {
+            if(weight > 0) {
+                stats.put(route, new RouteStats(route));
+                for(int i = 0; i < weight; i++) {
+                    schedule.add(route);
+                }
+            }
+        });
+        if(schedule.isEmpty() || load.getRate() <= 0) {
+            throw new IllegalArgumentException("The load test needs a positive rate and at least one route with a positive weight!");
+        }
+        SplittableRandom random = new SplittableRandom(load.getRandomSeed());
+        AtomicInteger outstanding = new AtomicInteger();
+        long interval = TimeUnit.SECONDS.toNanos(1) / load.getRate();
+        long start = System.nanoTime();
+        long measureFrom = start + load.getWarmup().toNanos();
+        long end = measureFrom + load.getDuration().toNanos();
+        log.info(String.format("The open loop load of %d requests per second is started with %d s of warmup.", load.getRate(), load.getWarmup().toSeconds()));
+        for(long intended = start; intended < end; intended += interval) {
+            long wait = intended - System.nanoTime();
+            if(wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Route route = schedule.get(random.nextInt(schedule.size()));
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(route.path(seedData, random)))
+                    .timeout(load.getRequestTimeout())
+                    .GET()
+                    .build();
+            RouteStats routeStats = intended >= measureFrom ? stats.get(route) : null;
+            long intendedAt = intended;
+            outstanding.incrementAndGet();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, throwable) -> {
+                if(routeStats != null) {
+                    routeStats.record(System.nanoTime() - intendedAt, response == null ? 0 : response.statusCode(), throwable);
+                }
+                outstanding.decrementAndGet();
+            });
+        }
+        long drainDeadline = System.nanoTime() + load.getRequestTimeout().toNanos() + TimeUnit.SECONDS.toNanos(1);
+        while(outstanding.get() > 0 && System.nanoTime() < drainDeadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        return new LoadReport(stats.values(), load.getDuration());
+    }
+}
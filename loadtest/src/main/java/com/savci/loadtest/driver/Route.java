@@ -0,0 +1,51 @@
+package com.savci.loadtest.driver;
+
+import com.savci.loadtest.seed.SeedData;
+
+import java.util.random.RandomGenerator;
+
+// Gateway routes driven by the load test, each of them reported separately.
+public enum Route {
+    JOB_PAGE("GET /jobs") {
+        @Override
+        public String path(SeedData seedData, RandomGenerator random) {
+            return "/jobs?limit=20";
+        }
+    },
+    JOB_BY_ID("GET /jobs/{id}") {
+        @Override
+        public String path(SeedData seedData, RandomGenerator random) {
+            return "/jobs/" + seedData.randomJobId(random);
+        }
+    },
+    JOB_SEARCH("GET /jobs/search") {
+        @Override
+        public String path(SeedData seedData, RandomGenerator random) {
+            return "/jobs/search?q=Job&limit=20";
+        }
+    },
+    COMPANY_BY_ID("GET /companies/{id}") {
+        @Override
+        public String path(SeedData seedData, RandomGenerator random) {
+            return "/companies/" + seedData.randomCompanyId(random);
+        }
+    },
+    COMPANY_REVIEWS("GET /reviews?companyId") {
+        @Override
+        public String path(SeedData seedData, RandomGenerator random) {
+            return "/reviews?companyId=" + seedData.randomCompanyId(random);
+        }
+    };
+
+    private final String description;
+
+    Route(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public abstract String path(SeedData seedData, RandomGenerator random);
+}
@@ -0,0 +1,48 @@
+package com.savci.loadtest.report;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+
+public class LoadReport {
+    private static final String ROW_FORMAT = "%-26s %9s %9s %9s %11s %9s %9s %9s %9s %9s%n";
+
+    private final Collection<RouteStats> routes;
+    private final Duration measured;
+
+    public LoadReport(Collection<RouteStats> routes, Duration measured) {
+        this.routes = routes;
+        this.measured = measured;
+    }
+
+    public Collection<RouteStats> getRoutes() {
+        return routes;
+    }
+
+    public double getThroughput(RouteStats stats) {
+        return stats.getRequests() / (measured.toNanos() / 1e9D);
+    }
+
+    public String format() {
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT, "Measured for %d s, latencies in ms.%n", measured.toSeconds()));
+        report.append(String.format(Locale.ROOT, ROW_FORMAT, "Route", "Requests", "Errors", "Timeouts", "Throughput", "p50", "p90", "p99", "p99.9", "Max"));
+        for(RouteStats stats : routes) {
+            report.append(String.format(Locale.ROOT, ROW_FORMAT,
+                    stats.getRoute().getDescription(),
+                    stats.getRequests(),
+                    stats.getFailed(),
+                    stats.getTimedOut(),
+                    String.format(Locale.ROOT, "%.1f/s", getThroughput(stats)),
+                    millis(stats.getPercentileMillis(50)),
+                    millis(stats.getPercentileMillis(90)),
+                    millis(stats.getPercentileMillis(99)),
+                    millis(stats.getPercentileMillis(99.9)),
+                    millis(stats.getMaxMillis())));
+        }
+        return report.toString();
+    }
+
+    private static String millis(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
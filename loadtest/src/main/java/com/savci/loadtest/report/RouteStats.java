@@ -0,0 +1,61 @@
+package com.savci.loadtest.report;
+
+import com.savci.loadtest.driver.Route;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latencies are recorded in microseconds from the intended send time of the request, so a stalled service is charged
+// for the requests it delayed and not only for the ones it answered.
+public class RouteStats {
+    private final Route route;
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public RouteStats(Route route) {
+        this.route = route;
+    }
+
+    public void record(long latencyNanos, int status, Throwable throwable) {
+        latencies.recordValue(Math.max(1L, latencyNanos / 1000L));
+        if(throwable instanceof HttpTimeoutException || throwable != null && throwable.getCause() instanceof HttpTimeoutException) {
+            timedOut.increment();
+        } else if(throwable != null || status < 200 || status >= 300) {
+            failed.increment();
+        } else {
+            succeeded.increment();
+        }
+    }
+
+    public Route getRoute() {
+        return route;
+    }
+
+    public long getRequests() {
+        return latencies.getTotalCount();
+    }
+
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getTimedOut() {
+        return timedOut.sum();
+    }
+
+    public double getPercentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000D;
+    }
+
+    public double getMaxMillis() {
+        return latencies.getMaxValue() / 1000D;
+    }
+}
@@ -0,0 +1,101 @@
+package com.savci.loadtest.seed;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.savci.loadtest.config.LoadTestProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Seeds the synthetic data through the gateway routes, so the companies, reviews and jobs are created the way the
+// clients create them and the events of the services flow through the broker.
+@Slf4j
+public class DataSeeder {
+    private static final int JOB_BULK_SIZE = 500;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+
+    public DataSeeder(HttpClient httpClient, ObjectMapper objectMapper, URI baseUri) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUri = baseUri;
+    }
+
+    public SeedData seed(LoadTestProperties.Seed seed) throws IOException, InterruptedException {
+        for(int i = 1; i <= seed.getCompanies(); i++) {
+            post("/companies", Map.of("name", "Company " + i, "description", "Description of the company " + i));
+        }
+        List<Long> companyIds = get("/companies", new TypeReference<List<Map<String, Object>>>() {}).stream()
+                .map(company -> ((Number) company.get("id")).longValue())
+                .toList();
+        List<Long> jobIds = new ArrayList<>();
+        List<Map<String, Object>> jobs = new ArrayList<>();
+        for(Long companyId : companyIds) {
+            for(int i = 1; i <= seed.getReviewsPerCompany(); i++) {
+                post("/reviews?companyId=" + companyId, Map.of("title", "Review " + i, "description", "Description of the review " + i, "rating", (double) (i % 5 + 1)));
+            }
+            for(int i = 1; i <= seed.getJobsPerCompany(); i++) {
+                jobs.add(job(companyId, i));
+                if(jobs.size() == JOB_BULK_SIZE) {
+                    jobIds.addAll(createJobs(jobs));
+                    jobs.clear();
+                }
+            }
+        }
+        if(!jobs.isEmpty()) {
+            jobIds.addAll(createJobs(jobs));
+        }
+        if(companyIds.isEmpty() || jobIds.isEmpty()) {
+            throw new IllegalStateException("The load test needs at least one seeded company and job!");
+        }
+        log.info(String.format("%d companies, %d reviews and %d jobs are seeded.", companyIds.size(), companyIds.size() * seed.getReviewsPerCompany(), jobIds.size()));
+        return new SeedData(companyIds, jobIds);
+    }
+
+    private Map<String, Object> job(Long companyId, int i) {
+        Map<String, Object> job = new LinkedHashMap<>();
+        job.put("name", "Job " + i + " of the company " + companyId);
+        job.put("description", "Description of the job " + i);
+        job.put("minSalary", 30000L + i * 100L);
+        job.put("maxSalary", 40000L + i * 100L);
+        job.put("location", "Location " + i % 10);
+        job.put("companyId", companyId);
+        return job;
+    }
+
+    private List<Long> createJobs(List<Map<String, Object>> jobs) throws IOException, InterruptedException {
+        Map<String, Object> result = objectMapper.readValue(post("/jobs/bulk", jobs), new TypeReference<>() {});
+        List<?> created = (List<?>) result.get("created");
+        return created.stream().map(id -> ((Number) id).longValue()).toList();
+    }
+
+    private String post(String path, Object body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        return send(request);
+    }
+
+    private <T> T get(String path, TypeReference<T> type) throws IOException, InterruptedException {
+        return objectMapper.readValue(send(HttpRequest.newBuilder(baseUri.resolve(path)).GET().build()), type);
+    }
+
+    private String send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if(response.statusCode() < 200 || response.statusCode() >= 300) {
+            throw new IllegalStateException(String.format("Seeding %s %s is failed with the status %d: %s", request.method(), request.uri(), response.statusCode(), response.body()));
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,16 @@
+package com.savci.loadtest.seed;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+// Ids of the seeded entities, so that the driven requests address rows which exist.
+public record SeedData(List<Long> companyIds, List<Long> jobIds) {
+
+    public Long randomCompanyId(RandomGenerator random) {
+        return companyIds.get(random.nextInt(companyIds.size()));
+    }
+
+    public Long randomJobId(RandomGenerator random) {
+        return jobIds.get(random.nextInt(jobIds.size()));
+    }
+}
@@ -0,0 +1,98 @@
+package com.savci.loadtest.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Runs the packaged services as child processes with the loadtest profile, which swaps Postgres for H2 and turns
+// Eureka and Zipkin off. The output of every service goes to its own log file.
+@Slf4j
+public class ServiceProcesses implements AutoCloseable {
+    public static final String PROFILE = "loadtest";
+
+    private final Path projectDir;
+    private final Path logDir;
+    private final HttpClient httpClient;
+    private final List<Process> processes = new ArrayList<>();
+
+    public ServiceProcesses(Path projectDir, Path logDir, HttpClient httpClient) throws IOException {
+        this.projectDir = projectDir;
+        this.logDir = Files.createDirectories(logDir);
+        this.httpClient = httpClient;
+    }
+
+    public Process start(String module, int port, List<String> arguments) throws IOException {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-jar", findJar(module).toString(),
+                "--spring.profiles.active=" + PROFILE,
+                "--server.port=" + port));
+        command.addAll(arguments);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logDir.resolve(module + ".log").toFile())
+                .start();
+        processes.add(process);
+        log.info(String.format("The %s service is starting on the port %d.", module, port));
+        return process;
+    }
+
+    public void awaitHealthy(String module, Process process, int port, Duration timeout) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health")).timeout(Duration.ofSeconds(2)).GET().build();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while(System.nanoTime() < deadline) {
+            if(!process.isAlive()) {
+                throw new IllegalStateException(String.format("The %s service is exited, see %s!", module, logDir.resolve(module + ".log")));
+            }
+            try {
+                if(httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    log.info(String.format("The %s service is healthy.", module));
+                    return;
+                }
+            } catch(IOException exception) {
+                // The service is not listening yet.
+            }
+            TimeUnit.MILLISECONDS.sleep(500);
+        }
+        throw new IllegalStateException(String.format("The %s service is not healthy after %d s, see %s!", module, timeout.toSeconds(), logDir.resolve(module + ".log")));
+    }
+
+    private Path findJar(String module) throws IOException {
+        Path target = projectDir.resolve(module).resolve("target");
+        if(Files.isDirectory(target)) {
+            try(Stream<Path> files = Files.list(target)) {
+                return files.filter(file -> file.getFileName().toString().startsWith(module + "-") && file.getFileName().toString().endsWith(".jar"))
+                        .findFirst()
+                        .orElseThrow(() -> missingJar(module));
+            }
+        }
+        throw missingJar(module);
+    }
+
+    private IllegalStateException missingJar(String module) {
+        return new IllegalStateException(String.format("The jar of the %s service is not found, package it with mvn -DskipTests package first!", module));
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        for(Process process : processes) {
+            process.destroy();
+        }
+        for(Process process : processes) {
+            if(!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+}
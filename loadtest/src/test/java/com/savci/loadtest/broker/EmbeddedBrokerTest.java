@@ -0,0 +1,45 @@
+package com.savci.loadtest.broker;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.net.ServerSocket;
+import java.nio.file.Path;
+
+@DisplayName("It should stand in for RabbitMQ with the embedded broker successfully.")
+public class EmbeddedBrokerTest {
+
+    @Test
+    @DisplayName("It should deliver a message published to a fanout exchange to the bound queue over AMQP 0-9-1.")
+    void publishAndConsume() throws Exception {
+        int port;
+        try(ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        try(EmbeddedBroker ignored = new EmbeddedBroker(port, Path.of("target", "qpid-test"))) {
+            CachingConnectionFactory connectionFactory = new CachingConnectionFactory("localhost", port);
+            connectionFactory.setUsername("guest");
+            connectionFactory.setPassword("guest");
+            try {
+                RabbitAdmin rabbitAdmin = new RabbitAdmin(connectionFactory);
+                Queue queue = new Queue("companyJobDeleteQueue");
+                FanoutExchange exchange = new FanoutExchange("companyChangedExchange");
+                rabbitAdmin.declareQueue(queue);
+                rabbitAdmin.declareExchange(exchange);
+                rabbitAdmin.declareBinding(BindingBuilder.bind(queue).to(exchange));
+                RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
+                rabbitTemplate.convertAndSend("companyChangedExchange", "", 1L);
+                Assertions.assertEquals(rabbitTemplate.receiveAndConvert("companyJobDeleteQueue", 5000), 1L);
+            } finally {
+                connectionFactory.destroy();
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.savci.loadtest.driver;
+
+import com.savci.loadtest.config.LoadTestProperties;
+import com.savci.loadtest.report.LoadReport;
+import com.savci.loadtest.report.RouteStats;
+import com.savci.loadtest.seed.SeedData;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@DisplayName("It should drive the routes with an open loop request rate successfully.")
+public class OpenLoopDriverTest {
+    private HttpServer httpServer;
+    private OpenLoopDriver openLoopDriver;
+    private LoadTestProperties.Load load;
+    private SeedData seedData;
+
+    @BeforeEach
+    @DisplayName("Setting up the data for test cases.")
+    void init() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext("/jobs", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        httpServer.createContext("/companies", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        httpServer.setExecutor(Executors.newCachedThreadPool());
+        httpServer.start();
+        load = new LoadTestProperties.Load();
+        load.setRate(100);
+        load.setWarmup(Duration.ofMillis(200));
+        load.setDuration(Duration.ofSeconds(1));
+        load.setRoutes(new EnumMap<>(Map.of(Route.JOB_BY_ID, 1, Route.COMPANY_BY_ID, 1, Route.COMPANY_REVIEWS, 0)));
+        openLoopDriver = new OpenLoopDriver(HttpClient.newHttpClient(), URI.create("http://localhost:" + httpServer.getAddress().getPort()), load);
+        seedData = new SeedData(List.of(1L, 2L), List.of(1L, 2L, 3L));
+    }
+
+    @AfterEach
+    void shutdown() {
+        httpServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("It should send the requests of the measured window at the configured rate and report them per route.")
+    void driveRoutes() throws InterruptedException {
+        LoadReport report = openLoopDriver.run(seedData);
+        Map<Route, RouteStats> routes = report.getRoutes().stream().collect(Collectors.toMap(RouteStats::getRoute, Function.identity()));
+        RouteStats jobs = routes.get(Route.JOB_BY_ID);
+        RouteStats companies = routes.get(Route.COMPANY_BY_ID);
+        Assertions.assertAll("Open Loop Load",
+                () -> Assertions.assertEquals(routes.keySet(), Set.of(Route.JOB_BY_ID, Route.COMPANY_BY_ID)),
+                () -> Assertions.assertEquals(jobs.getRequests() + companies.getRequests(), 100L),
+                () -> Assertions.assertEquals(jobs.getSucceeded(), jobs.getRequests()),
+                () -> Assertions.assertEquals(companies.getFailed(), companies.getRequests()),
+                () -> Assertions.assertTrue(jobs.getPercentileMillis(50) > 0),
+                () -> Assertions.assertTrue(report.format().contains("GET /jobs/{id}")));
+    }
+
+    @Test
+    @DisplayName("It should not start the load without a route to drive.")
+    void noRoutes() {
+        load.setRoutes(new EnumMap<>(Map.of(Route.JOB_PAGE, 0)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> openLoopDriver.run(seedData));
+    }
+}
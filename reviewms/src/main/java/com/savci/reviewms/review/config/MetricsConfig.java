@@ -0,0 +1,42 @@
+package com.savci.reviewms.review.config;
+
+import io.micrometer.common.KeyValues;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+@Configuration
+public class MetricsConfig {
+    public static final String OK = "OK";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String CLIENT_ERROR = "CLIENT_ERROR";
+    public static final String SERVER_ERROR = "SERVER_ERROR";
+
+    // The request timers are tagged with the same result as the ones of jobms. This service applies no resilience pattern
+    // of its own, so the result is derived from the status alone.
+    @Bean
+    public ServerRequestObservationConvention resultObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context).and("result", result(context));
+            }
+        };
+    }
+
+    private static String result(ServerRequestObservationContext context) {
+        HttpServletResponse response = context.getResponse();
+        HttpStatus status = response == null ? null : HttpStatus.resolve(response.getStatus());
+        if(status == null || status.is5xxServerError() || context.getError() != null) {
+            return SERVER_ERROR;
+        }
+        if(status == HttpStatus.NOT_FOUND) {
+            return NOT_FOUND;
+        }
+        return status.is4xxClientError() ? CLIENT_ERROR : OK;
+    }
+}
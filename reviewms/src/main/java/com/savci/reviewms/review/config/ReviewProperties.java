@@ -0,0 +1,18 @@
+package com.savci.reviewms.review.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "reviewms")
+@Data
+public class ReviewProperties {
+    private ReviewDelete reviewDelete = new ReviewDelete();
+
+    @Data
+    public static class ReviewDelete {
+        private boolean chunked = true;
+        private int chunkSize = 1000;
+    }
+}
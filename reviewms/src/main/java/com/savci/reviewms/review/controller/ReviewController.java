@@ -1,14 +1,17 @@
 package com.savci.reviewms.review.controller;
 
+import com.savci.reviewms.review.dto.ReviewListVersion;
 import com.savci.reviewms.review.entity.Review;
 import com.savci.reviewms.review.entity.ReviewId;
 import com.savci.reviewms.review.entity.CompanyId;
 import com.savci.reviewms.review.service.ReviewService;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -21,9 +24,24 @@ public class ReviewController {
     private ReviewService reviewService;
 
     @GetMapping
-    public ResponseEntity<List<Review>> getAllReviews(@RequestParam CompanyId companyId) {
+    public ResponseEntity<List<Review>> getAllReviews(@RequestParam CompanyId companyId, WebRequest webRequest) {
+        // The conditional request is answered from the aggregated version columns without loading the reviews.
+        if(webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String eTag = reviewService.getAllReviewsVersion(companyId).toETag();
+            if(webRequest.checkNotModified(eTag)) {
+                log.info("Reviews of the company are not modified in the controller layer.");
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+        List<Review> reviews = reviewService.getAllReviews(companyId);
         log.info("Fetch all reviews operation is done in the controller layer.");
-        return ResponseEntity.ok(reviewService.getAllReviews(companyId));
+        return ResponseEntity.ok().eTag(ReviewListVersion.createReviewListVersion(reviews).toETag()).body(reviews);
+    }
+
+    @GetMapping(params = "companyIds")
+    public ResponseEntity<List<Review>> getAllReviewsByCompanyIds(@RequestParam List<Long> companyIds) {
+        log.info("Fetch all reviews of the given companies operation is done in the controller layer.");
+        return ResponseEntity.ok(reviewService.getAllReviewsByCompanyIds(companyIds));
     }
 
     @PostMapping
@@ -0,0 +1,49 @@
+package com.savci.reviewms.review.deletion;
+
+import com.savci.reviewms.review.repository.ReviewRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+// Every chunk runs in its own short transaction and records its progress, so locks are held briefly
+// and a redelivered deletion resumes after the last deleted id.
+@Component
+@AllArgsConstructor
+@Slf4j
+public class ChunkedReviewDeleter {
+    private CompanyDeletionRepository companyDeletionRepository;
+    private ReviewRepository reviewRepository;
+
+    @Transactional
+    public CompanyDeletion begin(Long companyId) {
+        Instant now = Instant.now();
+        CompanyDeletion deletion = companyDeletionRepository.findById(companyId).orElse(null);
+        if(deletion != null && deletion.getStatus() == CompanyDeletion.Status.IN_PROGRESS) {
+            log.info(String.format("The chunked deletion of the reviews of the company with the id %d is resumed after the review id %d.", companyId, deletion.getLastDeletedId()));
+            return deletion;
+        }
+        return companyDeletionRepository.save(new CompanyDeletion(companyId, 0L, 0L, CompanyDeletion.Status.IN_PROGRESS, now, now));
+    }
+
+    @Transactional
+    public boolean deleteNextChunk(Long companyId, int chunkSize) {
+        CompanyDeletion deletion = companyDeletionRepository.findById(companyId).orElseThrow();
+        List<Long> ids = reviewRepository.findIdsByCompanyIdAfter(companyId, deletion.getLastDeletedId(), Limit.of(chunkSize));
+        deletion.setUpdatedAt(Instant.now());
+        if(ids.isEmpty()) {
+            deletion.setStatus(CompanyDeletion.Status.COMPLETED);
+            log.info(String.format("The chunked deletion of %d reviews of the company with the id %d is completed.", deletion.getDeletedRows(), companyId));
+            return false;
+        }
+        Long lastId = ids.get(ids.size() - 1);
+        int deletedRows = reviewRepository.deleteByCompanyIdAndIdBetween(companyId, ids.get(0), lastId);
+        deletion.setLastDeletedId(lastId);
+        deletion.setDeletedRows(deletion.getDeletedRows() + deletedRows);
+        return true;
+    }
+}
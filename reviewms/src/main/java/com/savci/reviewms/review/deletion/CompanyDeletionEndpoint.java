@@ -0,0 +1,27 @@
+package com.savci.reviewms.review.deletion;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "deletions")
+@AllArgsConstructor
+public class CompanyDeletionEndpoint {
+    private CompanyDeletionRepository companyDeletionRepository;
+
+    @ReadOperation
+    public List<CompanyDeletion> deletions() {
+        return companyDeletionRepository.findAll(Sort.by("companyId"));
+    }
+
+    @ReadOperation
+    public CompanyDeletion deletion(@Selector Long companyId) {
+        return companyDeletionRepository.findById(companyId).orElse(null);
+    }
+}
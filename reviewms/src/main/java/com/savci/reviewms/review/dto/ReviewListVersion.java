@@ -0,0 +1,29 @@
+package com.savci.reviewms.review.dto;
+
+import com.savci.reviewms.review.entity.Review;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Objects;
+
+// Aggregated version of the reviews of a company. Creations and deletions change the count and the id sum, updates change the version sum.
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ReviewListVersion {
+    private Long count;
+    private Long idSum;
+    private Long versionSum;
+
+    public static ReviewListVersion createReviewListVersion(List<Review> reviews) {
+        return new ReviewListVersion((long) reviews.size(),
+                reviews.stream().map(Review::getId).filter(Objects::nonNull).mapToLong(Long::longValue).sum(),
+                reviews.stream().map(Review::getVersion).filter(Objects::nonNull).mapToLong(Long::longValue).sum());
+    }
+
+    public String toETag() {
+        return String.format("\"%d-%d-%d\"", count, idSum, versionSum);
+    }
+}
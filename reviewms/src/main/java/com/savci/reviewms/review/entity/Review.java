@@ -1,11 +1,15 @@
 package com.savci.reviewms.review.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.savci.reviewms.review.validation.OnCreate;
 import com.savci.reviewms.review.validation.OnUpdate;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Null;
@@ -14,8 +18,10 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Table(indexes = @Index(name = "review_company_idx", columnList = "companyId, id"))
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -33,6 +39,12 @@ public class Review {
     @Null(message = "Upon creation, company id should be null.", groups = {OnCreate.class})
     @NotNull(message = "Please provide a valid id, company id should not be null.", groups = {OnUpdate.class})
     private Long companyId;
+    // Backs the entity tag of the review list, the default fills the column of the existing rows.
+    @Version
+    @ColumnDefault("0")
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private Long version;
 
     public void copy(Review other) {
         this.title = other.getTitle();
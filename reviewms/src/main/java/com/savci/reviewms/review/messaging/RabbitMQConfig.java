@@ -1,5 +1,8 @@
 package com.savci.reviewms.review.messaging;
 
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -10,12 +13,23 @@ import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class RabbitMQConfig {
+    public static final String REVIEW_CHANGED_EXCHANGE = "reviewChangedExchange";
 
     @Bean
     public Queue companyRatingQueue() {
         return new Queue("companyRatingQueue");
     }
 
+    @Bean
+    public FanoutExchange reviewChangedExchange() {
+        return new FanoutExchange(REVIEW_CHANGED_EXCHANGE);
+    }
+
+    @Bean
+    public Binding companyRatingBinding(Queue companyRatingQueue, FanoutExchange reviewChangedExchange) {
+        return BindingBuilder.bind(companyRatingQueue).to(reviewChangedExchange);
+    }
+
     @Bean
     public Queue companyReviewDeleteQueue() {
         return new Queue("companyReviewDeleteQueue");
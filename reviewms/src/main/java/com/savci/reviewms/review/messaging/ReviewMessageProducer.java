@@ -13,6 +13,6 @@ public class ReviewMessageProducer {
 
     public void sendMessage(Review review) {
         ReviewMessage reviewMessage = new ReviewMessage(review);
-        rabbitTemplate.convertAndSend("companyRatingQueue", reviewMessage);
+        rabbitTemplate.convertAndSend(RabbitMQConfig.REVIEW_CHANGED_EXCHANGE, "", reviewMessage);
     }
 }
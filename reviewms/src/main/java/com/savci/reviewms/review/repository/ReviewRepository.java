@@ -1,16 +1,29 @@
 package com.savci.reviewms.review.repository;
 
+import com.savci.reviewms.review.dto.ReviewListVersion;
 import com.savci.reviewms.review.entity.Review;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findByCompanyId(Long companyId);
+    List<Review> findByCompanyIdIn(Collection<Long> companyIds);
+    @Query("select new com.savci.reviewms.review.dto.ReviewListVersion(count(r), coalesce(sum(r.id), 0L), coalesce(sum(r.version), 0L)) " +
+            "from Review r where r.companyId=:companyId")
+    ReviewListVersion findListVersionByCompanyId(@Param("companyId") Long companyId);
+    @Query("select r.id from Review r where r.companyId=:companyId and r.id>:after order by r.id")
+    List<Long> findIdsByCompanyIdAfter(@Param("companyId") Long companyId, @Param("after") Long after, Limit limit);
+    @Modifying
+    @Query("delete from Review r where r.companyId=:companyId and r.id between :fromId and :toId")
+    int deleteByCompanyIdAndIdBetween(@Param("companyId") Long companyId, @Param("fromId") Long fromId, @Param("toId") Long toId);
+    @Transactional
     @Modifying
     @Query("delete from Review r where r.companyId=:companyId")
     void deleteByCompanyId(@Param("companyId") Long companyId);
@@ -2,6 +2,7 @@ package com.savci.reviewms.review.service;
 import java.util.List;
 import java.util.Map;
 
+import com.savci.reviewms.review.dto.ReviewListVersion;
 import com.savci.reviewms.review.entity.Review;
 import com.savci.reviewms.review.entity.ReviewId;
 import com.savci.reviewms.review.entity.CompanyId;
@@ -14,6 +15,8 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public interface ReviewService {
     List<Review> getAllReviews(CompanyId companyId);
+    ReviewListVersion getAllReviewsVersion(CompanyId companyId);
+    List<Review> getAllReviewsByCompanyIds(List<Long> companyIds);
     @Validated(OnCreate.class)
     Map<String, HttpStatus> createReview(CompanyId companyId, @Valid Review review);
     Map<Object, HttpStatus> getReviewById(ReviewId reviewId);
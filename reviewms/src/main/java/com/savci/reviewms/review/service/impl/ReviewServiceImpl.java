@@ -1,5 +1,8 @@
 package com.savci.reviewms.review.service.impl;
 
+import com.savci.reviewms.review.config.ReviewProperties;
+import com.savci.reviewms.review.deletion.ChunkedReviewDeleter;
+import com.savci.reviewms.review.dto.ReviewListVersion;
 import com.savci.reviewms.review.entity.CompanyId;
 import com.savci.reviewms.review.entity.Review;
 import com.savci.reviewms.review.entity.ReviewId;
@@ -15,10 +18,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 @Service
@@ -28,6 +34,8 @@ public class ReviewServiceImpl implements ReviewService {
     private Validator validator;
     private ReviewRepository reviewRepository;
     private ReviewMessageProducer reviewMessageProducer;
+    private ReviewProperties reviewProperties;
+    private ChunkedReviewDeleter chunkedReviewDeleter;
 
     @Override
     public List<Review> getAllReviews(CompanyId companyId) {
@@ -40,6 +48,28 @@ public class ReviewServiceImpl implements ReviewService {
         return reviewRepository.findByCompanyId(companyId.getId());
     }
 
+    @Override
+    public ReviewListVersion getAllReviewsVersion(CompanyId companyId) {
+        Set<ConstraintViolation<CompanyId>> companyIdConstraintViolation = validator.validate(companyId);
+        if(!companyIdConstraintViolation.isEmpty()) {
+            log.error("Constraints of the company id is not met when fetching the version of the reviews in the service layer!");
+            throw new ConstraintViolationException(companyIdConstraintViolation);
+        }
+        log.info("Fetch the version of the review data operation is successfully done in the service layer!");
+        return reviewRepository.findListVersionByCompanyId(companyId.getId());
+    }
+
+    @Override
+    public List<Review> getAllReviewsByCompanyIds(List<Long> companyIds) {
+        List<Long> distinctCompanyIds = companyIds.stream().filter(Objects::nonNull).distinct().toList();
+        if(distinctCompanyIds.isEmpty()) {
+            log.info("No company ids are given, the batch fetch of reviews is skipped in the service layer!");
+            return Collections.emptyList();
+        }
+        log.info(String.format("Fetch the reviews of %d companies operation is successfully done in the service layer!", distinctCompanyIds.size()));
+        return reviewRepository.findByCompanyIdIn(distinctCompanyIds);
+    }
+
     @Override
     public Map<String, HttpStatus> createReview(CompanyId companyId, Review review) {
         Set<ConstraintViolation<CompanyId>> companyIdConstraintViolation = validator.validate(companyId);
@@ -51,9 +81,11 @@ public class ReviewServiceImpl implements ReviewService {
             log.error("The review is not valid upon the creation in the service layer!");
             return Collections.singletonMap("The review is not valid!", HttpStatus.BAD_REQUEST);
         }
+        // A versioned entity with an id would be merged as a detached one, so the id of a new review is always generated.
+        review.setId(null);
         review.setCompanyId(companyId.getId());
         reviewRepository.save(review);
-        reviewMessageProducer.sendMessage(review);
+        afterCommit(() -> reviewMessageProducer.sendMessage(review));
         log.info("The review is created successfully in the service layer!");
         return Collections.singletonMap("The review is created successfully!", HttpStatus.CREATED);
     }
@@ -65,17 +97,17 @@ public class ReviewServiceImpl implements ReviewService {
             log.error("Constraints of the company id is not met when fetching the review in the service layer!");
             throw new ConstraintViolationException(companyIdConstraintViolation);
         }
-        if(!reviewRepository.existsById(reviewId.getId())) {
+        Review review = reviewRepository.findById(reviewId.getId()).orElse(null);
+        if(review == null) {
             log.error("The review is not found in the review repository when querying in the service layer!");
             return Collections.singletonMap("The review is not found!", HttpStatus.NOT_FOUND);
         }
-        Review review = reviewRepository.findById(reviewId.getId()).orElse(null);
-        assert review != null;
         log.info(String.format("The review data with the id %d is fetched successfully in the service layer!", reviewId.getId()));
         return Collections.singletonMap(review, HttpStatus.OK);
     }
 
     @Override
+    @Transactional
     public Map<Object, HttpStatus> updateReviewById(ReviewId reviewId, @Valid Review updatedReview) {
         Set<ConstraintViolation<ReviewId>> companyIdConstraintViolation = validator.validate(reviewId);
         if(!companyIdConstraintViolation.isEmpty()) {
@@ -86,31 +118,33 @@ public class ReviewServiceImpl implements ReviewService {
             log.error("The review is not valid upon the update in the service layer!");
             return Collections.singletonMap("The review is not valid!", HttpStatus.BAD_REQUEST);
         }
-        if(!reviewRepository.existsById(reviewId.getId())) {
+        Review review = reviewRepository.findById(reviewId.getId()).orElse(null);
+        if(review == null) {
             log.error("The review is not found in the review repository when querying in the service layer!");
             return Collections.singletonMap("The review is not found!", HttpStatus.NOT_FOUND);
         }
-        Review review = reviewRepository.findById(reviewId.getId()).orElse(null);
-        assert review != null;
         review.copy(updatedReview);
         reviewRepository.save(review);
-        reviewMessageProducer.sendMessage(review);
+        afterCommit(() -> reviewMessageProducer.sendMessage(review));
         log.info("The review is updated successfully in the service layer!");
         return Collections.singletonMap(review, HttpStatus.OK);
     }
 
     @Override
+    @Transactional
     public Map<String, HttpStatus> deleteReviewById(ReviewId reviewId) {
         Set<ConstraintViolation<ReviewId>> companyIdConstraintViolation = validator.validate(reviewId);
         if(!companyIdConstraintViolation.isEmpty()) {
             log.error("Constraints of the review id is not met when deleting in the service layer!");
             throw new ConstraintViolationException(companyIdConstraintViolation);
         }
-        if(!reviewRepository.existsById(reviewId.getId())) {
+        Review review = reviewRepository.findById(reviewId.getId()).orElse(null);
+        if(review == null) {
             log.error("The review is not found in the review repository when querying in the service layer!");
             return Collections.singletonMap("The review is not found!", HttpStatus.NOT_FOUND);
         }
-        reviewRepository.deleteById(reviewId.getId());
+        reviewRepository.delete(review);
+        afterCommit(() -> reviewMessageProducer.sendMessage(review));
         log.info("The review is deleted successfully in the service layer!");
         return Collections.singletonMap("The review is deleted successfully!", HttpStatus.OK);
     }
@@ -127,7 +161,6 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     @Override
-    @Transactional
     public void deleteReviewByCompanyId(Long companyId) {
         CompanyId companyId_ = new CompanyId(companyId);
         Set<ConstraintViolation<CompanyId>> companyIdConstraintViolation = validator.validate(companyId_);
@@ -135,6 +168,31 @@ public class ReviewServiceImpl implements ReviewService {
             log.error("Constraints of the company id is not met when deleting reviews in the service layer!");
             throw new ConstraintViolationException(companyIdConstraintViolation);
         }
+        ReviewProperties.ReviewDelete reviewDelete = reviewProperties.getReviewDelete();
+        if(reviewDelete.isChunked()) {
+            chunkedReviewDeleter.begin(companyId);
+            int chunks = 0;
+            while(chunkedReviewDeleter.deleteNextChunk(companyId, reviewDelete.getChunkSize())) {
+                chunks++;
+            }
+            log.info(String.format("The reviews of the company with the id %d are deleted in %d chunks in the service layer!", companyId, chunks));
+            return;
+        }
         reviewRepository.deleteByCompanyId(companyId);
     }
+
+    // Messages are published once the surrounding transaction commits, so that their consumers never read the data from
+    // before the change, and a change which is rolled back publishes nothing.
+    private static void afterCommit(Runnable publish) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish.run();
+            }
+        });
+    }
 }
@@ -0,0 +1,44 @@
+package com.savci.reviewms.review.config;
+
+import io.micrometer.common.KeyValue;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("It should tag the request timers with the result successfully.")
+public class MetricsConfigTest {
+    private final ServerRequestObservationConvention convention = new MetricsConfig().resultObservationConvention();
+
+    @Test
+    @DisplayName("It should derive the result of the request from the status of the response.")
+    void resultFromStatus() {
+        Assertions.assertAll("Result Tags",
+                () -> Assertions.assertEquals(result(HttpStatus.OK, null), MetricsConfig.OK),
+                () -> Assertions.assertEquals(result(HttpStatus.NOT_FOUND, null), MetricsConfig.NOT_FOUND),
+                () -> Assertions.assertEquals(result(HttpStatus.BAD_REQUEST, null), MetricsConfig.CLIENT_ERROR),
+                () -> Assertions.assertEquals(result(HttpStatus.SERVICE_UNAVAILABLE, null), MetricsConfig.SERVER_ERROR));
+    }
+
+    @Test
+    @DisplayName("It should tag the request which failed with an error as a server error.")
+    void resultFromError() {
+        Assertions.assertEquals(result(HttpStatus.OK, new IllegalStateException("Dummy message")), MetricsConfig.SERVER_ERROR);
+    }
+
+    private String result(HttpStatus status, Throwable error) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status.value());
+        ServerRequestObservationContext context = new ServerRequestObservationContext(new MockHttpServletRequest("GET", "/"), response);
+        context.setError(error);
+        KeyValue result = convention.getLowCardinalityKeyValues(context).stream()
+                .filter(keyValue -> keyValue.getKey().equals("result"))
+                .findFirst()
+                .orElseThrow();
+        return result.getValue();
+    }
+}
@@ -1,6 +1,7 @@
 package com.savci.reviewms.review.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.savci.reviewms.review.dto.ReviewListVersion;
 import com.savci.reviewms.review.entity.CompanyId;
 import com.savci.reviewms.review.entity.Review;
 import com.savci.reviewms.review.entity.ReviewId;
@@ -17,6 +18,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -24,6 +26,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -232,6 +236,54 @@ public class ReviewControllerTest {
 //                .andExpect(jsonPath("$.size()").value(reviewList.size()));
 //    }
 
+    @Test
+    @DisplayName("It should use the controller to fetch the reviews of the company together with the entity tag of the review list.")
+    void getAllReviewsETag() throws Exception {
+        firstReview.setVersion(2L);
+        secondReview.setVersion(1L);
+        Mockito.when(reviewService.getAllReviews(Mockito.any(CompanyId.class))).thenReturn(List.of(firstReview, secondReview));
+        mockMvc.perform(get("/reviews?companyId={companyId}", companyId.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2-3-3\""))
+                .andExpect(jsonPath("$.size()").value(2));
+        Mockito.verify(reviewService, Mockito.never()).getAllReviewsVersion(Mockito.any(CompanyId.class));
+    }
+
+    @Test
+    @DisplayName("It should use the controller to answer the conditional fetch of the unchanged reviews with 304 status code from their versions.")
+    void getAllReviewsNotModified() throws Exception {
+        Mockito.when(reviewService.getAllReviewsVersion(Mockito.any(CompanyId.class))).thenReturn(new ReviewListVersion(2L, 3L, 3L));
+        mockMvc.perform(get("/reviews?companyId={companyId}", companyId.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"2-3-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2-3-3\""))
+                .andExpect(content().string(""));
+        Mockito.verify(reviewService, Mockito.never()).getAllReviews(Mockito.any(CompanyId.class));
+    }
+
+    @Test
+    @DisplayName("It should use the controller to fetch the changed reviews when the conditional fetch carries a stale entity tag.")
+    void getAllReviewsModified() throws Exception {
+        firstReview.setVersion(2L);
+        Mockito.when(reviewService.getAllReviewsVersion(Mockito.any(CompanyId.class))).thenReturn(new ReviewListVersion(1L, 1L, 2L));
+        Mockito.when(reviewService.getAllReviews(Mockito.any(CompanyId.class))).thenReturn(List.of(firstReview));
+        mockMvc.perform(get("/reviews?companyId={companyId}", companyId.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"2-3-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-1-2\""))
+                .andExpect(jsonPath("$.size()").value(1));
+    }
+
+    @Test
+    @DisplayName("It should use the controller to fetch the reviews of the given companies in the database.")
+    void getAllReviewsByCompanyIds() throws Exception {
+        List<Review> reviewList = new ArrayList<>();
+        reviewList.add(firstReview);
+        reviewList.add(secondReview);
+        Mockito.when(reviewService.getAllReviewsByCompanyIds(List.of(1L, 2L))).thenReturn(reviewList);
+        mockMvc.perform(get("/reviews?companyIds={companyIds}", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(reviewList.size()));
+    }
+
     @Test
     @DisplayName("It should use the controller to fail to fetch the available jobs by company id in the database and throw the ConstraintViolationException.")
     void getAllReviewsByCompanyIdConstraintViolation() throws Exception {
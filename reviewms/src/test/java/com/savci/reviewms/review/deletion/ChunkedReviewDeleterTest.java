@@ -0,0 +1,90 @@
+package com.savci.reviewms.review.deletion;
+
+import com.savci.reviewms.review.entity.Review;
+import com.savci.reviewms.review.repository.ReviewRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+@DataJpaTest
+@Import(ChunkedReviewDeleter.class)
+@DisplayName("It should delete the reviews of a company in bounded chunks and track the progress successfully.")
+public class ChunkedReviewDeleterTest {
+    @Autowired
+    private ChunkedReviewDeleter chunkedReviewDeleter;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private CompanyDeletionRepository companyDeletionRepository;
+    private Review otherCompanyReview;
+
+    @BeforeEach
+    @DisplayName("Setting up the data for test cases.")
+    void init() {
+        for(int index = 0; index < 5; index++) {
+            saveReview(1L);
+        }
+        otherCompanyReview = saveReview(2L);
+    }
+
+    @Test
+    @DisplayName("It should delete the reviews chunk by chunk and complete the deletion when no review is left.")
+    void deleteInChunks() {
+        chunkedReviewDeleter.begin(1L);
+        int chunks = 0;
+        while(chunkedReviewDeleter.deleteNextChunk(1L, 2)) {
+            chunks++;
+        }
+        CompanyDeletion deletion = companyDeletionRepository.findById(1L).orElseThrow();
+        int deletedChunks = chunks;
+        Assertions.assertAll("Chunked Deletion",
+                () -> Assertions.assertEquals(deletedChunks, 3),
+                () -> Assertions.assertEquals(deletion.getStatus(), CompanyDeletion.Status.COMPLETED),
+                () -> Assertions.assertEquals(deletion.getDeletedRows(), 5L),
+                () -> Assertions.assertEquals(reviewRepository.findAll(), List.of(otherCompanyReview)));
+    }
+
+    @Test
+    @DisplayName("It should resume an interrupted deletion after the last deleted id.")
+    void resumeInProgressDeletion() {
+        chunkedReviewDeleter.begin(1L);
+        chunkedReviewDeleter.deleteNextChunk(1L, 2);
+        Long lastDeletedId = companyDeletionRepository.findById(1L).orElseThrow().getLastDeletedId();
+        CompanyDeletion resumed = chunkedReviewDeleter.begin(1L);
+        Assertions.assertAll("Resumed Deletion",
+                () -> Assertions.assertEquals(resumed.getStatus(), CompanyDeletion.Status.IN_PROGRESS),
+                () -> Assertions.assertEquals(resumed.getLastDeletedId(), lastDeletedId),
+                () -> Assertions.assertEquals(resumed.getDeletedRows(), 2L),
+                () -> Assertions.assertEquals(reviewRepository.findIdsByCompanyIdAfter(1L, 0L, Limit.of(10)).size(), 3));
+    }
+
+    @Test
+    @DisplayName("It should restart the progress of a company whose previous deletion is completed.")
+    void restartCompletedDeletion() {
+        chunkedReviewDeleter.begin(1L);
+        while(chunkedReviewDeleter.deleteNextChunk(1L, 10)) {
+            // drain the company
+        }
+        CompanyDeletion restarted = chunkedReviewDeleter.begin(1L);
+        Assertions.assertAll("Restarted Deletion",
+                () -> Assertions.assertEquals(restarted.getStatus(), CompanyDeletion.Status.IN_PROGRESS),
+                () -> Assertions.assertEquals(restarted.getLastDeletedId(), 0L),
+                () -> Assertions.assertEquals(restarted.getDeletedRows(), 0L));
+    }
+
+    private Review saveReview(Long companyId) {
+        Review review = new Review();
+        review.setTitle("Title");
+        review.setDescription("Description");
+        review.setRating(3.5D);
+        review.setCompanyId(companyId);
+        return reviewRepository.save(review);
+    }
+}
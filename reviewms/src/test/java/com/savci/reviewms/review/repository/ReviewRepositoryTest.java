@@ -1,5 +1,6 @@
 package com.savci.reviewms.review.repository;
 
+import com.savci.reviewms.review.dto.ReviewListVersion;
 import com.savci.reviewms.review.entity.CompanyId;
 import com.savci.reviewms.review.entity.Review;
 import org.junit.jupiter.api.Assertions;
@@ -74,6 +75,40 @@ public class ReviewRepositoryTest {
                 () -> Assertions.assertEquals(reviewList.get(0), firstReview));
     }
 
+    @Test
+    @DisplayName("It should return the reviews of all the given company ids stored in the database.")
+    void getAllReviewsByCompanyIds() {
+        reviewRepositoryTest.save(firstReview);
+        reviewRepositoryTest.save(secondReview);
+
+        List<Review> reviewList = reviewRepositoryTest.findByCompanyIdIn(List.of(1L, 2L, 3L));
+        List<Review> firstCompanyReviewList = reviewRepositoryTest.findByCompanyIdIn(List.of(1L));
+        Assertions.assertAll("Reviews In Database",
+                () -> Assertions.assertEquals(reviewList.size(), 2),
+                () -> Assertions.assertTrue(reviewList.containsAll(List.of(firstReview, secondReview))),
+                () -> Assertions.assertEquals(firstCompanyReviewList, List.of(firstReview)));
+    }
+
+    @Test
+    @DisplayName("It should aggregate the versions of the reviews of the company into the same entity tag as the loaded reviews.")
+    void findListVersionByCompanyId() {
+        reviewRepositoryTest.saveAndFlush(firstReview);
+        secondReview.setCompanyId(1L);
+        reviewRepositoryTest.saveAndFlush(secondReview);
+        ReviewListVersion createdVersion = reviewRepositoryTest.findListVersionByCompanyId(1L);
+        firstReview.setRating(5D);
+        reviewRepositoryTest.saveAndFlush(firstReview);
+        ReviewListVersion updatedVersion = reviewRepositoryTest.findListVersionByCompanyId(1L);
+        ReviewListVersion loadedVersion = ReviewListVersion.createReviewListVersion(reviewRepositoryTest.findByCompanyId(1L));
+
+        Assertions.assertAll("Review List Version in the Database",
+                () -> Assertions.assertEquals(createdVersion.getCount(), 2L),
+                () -> Assertions.assertEquals(createdVersion.getVersionSum(), 0L),
+                () -> Assertions.assertEquals(updatedVersion.getVersionSum(), 1L),
+                () -> Assertions.assertEquals(updatedVersion.toETag(), loadedVersion.toETag()),
+                () -> Assertions.assertEquals(reviewRepositoryTest.findListVersionByCompanyId(2L).toETag(), "\"0-0-0\""));
+    }
+
     @Test
     @DisplayName("It should obtain the specific review via its id in the database.")
     void getReviewById() {
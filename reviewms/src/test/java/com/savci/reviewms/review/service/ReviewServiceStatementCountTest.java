@@ -0,0 +1,124 @@
+package com.savci.reviewms.review.service;
+
+import com.savci.reviewms.review.config.ReviewProperties;
+import com.savci.reviewms.review.deletion.ChunkedReviewDeleter;
+import com.savci.reviewms.review.entity.Review;
+import com.savci.reviewms.review.entity.ReviewId;
+import com.savci.reviewms.review.messaging.ReviewMessageProducer;
+import com.savci.reviewms.review.repository.ReviewRepository;
+import com.savci.reviewms.review.service.impl.ReviewServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.Map;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({ReviewServiceImpl.class, ReviewProperties.class, ChunkedReviewDeleter.class})
+@DisplayName("It should reach the database with the minimum number of statements per service operation.")
+public class ReviewServiceStatementCountTest {
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @MockBean
+    private ReviewMessageProducer reviewMessageProducer;
+
+    private Statistics statistics;
+    private Review review;
+
+    @BeforeEach
+    @DisplayName("Setting up the data for test cases.")
+    void init() {
+        review = new Review();
+        review.setTitle("Title 1");
+        review.setDescription("Description 1");
+        review.setRating(3.5D);
+        review.setCompanyId(1L);
+        reviewRepository.save(review);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        reviewRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Fetching a review should issue a single select.")
+    void getReviewById() {
+        Map<Object, HttpStatus> statusMap = reviewService.getReviewById(new ReviewId(review.getId()));
+        Assertions.assertAll("Get Review Statements",
+                () -> Assertions.assertEquals(statusMap, Collections.singletonMap(review, HttpStatus.OK)),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+
+    @Test
+    @DisplayName("Fetching a missing review should issue a single select.")
+    void getMissingReviewById() {
+        Map<Object, HttpStatus> statusMap = reviewService.getReviewById(new ReviewId(review.getId() + 1));
+        Assertions.assertAll("Get Missing Review Statements",
+                () -> Assertions.assertEquals(statusMap, Collections.singletonMap("The review is not found!", HttpStatus.NOT_FOUND)),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+
+    @Test
+    @DisplayName("Updating a review should issue a single select and a single update.")
+    void updateReviewById() {
+        Review updatedReview = new Review();
+        updatedReview.setTitle("Title 2");
+        updatedReview.setDescription("Description 2");
+        updatedReview.setRating(2.5D);
+        updatedReview.setCompanyId(1L);
+        reviewService.updateReviewById(new ReviewId(review.getId()), updatedReview);
+        Assertions.assertEquals(statistics.getPrepareStatementCount(), 2);
+    }
+
+    @Test
+    @DisplayName("Updating a missing review should issue a single select.")
+    void updateMissingReviewById() {
+        Map<Object, HttpStatus> statusMap = reviewService.updateReviewById(new ReviewId(review.getId() + 1), review);
+        Assertions.assertAll("Update Missing Review Statements",
+                () -> Assertions.assertEquals(statusMap, Collections.singletonMap("The review is not found!", HttpStatus.NOT_FOUND)),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+
+    @Test
+    @DisplayName("Deleting a review should issue a single select and a single delete.")
+    void deleteReviewById() {
+        Map<String, HttpStatus> statusMap = reviewService.deleteReviewById(new ReviewId(review.getId()));
+        Assertions.assertAll("Delete Review Statements",
+                () -> Assertions.assertEquals(statusMap, Collections.singletonMap("The review is deleted successfully!", HttpStatus.OK)),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 2));
+    }
+
+    @Test
+    @DisplayName("Deleting a missing review should issue a single select.")
+    void deleteMissingReviewById() {
+        Map<String, HttpStatus> statusMap = reviewService.deleteReviewById(new ReviewId(review.getId() + 1));
+        Assertions.assertAll("Delete Missing Review Statements",
+                () -> Assertions.assertEquals(statusMap, Collections.singletonMap("The review is not found!", HttpStatus.NOT_FOUND)),
+                () -> Assertions.assertEquals(statistics.getPrepareStatementCount(), 1));
+    }
+}
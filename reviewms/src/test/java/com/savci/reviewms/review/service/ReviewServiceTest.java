@@ -1,5 +1,8 @@
 package com.savci.reviewms.review.service;
 
+import com.savci.reviewms.review.config.ReviewProperties;
+import com.savci.reviewms.review.deletion.ChunkedReviewDeleter;
+import com.savci.reviewms.review.dto.ReviewListVersion;
 import com.savci.reviewms.review.entity.CompanyId;
 import com.savci.reviewms.review.entity.Review;
 import com.savci.reviewms.review.entity.ReviewId;
@@ -19,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 
@@ -36,6 +40,10 @@ public class ReviewServiceTest {
     private Validator validator;
     @Mock
     private ReviewMessageProducer reviewMessageProducer;
+    @Spy
+    private ReviewProperties reviewProperties = new ReviewProperties();
+    @Mock
+    private ChunkedReviewDeleter chunkedReviewDeleter;
 
     private Review firstReview;
     private Review secondReview;
@@ -231,6 +239,23 @@ public class ReviewServiceTest {
     }
 
 
+    @Test
+    @DisplayName("The review service should fetch the reviews of the distinct company ids with a single query.")
+    void getAllReviewsByCompanyIds() {
+        Mockito.when(reviewRepository.findByCompanyIdIn(List.of(1L, 2L))).thenReturn(List.of(firstReview, secondReview));
+        List<Review> reviewList = reviewService.getAllReviewsByCompanyIds(Arrays.asList(1L, 2L, 1L, null));
+        Mockito.verify(reviewRepository, Mockito.times(1)).findByCompanyIdIn(List.of(1L, 2L));
+        Assertions.assertEquals(reviewList, List.of(firstReview, secondReview));
+    }
+
+    @Test
+    @DisplayName("The review service should not query the database when no company ids are given.")
+    void getAllReviewsByEmptyCompanyIds() {
+        List<Review> reviewList = reviewService.getAllReviewsByCompanyIds(Collections.emptyList());
+        Mockito.verifyNoInteractions(reviewRepository);
+        Assertions.assertTrue(reviewList.isEmpty());
+    }
+
     @Test
     @DisplayName("The review service should not fetch all reviews by company id in the database and it should throw ConstraintViolationException.")
     void getAllReviewsByCompanyIdConstraintViolation() {
@@ -239,6 +264,25 @@ public class ReviewServiceTest {
                 () -> reviewService.getAllReviews(nullCompanyId));
     }
 
+    @Test
+    @DisplayName("The review service should fetch the aggregated version of the reviews of the company without loading the reviews.")
+    void getAllReviewsVersion() {
+        Mockito.when(validator.validate(Mockito.any(CompanyId.class))).thenReturn(Collections.emptySet());
+        Mockito.when(reviewRepository.findListVersionByCompanyId(companyId.getId())).thenReturn(new ReviewListVersion(2L, 3L, 1L));
+        ReviewListVersion reviewListVersion = reviewService.getAllReviewsVersion(companyId);
+        Mockito.verify(reviewRepository, Mockito.never()).findByCompanyId(Mockito.anyLong());
+        Assertions.assertEquals(reviewListVersion.toETag(), "\"2-3-1\"");
+    }
+
+    @Test
+    @DisplayName("The review service should not fetch the version of the reviews by company id in the database and it should throw ConstraintViolationException.")
+    void getAllReviewsVersionConstraintViolation() {
+        Mockito.when(validator.validate(Mockito.any(CompanyId.class))).thenReturn(companyIdConstraintViolations);
+        Assertions.assertThrows(ConstraintViolationException.class,
+                () -> reviewService.getAllReviewsVersion(nullCompanyId));
+        Mockito.verifyNoInteractions(reviewRepository);
+    }
+
     @Test
     @DisplayName("The review service should not fetch all reviews by company id in the database and it should throw ConstraintViolationException.")
     void getAllReviewsByIdConstraintViolation() {
@@ -260,7 +304,7 @@ public class ReviewServiceTest {
     @DisplayName("The review service should not get the specific review by id in the database because of the invalid id and it should return failed message with 400 status code.")
     void getReviewByIdIdDoesntExist() {
         Mockito.when(validator.validate(Mockito.any(ReviewId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(reviewRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.FALSE);
+        Mockito.when(reviewRepository.findById(Mockito.anyLong())).thenReturn(Optional.empty());
         Map<?, HttpStatus> statusMap = reviewService.getReviewById(outOfBoundsReviewId);
         Assertions.assertEquals(statusMap, Collections.singletonMap("The review is not found!", HttpStatus.NOT_FOUND));
     }
@@ -269,7 +313,6 @@ public class ReviewServiceTest {
     @DisplayName("The review service should get the specific review by id in the database and it should return success message with 200 status code.")
     void getReviewbById() {
         Mockito.when(validator.validate(Mockito.any(ReviewId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(reviewRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.TRUE);
         Mockito.when(reviewRepository.findById(Mockito.anyLong())).thenAnswer(invocationOnMock -> (Long) invocationOnMock.getArgument(0) == 1L ? Optional.of(firstReview) : Optional.empty());
         Map<?, HttpStatus> statusMap = reviewService.getReviewById(reviewId);
         Assertions.assertEquals(statusMap, Collections.singletonMap(firstReview, HttpStatus.OK));
@@ -287,7 +330,7 @@ public class ReviewServiceTest {
     @DisplayName("The review service should not update the specific review by id in the database because of the invalid id and it should return failed message with 400 status code.")
     void updateReviewByIdIdDoesntExist() {
         Mockito.when(validator.validate(Mockito.any(ReviewId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(reviewRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.FALSE);
+        Mockito.when(reviewRepository.findById(Mockito.anyLong())).thenReturn(Optional.empty());
         Map<?, HttpStatus> statusMap = reviewService.updateReviewById(outOfBoundsReviewId, firstReview);
         Assertions.assertEquals(statusMap, Collections.singletonMap("The review is not found!", HttpStatus.NOT_FOUND));
     }
@@ -304,7 +347,6 @@ public class ReviewServiceTest {
     @DisplayName("The review service should update the specific review by id in the database and it should return success message with 200 status code.")
     void updateReviewById() {
         Mockito.when(validator.validate(Mockito.any(ReviewId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(reviewRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.TRUE);
         Mockito.when(reviewRepository.findById(Mockito.anyLong())).thenAnswer(invocationOnMock -> (Long) invocationOnMock.getArgument(0) == 1L ? Optional.of(firstReview) : Optional.empty());
         Mockito.doNothing().when(reviewMessageProducer).sendMessage(firstReview);
         Map<?, HttpStatus> statusMap = reviewService.updateReviewById(reviewId, secondReview);
@@ -312,6 +354,37 @@ public class ReviewServiceTest {
         Assertions.assertEquals(statusMap, Collections.singletonMap(secondReview, HttpStatus.OK));
     }
 
+    @Test
+    @DisplayName("The review service should delete the reviews of the company chunk by chunk in the chunked deletion mode.")
+    void deleteReviewByCompanyIdChunked() {
+        reviewProperties.getReviewDelete().setChunkSize(2);
+        Mockito.when(validator.validate(Mockito.any(CompanyId.class))).thenReturn(Collections.emptySet());
+        Mockito.when(chunkedReviewDeleter.deleteNextChunk(1L, 2)).thenReturn(true, true, false);
+        reviewService.deleteReviewByCompanyId(1L);
+        Mockito.verify(chunkedReviewDeleter, Mockito.times(1)).begin(1L);
+        Mockito.verify(chunkedReviewDeleter, Mockito.times(3)).deleteNextChunk(1L, 2);
+        Mockito.verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    @DisplayName("The review service should delete the reviews of the company with a single statement when the chunked deletion mode is disabled.")
+    void deleteReviewByCompanyId() {
+        reviewProperties.getReviewDelete().setChunked(false);
+        Mockito.when(validator.validate(Mockito.any(CompanyId.class))).thenReturn(Collections.emptySet());
+        reviewService.deleteReviewByCompanyId(1L);
+        Mockito.verify(reviewRepository, Mockito.times(1)).deleteByCompanyId(1L);
+        Mockito.verifyNoInteractions(chunkedReviewDeleter);
+    }
+
+    @Test
+    @DisplayName("The review service should not delete the reviews of the company with an invalid company id and it should throw ConstraintViolationException.")
+    void deleteReviewByCompanyIdConstraintViolation() {
+        Mockito.when(validator.validate(Mockito.any(CompanyId.class))).thenReturn(companyIdConstraintViolations);
+        Assertions.assertThrows(ConstraintViolationException.class,
+                () -> reviewService.deleteReviewByCompanyId(-2L));
+        Mockito.verifyNoInteractions(reviewRepository, chunkedReviewDeleter);
+    }
+
     @Test
     @DisplayName("The review service should not delete the specific review by id in the database and it should throw ConstraintViolationException.")
     void deleteReviewByIdConstraintViolation() {
@@ -324,8 +397,9 @@ public class ReviewServiceTest {
     @DisplayName("The review service should not delete the specific review by id in the database because of the invalid id and it should return failed message with 400 status code.")
     void deleteReviewByIdIdDoesntExist() {
         Mockito.when(validator.validate(Mockito.any(ReviewId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(reviewRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.FALSE);
+        Mockito.when(reviewRepository.findById(Mockito.anyLong())).thenReturn(Optional.empty());
         Map<?, HttpStatus> statusMap = reviewService.deleteReviewById(outOfBoundsReviewId);
+        Mockito.verifyNoInteractions(reviewMessageProducer);
         Assertions.assertEquals(statusMap, Collections.singletonMap("The review is not found!", HttpStatus.NOT_FOUND));
     }
 
@@ -333,10 +407,11 @@ public class ReviewServiceTest {
     @DisplayName("The review service should delete the specific review by id in the database and it should return success message with 200 status code.")
     void deleteJobById() {
         Mockito.when(validator.validate(Mockito.any(ReviewId.class))).thenReturn(Collections.emptySet());
-        Mockito.when(reviewRepository.existsById(Mockito.anyLong())).thenReturn(Boolean.TRUE);
-        Mockito.doNothing().when(reviewRepository).deleteById(reviewId.getId());
+        Mockito.when(reviewRepository.findById(reviewId.getId())).thenReturn(Optional.of(firstReview));
+        Mockito.doNothing().when(reviewRepository).delete(firstReview);
         Map<?, HttpStatus> statusMap = reviewService.deleteReviewById(reviewId);
-        Mockito.verify(reviewRepository, Mockito.times(1)).deleteById(reviewId.getId());
+        Mockito.verify(reviewRepository, Mockito.times(1)).delete(firstReview);
+        Mockito.verify(reviewMessageProducer, Mockito.times(1)).sendMessage(firstReview);
         Assertions.assertEquals(statusMap, Collections.singletonMap("The review is deleted successfully!", HttpStatus.OK));
     }
 }
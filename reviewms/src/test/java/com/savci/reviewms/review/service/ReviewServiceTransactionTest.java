@@ -0,0 +1,96 @@
+package com.savci.reviewms.review.service;
+
+import com.savci.reviewms.review.config.ReviewProperties;
+import com.savci.reviewms.review.deletion.ChunkedReviewDeleter;
+import com.savci.reviewms.review.entity.Review;
+import com.savci.reviewms.review.entity.ReviewId;
+import com.savci.reviewms.review.messaging.ReviewMessageProducer;
+import com.savci.reviewms.review.repository.ReviewRepository;
+import com.savci.reviewms.review.service.impl.ReviewServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({ReviewServiceImpl.class, ReviewProperties.class, ChunkedReviewDeleter.class})
+@DisplayName("It should publish the review messages only once the transaction commits.")
+public class ReviewServiceTransactionTest {
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @MockBean
+    private ReviewMessageProducer reviewMessageProducer;
+
+    private TransactionTemplate transactionTemplate;
+    private Review review;
+    private Review updatedReview;
+
+    @BeforeEach
+    @DisplayName("Setting up the data for test cases.")
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        review = new Review();
+        review.setTitle("Title 1");
+        review.setDescription("Description 1");
+        review.setRating(3.5D);
+        review.setCompanyId(1L);
+        reviewRepository.save(review);
+        updatedReview = new Review();
+        updatedReview.setTitle("Title 2");
+        updatedReview.setDescription("Description 2");
+        updatedReview.setRating(4.5D);
+        updatedReview.setCompanyId(1L);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        reviewRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Updating a review should publish the change message after the commit.")
+    void updateReviewByIdPublishesAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            reviewService.updateReviewById(new ReviewId(review.getId()), updatedReview);
+            Mockito.verifyNoInteractions(reviewMessageProducer);
+        });
+        Mockito.verify(reviewMessageProducer, Mockito.times(1)).sendMessage(Mockito.any(Review.class));
+    }
+
+    @Test
+    @DisplayName("Updating a review in a transaction which is rolled back should not publish any message.")
+    void updateReviewByIdRolledBack() {
+        transactionTemplate.executeWithoutResult(status -> {
+            reviewService.updateReviewById(new ReviewId(review.getId()), updatedReview);
+            status.setRollbackOnly();
+        });
+        Mockito.verifyNoInteractions(reviewMessageProducer);
+    }
+
+    @Test
+    @DisplayName("Deleting a review in a transaction which is rolled back should not publish any message.")
+    void deleteReviewByIdRolledBack() {
+        transactionTemplate.executeWithoutResult(status -> {
+            reviewService.deleteReviewById(new ReviewId(review.getId()));
+            status.setRollbackOnly();
+        });
+        Mockito.verifyNoInteractions(reviewMessageProducer);
+    }
+}